@@ -291,7 +291,7 @@ public class LibraryTab extends Tab {
     }
 
     public void createIndexManager() {
-        indexManager = new IndexManager(bibDatabaseContext, taskExecutor, preferences, Injector.instantiateModelOrService(PostgreServer.class));
+        indexManager = new IndexManager(bibDatabaseContext, taskExecutor, preferences, Injector.instantiateModelOrService(PostgreServer.class), preferences.getSearchPreferences().getSearchBackend());
         stateManager.setIndexManager(bibDatabaseContext, indexManager);
     }
 
@@ -1,6 +1,7 @@
 package org.jabref.gui.autocompleter;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.jabref.logic.bibtex.comparator.EntryComparator;
@@ -18,9 +19,11 @@ import org.controlsfx.control.textfield.AutoCompletionBinding;
 public class BibEntrySuggestionProvider extends SuggestionProvider<BibEntry> {
 
     private final BibDatabase database;
+    private final SuggestionIndex<String> citationKeyIndex;
 
     public BibEntrySuggestionProvider(BibDatabase database) {
         this.database = database;
+        this.citationKeyIndex = new SuggestionIndex<>(database, List.of(InternalField.KEY_FIELD), Stream::of, key -> key);
     }
 
     @Override
@@ -45,4 +48,10 @@ public class BibEntrySuggestionProvider extends SuggestionProvider<BibEntry> {
     public Stream<BibEntry> getSource() {
         return database.getEntries().parallelStream();
     }
+
+    @Override
+    protected Stream<BibEntry> getCandidates(String userText) {
+        return citationKeyIndex.getCandidates(userText).stream()
+                               .flatMap(key -> database.getEntriesByCitationKey(key).stream());
+    }
 }
@@ -1,5 +1,6 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -11,16 +12,19 @@ import org.jabref.model.entry.field.Field;
  */
 class FieldValueSuggestionProvider extends StringSuggestionProvider {
 
-    private final Field field;
-    private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     FieldValueSuggestionProvider(Field field, BibDatabase database) {
-        this.field = Objects.requireNonNull(field);
-        this.database = database;
+        this.index = new SuggestionIndex<>(database, List.of(Objects.requireNonNull(field)), Stream::of, value -> value);
     }
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries().parallelStream().flatMap(entry -> entry.getField(field).stream());
+        return index.getSuggestions().stream();
+    }
+
+    @Override
+    protected Stream<String> getCandidates(String userText) {
+        return index.getCandidates(userText).stream();
     }
 }
@@ -22,4 +22,9 @@ public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
     public Stream<String> getSource() {
         return Streams.concat(super.getSource(), repository.getFullNames().stream());
     }
+
+    @Override
+    protected Stream<String> getCandidates(String userText) {
+        return Streams.concat(super.getCandidates(userText), repository.getFullNames().stream());
+    }
 }
@@ -23,7 +23,7 @@ import org.controlsfx.control.textfield.AutoCompletionBinding;
 public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
     private final Collection<Field> fields;
-    private final BibDatabase database;
+    private final SuggestionIndex<Author> index;
 
     PersonNameSuggestionProvider(Field field, BibDatabase database) {
         this(List.of(Objects.requireNonNull(field)), database);
@@ -33,7 +33,7 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         super();
 
         this.fields = Objects.requireNonNull(fields);
-        this.database = database;
+        this.index = new SuggestionIndex<>(database, fields, value -> AuthorList.parse(value).getAuthors().stream(), author -> author.getFamilyGiven(false));
     }
 
     public Stream<Author> getAuthors(BibEntry entry) {
@@ -63,8 +63,11 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
     @Override
     public Stream<Author> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(this::getAuthors);
+        return index.getSuggestions().stream();
+    }
+
+    @Override
+    protected Stream<Author> getCandidates(String userText) {
+        return index.getCandidates(userText).stream();
     }
 }
@@ -0,0 +1,154 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps the distinct suggestions derived from some fields of all entries of a library, so that a suggestion request does not need to visit all entries.
+ * <p>
+ * The suggestions are sorted by their lowercase text. Thus, suggestions starting with the text typed are found by a range lookup.
+ * Suggestions containing the text typed elsewhere are found by scanning the distinct suggestions only.
+ * The memory needed is bounded by the number of distinct suggestions, as each suggestion is kept once together with the number of its occurrences.
+ * <p>
+ * The index is built on first use. Afterward, it is kept up to date by listening to the changes of the library.
+ */
+class SuggestionIndex<T> {
+
+    /**
+     * The maximum number of candidates returned for one request. The suggestion providers show fewer suggestions, but drop some equivalent candidates.
+     */
+    private static final int MAX_CANDIDATES = 100;
+
+    private final BibDatabase database;
+    private final Collection<Field> fields;
+    private final Function<String, Stream<T>> suggestionsOfFieldValue;
+    private final Function<T, String> textOfSuggestion;
+
+    // Lowercase text to the suggestions having this text, each with the number of its occurrences
+    private NavigableMap<String, Map<T, Integer>> suggestions;
+
+    /**
+     * @param suggestionsOfFieldValue derives the suggestions of one value of one of the fields
+     * @param textOfSuggestion        the text the user input is matched against
+     */
+    SuggestionIndex(BibDatabase database, Collection<Field> fields, Function<String, Stream<T>> suggestionsOfFieldValue, Function<T, String> textOfSuggestion) {
+        this.database = Objects.requireNonNull(database);
+        this.fields = Objects.requireNonNull(fields);
+        this.suggestionsOfFieldValue = suggestionsOfFieldValue;
+        this.textOfSuggestion = textOfSuggestion;
+    }
+
+    /**
+     * Returns the suggestions containing the given text (ignoring case). Suggestions starting with the text come first.
+     */
+    synchronized List<T> getCandidates(String userText) {
+        ensureBuilt();
+        String text = userText.toLowerCase(Locale.ROOT);
+        List<T> candidates = new ArrayList<>();
+        for (Map<T, Integer> prefixMatches : suggestions.subMap(text, true, text + Character.MAX_VALUE, false).values()) {
+            candidates.addAll(prefixMatches.keySet());
+            if (candidates.size() >= MAX_CANDIDATES) {
+                return candidates;
+            }
+        }
+        for (Map.Entry<String, Map<T, Integer>> suggestion : suggestions.entrySet()) {
+            if (!suggestion.getKey().startsWith(text) && suggestion.getKey().contains(text)) {
+                candidates.addAll(suggestion.getValue().keySet());
+                if (candidates.size() >= MAX_CANDIDATES) {
+                    break;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns all distinct suggestions
+     */
+    synchronized List<T> getSuggestions() {
+        ensureBuilt();
+        return suggestions.values().stream()
+                          .flatMap(suggestionsForText -> suggestionsForText.keySet().stream())
+                          .toList();
+    }
+
+    private void ensureBuilt() {
+        if (suggestions != null) {
+            return;
+        }
+        suggestions = new TreeMap<>();
+        database.getEntries().forEach(entry -> update(entry, 1));
+        database.registerListener(this);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        if (suggestions != null) {
+            event.getBibEntries().forEach(entry -> update(entry, 1));
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        if (suggestions != null) {
+            event.getBibEntries().forEach(entry -> update(entry, -1));
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        if ((suggestions == null) || !fields.contains(event.getField())) {
+            return;
+        }
+        // Changes of entries removed from the library are relayed as well
+        BibEntry entry = event.getBibEntry();
+        if (database.getEntryById(entry.getId()) != entry) {
+            return;
+        }
+        update(event.getOldValue(), -1);
+        update(event.getNewValue(), 1);
+    }
+
+    private void update(BibEntry entry, int delta) {
+        for (Field field : fields) {
+            entry.getField(field).ifPresent(value -> update(value, delta));
+        }
+    }
+
+    private void update(String fieldValue, int delta) {
+        if (fieldValue == null) {
+            return;
+        }
+        suggestionsOfFieldValue.apply(fieldValue).forEach(suggestion -> {
+            String text = textOfSuggestion.apply(suggestion).toLowerCase(Locale.ROOT);
+            Map<T, Integer> suggestionsForText = suggestions.computeIfAbsent(text, _ -> new HashMap<>());
+            int occurrences = suggestionsForText.getOrDefault(suggestion, 0) + delta;
+            if (occurrences > 0) {
+                suggestionsForText.put(suggestion, occurrences);
+            } else {
+                suggestionsForText.remove(suggestion);
+                if (suggestionsForText.isEmpty()) {
+                    suggestions.remove(text);
+                }
+            }
+        });
+    }
+}
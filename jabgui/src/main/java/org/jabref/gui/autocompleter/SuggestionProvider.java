@@ -46,7 +46,7 @@ public abstract class SuggestionProvider<T> {
         if (!request.getUserText().isEmpty()) {
             Comparator<T> comparator = getComparator();
             Equivalence<T> equivalence = getEquivalence();
-            return getSource().filter(candidate -> isMatch(candidate, request))
+            return getCandidates(request.getUserText()).filter(candidate -> isMatch(candidate, request))
                               .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
                               .distinct()
                               .limit(10)
@@ -81,4 +81,12 @@ public abstract class SuggestionProvider<T> {
     protected abstract boolean isMatch(T candidate, ISuggestionRequest request);
 
     public abstract Stream<T> getSource();
+
+    /**
+     * Returns the candidates for suggestions for the given text. Only the candidates matching the text are suggested.
+     * By default, all suggestions are candidates. Providers keeping an index of their suggestions can narrow the candidates down.
+     */
+    protected Stream<T> getCandidates(String userText) {
+        return getSource();
+    }
 }
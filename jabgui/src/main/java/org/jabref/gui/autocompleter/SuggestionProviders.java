@@ -1,6 +1,8 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
@@ -15,6 +17,9 @@ public class SuggestionProviders {
     private JournalAbbreviationRepository abbreviationRepository;
     private AutoCompletePreferences autoCompletePreferences;
 
+    // The providers keep an index of their suggestions. Thus, they are shared by all editors of a field.
+    private final Map<Field, SuggestionProvider<?>> providers = new ConcurrentHashMap<>();
+
     public SuggestionProviders(BibDatabase database, JournalAbbreviationRepository abbreviationRepository, AutoCompletePreferences autoCompletePreferences) {
         this.database = database;
         this.abbreviationRepository = abbreviationRepository;
@@ -31,6 +36,10 @@ public class SuggestionProviders {
             return new EmptySuggestionProvider();
         }
 
+        return providers.computeIfAbsent(field, this::createForField);
+    }
+
+    private SuggestionProvider<?> createForField(Field field) {
         Set<FieldProperty> fieldProperties = field.getProperties();
         if (fieldProperties.contains(FieldProperty.PERSON_NAMES)) {
             return new PersonNameSuggestionProvider(field, database);
@@ -1,28 +1,34 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
+import org.jabref.model.strings.StringUtil;
 
 /**
  * Stores all words in the given field.
  */
 public class WordSuggestionProvider extends StringSuggestionProvider {
 
-    private final Field field;
-    private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     public WordSuggestionProvider(Field field, BibDatabase database) {
-        this.field = Objects.requireNonNull(field);
-        this.database = database;
+        this.index = new SuggestionIndex<>(database,
+                List.of(Objects.requireNonNull(field)),
+                value -> StringUtil.getStringAsWords(value).stream().distinct(),
+                word -> word);
     }
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(entry -> entry.getFieldAsWords(field).stream());
+        return index.getSuggestions().stream();
+    }
+
+    @Override
+    protected Stream<String> getCandidates(String userText) {
+        return index.getCandidates(userText).stream();
     }
 }
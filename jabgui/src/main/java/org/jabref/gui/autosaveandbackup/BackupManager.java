@@ -1,23 +1,27 @@
 package org.jabref.gui.autosaveandbackup;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import javafx.scene.control.TableColumn;
 
@@ -25,7 +29,6 @@ import org.jabref.gui.LibraryTab;
 import org.jabref.gui.maintable.BibEntryTableViewModel;
 import org.jabref.gui.maintable.columns.MainTableColumn;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
-import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
@@ -51,6 +54,9 @@ import org.slf4j.LoggerFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
  * database.
+ * <p>
+ * The backups are kept in {@link ChunkedBackupStore}, which stores each entry only once. Thus, no complete copy of the library is written for a backup.
+ * Complete backup files written by older versions are still restored and removed.
  */
 public class BackupManager {
 
@@ -69,8 +75,8 @@ public class BackupManager {
     private final BibEntryTypesManager entryTypesManager;
     private final LibraryTab libraryTab;
 
-    // Contains a list of all backup paths
-    // During writing, the less recent backup file is deleted
+    // Contains a list of all backup paths, including the backup files written by older versions
+    // During writing, the less recent backup is deleted
     private final Queue<Path> backupFilesQueue = new LinkedBlockingQueue<>();
     private boolean needsBackup = false;
 
@@ -93,10 +99,21 @@ public class BackupManager {
     }
 
     /**
-     * Determines the most recent existing backup file name
+     * Determines the most recent existing backup, which is either kept in the {@link ChunkedBackupStore} or a backup file written by an older version
      */
-    static Optional<Path> getLatestBackupPath(Path originalPath, Path backupDir) {
-        return BackupFileUtil.getPathOfLatestExistingBackupFile(originalPath, BackupFileType.BACKUP, backupDir);
+    public static Optional<Path> getLatestBackupPath(Path originalPath, Path backupDir) {
+        Optional<Path> latestBackupFile = BackupFileUtil.getPathOfLatestExistingBackupFile(originalPath, BackupFileType.BACKUP, backupDir);
+        List<Path> backups = new ChunkedBackupStore(originalPath, backupDir).getBackups();
+        // The file names end with the time of the backup
+        return Stream.concat(latestBackupFile.stream(), backups.stream())
+                     .max(Comparator.comparing(path -> path.getFileName().toString()));
+    }
+
+    /**
+     * Reads the content of the given backup
+     */
+    public static byte[] readBackup(Path originalPath, Path backupPath, Path backupDir) throws IOException {
+        return new ChunkedBackupStore(originalPath, backupDir).read(backupPath);
     }
 
     /**
@@ -158,10 +175,11 @@ public class BackupManager {
             }
             return false;
         }
+        ChunkedBackupStore backupStore = new ChunkedBackupStore(originalPath, backupDir);
         return getLatestBackupPath(originalPath, backupDir).map(latestBackupPath -> {
             FileTime latestBackupFileLastModifiedTime;
             try {
-                latestBackupFileLastModifiedTime = Files.getLastModifiedTime(latestBackupPath);
+                latestBackupFileLastModifiedTime = backupStore.getLastModifiedTime(latestBackupPath);
             } catch (IOException e) {
                 LOGGER.debug("Could not get timestamp of backup file {}", latestBackupPath, e);
                 // If we cannot get the timestamp, we do show any warning
@@ -181,7 +199,7 @@ public class BackupManager {
                 return false;
             }
             try {
-                boolean result = Files.mismatch(originalPath, latestBackupPath) != -1L;
+                boolean result = backupStore.differs(latestBackupPath, originalPath);
                 if (result) {
                     LOGGER.info("Backup file {} differs from current file {}", latestBackupPath, originalPath);
                 }
@@ -195,9 +213,9 @@ public class BackupManager {
     }
 
     /**
-     * Restores the backup file by copying and overwriting the original one.
+     * Restores the latest backup by overwriting the original file.
      *
-     * @param originalPath Path to the file which should be equalized to the backup file.
+     * @param originalPath Path to the file which should be equalized to the backup.
      */
     public static void restoreBackup(Path originalPath, Path backupDir) {
         Optional<Path> backupPath = getLatestBackupPath(originalPath, backupDir);
@@ -206,7 +224,7 @@ public class BackupManager {
             return;
         }
         try {
-            Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+            Files.write(originalPath, readBackup(originalPath, backupPath.get(), backupDir));
         } catch (IOException e) {
             LOGGER.error("Error while restoring the backup file.", e);
         }
@@ -221,21 +239,28 @@ public class BackupManager {
      *
      * <em>SIDE EFFECT: Deletes oldest backup file</em>
      *
-     * @param backupPath the full path to the file where the library should be backed up to
+     * @param backupPath the full path identifying the backup. No file is written there, the backup is kept in the {@link ChunkedBackupStore}.
      */
     void performBackup(Path backupPath) {
         if (!needsBackup) {
             return;
         }
+        Optional<Path> databasePath = bibDatabaseContext.getDatabasePath();
+        if (databasePath.isEmpty()) {
+            return;
+        }
+
+        ChunkedBackupStore backupStore = new ChunkedBackupStore(databasePath.get(), backupPath.getParent());
 
         // We opted for "while" to delete backups in case there are more than 10
         while (backupFilesQueue.size() >= MAXIMUM_BACKUP_FILE_COUNT) {
             Path oldestBackupFile = backupFilesQueue.poll();
             try {
-                Files.delete(oldestBackupFile);
+                Files.deleteIfExists(oldestBackupFile);
             } catch (IOException e) {
                 LOGGER.error("Could not delete backup file {}", oldestBackupFile, e);
             }
+            backupStore.remove(oldestBackupFile);
         }
 
         // code similar to org.jabref.gui.exporter.SaveDatabaseAction.saveDatabase
@@ -275,11 +300,10 @@ public class BackupManager {
         BibDatabaseContext bibDatabaseContextClone = new BibDatabaseContext(bibDatabaseClone, bibDatabaseContext.getMetaData());
 
         Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
-        // We want to have successful backups only
-        // Thus, we do not use a plain "FileWriter", but the "AtomicFileWriter"
-        // Example: What happens if one hard powers off the machine (or kills the jabref process) during writing of the backup?
-        //          This MUST NOT create a broken backup file that then jabref wants to "restore" from?
-        try (Writer writer = new AtomicFileWriter(backupPath, encoding, false)) {
+        // The library is serialized in memory and only the entries not stored yet are written to disk
+        // ChunkedBackupStore writes the manifest of a backup atomically, thus a crash during writing does not create a broken backup
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(content, encoding)) {
             BibWriter bibWriter = new BibWriter(writer, bibDatabaseContext.getDatabase().getNewLineSeparator());
             new BibtexDatabaseWriter(
                     bibWriter,
@@ -289,14 +313,17 @@ public class BackupManager {
                     entryTypesManager)
                     // we save the clone to prevent the original database (and thus the UI) from being changed
                     .saveDatabase(bibDatabaseContextClone);
-            backupFilesQueue.add(backupPath);
-
-            // We wrote the file successfully
-            // Thus, we currently do not need any new backup
-            this.needsBackup = false;
+            writer.flush();
+            backupStore.add(backupPath, content.toByteArray());
         } catch (IOException e) {
             logIfCritical(backupPath, e);
+            return;
         }
+
+        // We wrote the backup successfully
+        // Thus, we currently do not need any new backup
+        this.needsBackup = false;
+        backupFilesQueue.add(backupPath);
     }
 
     private static Path determineDiscardedFile(Path file, Path backupDir) {
@@ -357,10 +384,12 @@ public class BackupManager {
             // code similar to {@link org.jabref.logic.util.io.BackupFileUtil.getPathOfLatestExisingBackupFile}
             final String prefix = BackupFileUtil.getUniqueFilePrefix(databasePath) + "--" + databasePath.getFileName();
             try {
-                List<Path> allSavFiles = Files.list(backupDir)
-                                              // just list the .sav belonging to the given targetFile
-                                              .filter(p -> p.getFileName().toString().startsWith(prefix))
-                                              .sorted().toList();
+                // The backup files written by older versions are older than the backups in the history
+                Set<Path> allSavFiles = new TreeSet<>(new ChunkedBackupStore(databasePath, backupDir).getBackups());
+                Files.list(backupDir)
+                     // just list the .sav belonging to the given targetFile
+                     .filter(p -> p.getFileName().toString().startsWith(prefix))
+                     .forEach(allSavFiles::add);
                 backupFilesQueue.addAll(allSavFiles);
             } catch (IOException e) {
                 LOGGER.error("Could not determine most recent file", e);
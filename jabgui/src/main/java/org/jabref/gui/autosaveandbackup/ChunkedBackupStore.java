@@ -0,0 +1,424 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.util.io.BackupFileUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the backups of a library as deduplicated, compressed chunks.
+ * <p>
+ * When a backup is added, its content is split in front of each line starting with <code>@</code>, thus mostly one chunk per entry.
+ * The chunks not stored yet are appended to a pack file, compressed in case that saves space, and a manifest lists the chunks of the backup.
+ * Thus, no complete copy of the library is written for a backup. A backup is identified by the path of the backup file, which older versions wrote as complete copy.
+ * Such backup files are still read and compared if they exist.
+ * <p>
+ * The history is kept in its own directory. Neither the directory nor its files start with the prefix of the backup files, thus they are never taken for backup files.
+ * The chunks are written to the pack before the manifest is written atomically. Thus, a crash while adding a backup does not affect the existing history.
+ */
+public class ChunkedBackupStore {
+
+    static final String MANIFEST_HEADER = "% JabRef backup manifest 1";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedBackupStore.class);
+
+    private static final String HISTORY_DIRECTORY = "history";
+    private static final String MANIFEST_EXTENSION = ".manifest";
+    private static final String PACK_EXTENSION = ".pack";
+
+    // The packs are rewritten as soon as more than half of their content is no longer referenced
+    private static final int COMPACTION_RATIO = 2;
+
+    private final Path backupDir;
+    private final Path storeDirectory;
+
+    public ChunkedBackupStore(Path originalPath, Path backupDir) {
+        this.backupDir = backupDir;
+        this.storeDirectory = backupDir.resolve(HISTORY_DIRECTORY).resolve(BackupFileUtil.getUniqueFilePrefix(originalPath) + "--" + originalPath.getFileName());
+    }
+
+    /**
+     * @param hash         the SHA-256 hash of the chunk, hex encoded
+     * @param length       the uncompressed length of the chunk
+     * @param pack         the number of the pack containing the chunk
+     * @param offset       the position of the chunk in the pack
+     * @param storedLength the length of the chunk in the pack. The chunk is compressed if this is less than its length.
+     */
+    private record ChunkLocation(String hash, int length, int pack, long offset, int storedLength) {
+    }
+
+    @FunctionalInterface
+    interface ChunkConsumer {
+        void accept(byte[] chunk) throws IOException;
+    }
+
+    /**
+     * Adds a backup with the given content to the history
+     *
+     * @param backupPath the path identifying the backup. No file is written there.
+     */
+    public synchronized void add(Path backupPath, byte[] content) throws IOException {
+        Files.createDirectories(storeDirectory);
+        Map<String, ChunkLocation> storedChunks = new HashMap<>();
+        for (List<ChunkLocation> locations : readManifests().values()) {
+            locations.forEach(location -> storedChunks.put(location.hash(), location));
+        }
+
+        int pack = getPacks().stream().max(Integer::compare).orElse(0);
+        List<ChunkLocation> locations = new ArrayList<>();
+        try (FileChannel packChannel = FileChannel.open(getPackPath(pack), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+             InputStream inputStream = new ByteArrayInputStream(content)) {
+            long[] packSize = {packChannel.size()};
+            split(inputStream, chunk -> {
+                String hash = hash(chunk);
+                ChunkLocation location = storedChunks.get(hash);
+                if (location == null) {
+                    byte[] storedChunk = compress(chunk);
+                    location = new ChunkLocation(hash, chunk.length, pack, packSize[0], storedChunk.length);
+                    writeFully(packChannel, storedChunk);
+                    packSize[0] += storedChunk.length;
+                    storedChunks.put(hash, location);
+                }
+                locations.add(location);
+            });
+            // The manifest must not reference chunks lost on a crash
+            packChannel.force(false);
+        }
+        writeManifest(getManifestPath(backupPath), locations);
+    }
+
+    /**
+     * Checks whether the given backup can be restored from the history
+     */
+    public boolean contains(Path backupPath) {
+        return Files.exists(getManifestPath(backupPath));
+    }
+
+    /**
+     * Returns the time the given backup was written
+     */
+    public FileTime getLastModifiedTime(Path backupPath) throws IOException {
+        if (Files.exists(backupPath)) {
+            return Files.getLastModifiedTime(backupPath);
+        }
+        return Files.getLastModifiedTime(getManifestPath(backupPath));
+    }
+
+    /**
+     * Checks whether the content of the given file differs from the given backup.
+     * The file is compared with the hashes of the chunks listed by the manifest, thus the backup itself is not read.
+     */
+    public synchronized boolean differs(Path backupPath, Path file) throws IOException {
+        if (Files.exists(backupPath)) {
+            return Files.mismatch(backupPath, file) != -1L;
+        }
+
+        List<ChunkLocation> locations = readManifest(getManifestPath(backupPath));
+        long backupSize = locations.stream().mapToLong(ChunkLocation::length).sum();
+        if (Files.size(file) != backupSize) {
+            return true;
+        }
+        List<String> fileHashes = new ArrayList<>(locations.size());
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file))) {
+            split(inputStream, chunk -> fileHashes.add(hash(chunk)));
+        }
+        return !fileHashes.equals(locations.stream().map(ChunkLocation::hash).toList());
+    }
+
+    /**
+     * Returns the backups contained in the history, oldest first. There are no backup files for them.
+     */
+    public List<Path> getBackups() {
+        if (!Files.isDirectory(storeDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(storeDirectory)) {
+            return files.map(file -> file.getFileName().toString())
+                        .filter(fileName -> fileName.endsWith(MANIFEST_EXTENSION))
+                        .map(fileName -> backupDir.resolve(fileName.substring(0, fileName.length() - MANIFEST_EXTENSION.length())))
+                        .sorted()
+                        .toList();
+        } catch (IOException e) {
+            LOGGER.warn("Could not list backup history in {}", storeDirectory, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Reads the content of the given backup. A backup file written by an older version is read directly, otherwise the content is restored from the history.
+     */
+    public synchronized byte[] read(Path backupPath) throws IOException {
+        if (Files.exists(backupPath)) {
+            return Files.readAllBytes(backupPath);
+        }
+
+        List<ChunkLocation> locations = readManifest(getManifestPath(backupPath));
+        Map<Integer, FileChannel> packChannels = new HashMap<>();
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            for (ChunkLocation location : locations) {
+                FileChannel packChannel = packChannels.get(location.pack());
+                if (packChannel == null) {
+                    packChannel = FileChannel.open(getPackPath(location.pack()), StandardOpenOption.READ);
+                    packChannels.put(location.pack(), packChannel);
+                }
+                content.write(readChunk(packChannel, location));
+            }
+            return content.toByteArray();
+        } finally {
+            for (FileChannel packChannel : packChannels.values()) {
+                packChannel.close();
+            }
+        }
+    }
+
+    /**
+     * Removes the given backup from the history. Packs mostly containing chunks of removed backups are rewritten.
+     */
+    public synchronized void remove(Path backupPath) {
+        try {
+            Files.deleteIfExists(getManifestPath(backupPath));
+        } catch (IOException e) {
+            LOGGER.warn("Could not remove backup {} from the history", backupPath, e);
+            return;
+        }
+
+        try {
+            collectGarbage();
+        } catch (IOException e) {
+            LOGGER.warn("Could not remove unreferenced chunks of the backup history in {}", storeDirectory, e);
+        }
+    }
+
+    /**
+     * Splits the content in front of each line starting with <code>@</code>. The concatenation of the chunks is the content.
+     */
+    static void split(InputStream inputStream, ChunkConsumer consumer) throws IOException {
+        ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+        int previous = -1;
+        int current;
+        while ((current = inputStream.read()) != -1) {
+            if ((current == '@') && (previous == '\n')) {
+                consumer.accept(chunk.toByteArray());
+                chunk.reset();
+            }
+            chunk.write(current);
+            previous = current;
+        }
+        if (chunk.size() > 0) {
+            consumer.accept(chunk.toByteArray());
+        }
+    }
+
+    private void collectGarbage() throws IOException {
+        Map<Path, List<ChunkLocation>> manifests = readManifests();
+        Map<Integer, Long> referencedBytes = new HashMap<>();
+        Set<ChunkLocation> referencedChunks = new HashSet<>();
+        manifests.values().forEach(referencedChunks::addAll);
+        for (ChunkLocation location : referencedChunks) {
+            referencedBytes.merge(location.pack(), (long) location.storedLength(), Long::sum);
+        }
+
+        long packedBytes = 0;
+        for (int pack : getPacks()) {
+            if (!referencedBytes.containsKey(pack)) {
+                Files.delete(getPackPath(pack));
+            } else {
+                packedBytes += Files.size(getPackPath(pack));
+            }
+        }
+        long liveBytes = referencedBytes.values().stream().mapToLong(Long::longValue).sum();
+        if (packedBytes > COMPACTION_RATIO * liveBytes) {
+            compact(manifests, referencedBytes.keySet());
+        }
+    }
+
+    /**
+     * Copies the referenced chunks to a new pack and removes the old packs
+     */
+    private void compact(Map<Path, List<ChunkLocation>> manifests, Set<Integer> oldPacks) throws IOException {
+        int newPack = oldPacks.stream().max(Integer::compare).orElse(0) + 1;
+        Map<String, ChunkLocation> newLocations = new HashMap<>();
+        Map<Integer, FileChannel> oldPackChannels = new HashMap<>();
+        try (FileChannel newPackChannel = FileChannel.open(getPackPath(newPack), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long offset = 0;
+            for (List<ChunkLocation> locations : manifests.values()) {
+                for (ChunkLocation location : locations) {
+                    if (newLocations.containsKey(location.hash())) {
+                        continue;
+                    }
+                    FileChannel oldPackChannel = oldPackChannels.get(location.pack());
+                    if (oldPackChannel == null) {
+                        oldPackChannel = FileChannel.open(getPackPath(location.pack()), StandardOpenOption.READ);
+                        oldPackChannels.put(location.pack(), oldPackChannel);
+                    }
+                    writeFully(newPackChannel, readStoredChunk(oldPackChannel, location));
+                    newLocations.put(location.hash(), new ChunkLocation(location.hash(), location.length(), newPack, offset, location.storedLength()));
+                    offset += location.storedLength();
+                }
+            }
+            newPackChannel.force(false);
+        } finally {
+            for (FileChannel oldPackChannel : oldPackChannels.values()) {
+                oldPackChannel.close();
+            }
+        }
+
+        // The old packs are kept until all manifests reference the new pack
+        for (Map.Entry<Path, List<ChunkLocation>> manifest : manifests.entrySet()) {
+            writeManifest(manifest.getKey(), manifest.getValue().stream().map(location -> newLocations.get(location.hash())).toList());
+        }
+        for (int oldPack : oldPacks) {
+            Files.delete(getPackPath(oldPack));
+        }
+    }
+
+    private Map<Path, List<ChunkLocation>> readManifests() throws IOException {
+        Map<Path, List<ChunkLocation>> manifests = new HashMap<>();
+        try (Stream<Path> files = Files.list(storeDirectory)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().endsWith(MANIFEST_EXTENSION)).toList()) {
+                manifests.put(file, readManifest(file));
+            }
+        }
+        return manifests;
+    }
+
+    private List<Integer> getPacks() throws IOException {
+        try (Stream<Path> files = Files.list(storeDirectory)) {
+            return files.map(file -> file.getFileName().toString())
+                        .filter(fileName -> fileName.endsWith(PACK_EXTENSION))
+                        .flatMap(fileName -> parsePackNumber(fileName).stream())
+                        .toList();
+        }
+    }
+
+    private static Optional<Integer> parsePackNumber(String fileName) {
+        try {
+            return Optional.of(Integer.parseInt(fileName.substring(0, fileName.length() - PACK_EXTENSION.length())));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Path getPackPath(int pack) {
+        return storeDirectory.resolve(pack + PACK_EXTENSION);
+    }
+
+    private Path getManifestPath(Path backupPath) {
+        return storeDirectory.resolve(backupPath.getFileName() + MANIFEST_EXTENSION);
+    }
+
+    private static void writeManifest(Path manifestPath, List<ChunkLocation> locations) throws IOException {
+        try (Writer writer = new AtomicFileWriter(manifestPath, StandardCharsets.UTF_8, false)) {
+            writer.write(MANIFEST_HEADER);
+            writer.write("\n");
+            for (ChunkLocation location : locations) {
+                writer.write(location.hash() + " " + location.length() + " " + location.pack() + " " + location.offset() + " " + location.storedLength() + "\n");
+            }
+        }
+    }
+
+    private static List<ChunkLocation> readManifest(Path manifestPath) throws IOException {
+        List<String> lines = Files.readAllLines(manifestPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !MANIFEST_HEADER.equals(lines.getFirst())) {
+            throw new IOException("Invalid backup manifest " + manifestPath);
+        }
+
+        List<ChunkLocation> locations = new ArrayList<>(lines.size() - 1);
+        for (String line : lines.subList(1, lines.size())) {
+            String[] parts = line.split(" ");
+            if (parts.length != 5) {
+                throw new IOException("Invalid line in backup manifest " + manifestPath + ": " + line);
+            }
+            try {
+                locations.add(new ChunkLocation(parts[0], Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), Long.parseLong(parts[3]), Integer.parseInt(parts[4])));
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid line in backup manifest " + manifestPath + ": " + line, e);
+            }
+        }
+        return locations;
+    }
+
+    private static byte[] readChunk(FileChannel packChannel, ChunkLocation location) throws IOException {
+        byte[] storedChunk = readStoredChunk(packChannel, location);
+        byte[] chunk;
+        if (location.storedLength() < location.length()) {
+            try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(storedChunk))) {
+                chunk = inputStream.readAllBytes();
+            }
+        } else {
+            chunk = storedChunk;
+        }
+        if ((chunk.length != location.length()) || !hash(chunk).equals(location.hash())) {
+            throw new IOException("Backup chunk " + location.hash() + " is corrupted");
+        }
+        return chunk;
+    }
+
+    private static byte[] readStoredChunk(FileChannel packChannel, ChunkLocation location) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(location.storedLength());
+        long position = location.offset();
+        while (buffer.hasRemaining()) {
+            if (packChannel.read(buffer, position) == -1) {
+                throw new IOException("Backup chunk " + location.hash() + " is missing");
+            }
+            position = location.offset() + buffer.position();
+        }
+        return buffer.array();
+    }
+
+    private static void writeFully(FileChannel channel, byte[] content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Returns the compressed chunk in case that is smaller, otherwise the chunk itself
+     */
+    private static byte[] compress(byte[] chunk) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream outputStream = new GZIPOutputStream(compressed)) {
+            outputStream.write(chunk);
+        }
+        return compressed.size() < chunk.length ? compressed.toByteArray() : chunk;
+    }
+
+    private static String hash(byte[] chunk) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(chunk));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
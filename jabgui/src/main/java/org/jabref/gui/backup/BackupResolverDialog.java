@@ -1,6 +1,7 @@
 package org.jabref.gui.backup;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 
@@ -9,11 +10,10 @@ import javafx.scene.control.ButtonType;
 import javafx.scene.control.Hyperlink;
 
 import org.jabref.gui.FXDialog;
+import org.jabref.gui.autosaveandbackup.BackupManager;
 import org.jabref.gui.desktop.os.NativeDesktop;
 import org.jabref.gui.frame.ExternalApplicationsPreferences;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.util.BackupFileType;
-import org.jabref.logic.util.io.BackupFileUtil;
 
 import org.controlsfx.control.HyperlinkLabel;
 import org.slf4j.Logger;
@@ -32,7 +32,7 @@ public class BackupResolverDialog extends FXDialog {
         getDialogPane().setMinHeight(180);
         getDialogPane().getButtonTypes().setAll(RESTORE_FROM_BACKUP, REVIEW_BACKUP, IGNORE_BACKUP);
 
-        Optional<Path> backupPathOpt = BackupFileUtil.getPathOfLatestExistingBackupFile(originalPath, BackupFileType.BACKUP, backupDir);
+        Optional<Path> backupPathOpt = BackupManager.getLatestBackupPath(originalPath, backupDir);
         String backupFilename = backupPathOpt.map(Path::getFileName).map(Path::toString).orElse(Localization.lang("File not found"));
         String content = Localization.lang("A backup file for '%0' was found at [%1]", originalPath.getFileName().toString(), backupFilename) + "\n" +
                 Localization.lang("This could indicate that JabRef did not shut down cleanly last time the file was used.") + "\n\n" +
@@ -49,7 +49,12 @@ public class BackupResolverDialog extends FXDialog {
                 String clickedLinkText = ((Hyperlink) (e.getSource())).getText();
                 if (backupFilename.equals(clickedLinkText)) {
                     try {
-                        NativeDesktop.openFolderAndSelectFile(backupPathOpt.get(), externalApplicationsPreferences, null);
+                        // Backups kept in the chunked backup store have no file of their own
+                        if (Files.exists(backupPathOpt.get())) {
+                            NativeDesktop.openFolderAndSelectFile(backupPathOpt.get(), externalApplicationsPreferences, null);
+                        } else {
+                            NativeDesktop.openFolderAndSelectFile(backupDir, externalApplicationsPreferences, null);
+                        }
                     } catch (IOException ex) {
                         LOGGER.error("Could not open backup folder", ex);
                     }
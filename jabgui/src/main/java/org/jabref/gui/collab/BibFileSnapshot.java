@@ -0,0 +1,209 @@
+package org.jabref.gui.collab;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.strings.StringUtil;
+
+/**
+ * The blocks of a bib file as of its last parse. Each block starts with an <code>@</code> on the top level of the file.
+ * Each entry block is kept together with the entry parsed from it.
+ * <p>
+ * When the file changed, the blocks of the new file content are compared with the blocks of the snapshot.
+ * Only the entry blocks that changed need to be parsed.
+ */
+class BibFileSnapshot {
+
+    /**
+     * @param text        the text of the block with unified line breaks and without trailing whitespace
+     * @param entryLength the length of the entry at the beginning of the block, or 0 if the block is not an entry
+     */
+    record Block(String text, int entryLength) {
+        boolean isEntry() {
+            return entryLength > 0;
+        }
+
+        String entryText() {
+            return text.substring(0, entryLength);
+        }
+    }
+
+    /**
+     * @param addedEntryBlocks the entry blocks not contained in the snapshot
+     * @param removedEntries   the entries of the blocks of the snapshot not contained in the new file content
+     * @param removedBlocks    the texts of these blocks, each with the number of its removed occurrences
+     */
+    record Changes(List<Block> addedEntryBlocks, List<BibEntry> removedEntries, Map<String, Integer> removedBlocks) {
+        boolean isEmpty() {
+            return addedEntryBlocks.isEmpty() && removedEntries.isEmpty();
+        }
+    }
+
+    private static final Pattern BLOCK_TYPE = Pattern.compile("^@\\s*(\\w+)\\s*[{(]");
+    private static final Set<String> NON_ENTRY_TYPES = Set.of("string", "preamble", "comment");
+
+    private final Map<String, Deque<BibEntry>> entriesByBlock;
+    private final Map<String, Integer> otherBlocks;
+
+    private BibFileSnapshot(Map<String, Deque<BibEntry>> entriesByBlock, Map<String, Integer> otherBlocks) {
+        this.entriesByBlock = entriesByBlock;
+        this.otherBlocks = otherBlocks;
+    }
+
+    /**
+     * Creates the snapshot of the given blocks.
+     *
+     * @param entries the entries parsed from the blocks, in the order of the blocks
+     * @return the snapshot, or an empty optional if the entries do not correspond to the entry blocks
+     */
+    static Optional<BibFileSnapshot> of(List<Block> blocks, List<BibEntry> entries) {
+        Map<String, Deque<BibEntry>> entriesByBlock = new HashMap<>();
+        Map<String, Integer> otherBlocks = new HashMap<>();
+        if (!addBlocks(blocks, entries, entriesByBlock, otherBlocks)) {
+            return Optional.empty();
+        }
+        return Optional.of(new BibFileSnapshot(entriesByBlock, otherBlocks));
+    }
+
+    /**
+     * Splits the content of a bib file into blocks. Each block starts with an <code>@</code> which is not enclosed in braces.
+     * The text before the first block is a block, too.
+     */
+    static List<Block> split(String content) {
+        String text = StringUtil.unifyLineBreaks(content, "\n");
+        List<Block> blocks = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if ((c == '}') && (depth > 0)) {
+                depth--;
+            } else if ((c == '@') && (depth == 0) && (i > start)) {
+                addBlock(blocks, text.substring(start, i));
+                start = i;
+            }
+        }
+        addBlock(blocks, text.substring(start));
+        return blocks;
+    }
+
+    private static void addBlock(List<Block> blocks, String text) {
+        String blockText = text.stripTrailing();
+        if (!blockText.isEmpty()) {
+            blocks.add(new Block(blockText, getEntryLength(blockText)));
+        }
+    }
+
+    private static int getEntryLength(String blockText) {
+        Matcher matcher = BLOCK_TYPE.matcher(blockText);
+        if (!matcher.find() || NON_ENTRY_TYPES.contains(matcher.group(1).toLowerCase(Locale.ROOT))) {
+            return 0;
+        }
+        int depth = 0;
+        for (int i = 0; i < blockText.length(); i++) {
+            char c = blockText.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+        }
+        // Unbalanced braces or an entry delimited by parentheses
+        return blockText.length();
+    }
+
+    /**
+     * Compares the blocks of the new file content with the blocks of this snapshot.
+     *
+     * @return the changed entry blocks, or an empty optional if blocks other than entries changed
+     */
+    Optional<Changes> compare(List<Block> blocks) {
+        Map<String, Integer> remainingEntryBlocks = new HashMap<>(entriesByBlock.size());
+        entriesByBlock.forEach((text, entries) -> remainingEntryBlocks.put(text, entries.size()));
+        Map<String, Integer> remainingOtherBlocks = new HashMap<>(otherBlocks);
+
+        List<Block> addedEntryBlocks = new ArrayList<>();
+        for (Block block : blocks) {
+            Map<String, Integer> remaining = block.isEntry() ? remainingEntryBlocks : remainingOtherBlocks;
+            Integer count = remaining.get(block.text());
+            if ((count != null) && (count > 0)) {
+                remaining.put(block.text(), count - 1);
+            } else if (block.isEntry()) {
+                addedEntryBlocks.add(block);
+            } else {
+                return Optional.empty();
+            }
+        }
+        if (remainingOtherBlocks.values().stream().anyMatch(count -> count > 0)) {
+            return Optional.empty();
+        }
+
+        remainingEntryBlocks.values().removeIf(count -> count == 0);
+        List<BibEntry> removedEntries = new ArrayList<>();
+        remainingEntryBlocks.forEach((text, count) ->
+                entriesByBlock.get(text).stream().limit(count).forEach(removedEntries::add));
+        return Optional.of(new Changes(addedEntryBlocks, removedEntries, remainingEntryBlocks));
+    }
+
+    /**
+     * Updates the snapshot according to the changes found by {@link #compare(List)}
+     *
+     * @param addedEntries the entries parsed from the added entry blocks, in the order of the blocks
+     * @return false if the added entries do not correspond to the added entry blocks. In this case, the snapshot is not updated.
+     */
+    boolean update(Changes changes, List<BibEntry> addedEntries) {
+        Map<String, Deque<BibEntry>> addedEntriesByBlock = new HashMap<>();
+        if (!addBlocks(changes.addedEntryBlocks(), addedEntries, addedEntriesByBlock, new HashMap<>())) {
+            return false;
+        }
+
+        changes.removedBlocks().forEach((text, count) -> {
+            Deque<BibEntry> entries = entriesByBlock.get(text);
+            for (int i = 0; i < count; i++) {
+                entries.poll();
+            }
+            if (entries.isEmpty()) {
+                entriesByBlock.remove(text);
+            }
+        });
+        addedEntriesByBlock.forEach((text, entries) -> entriesByBlock.computeIfAbsent(text, _ -> new ArrayDeque<>()).addAll(entries));
+        return true;
+    }
+
+    private static boolean addBlocks(List<Block> blocks, List<BibEntry> entries, Map<String, Deque<BibEntry>> entriesByBlock, Map<String, Integer> otherBlocks) {
+        int entryIndex = 0;
+        for (Block block : blocks) {
+            if (!block.isEntry()) {
+                otherBlocks.merge(block.text(), 1, Integer::sum);
+                continue;
+            }
+            if (entryIndex >= entries.size()) {
+                return false;
+            }
+            BibEntry entry = entries.get(entryIndex++);
+            // The serialization contains the comments before the entry and the entry itself
+            String serialization = entry.getSavedSerialization().orElse(entry.getParsedSerialization());
+            if ((serialization == null)
+                    || !StringUtil.unifyLineBreaks(serialization, "\n").stripTrailing().endsWith(block.entryText())) {
+                return false;
+            }
+            entriesByBlock.computeIfAbsent(block.text(), _ -> new ArrayDeque<>()).add(entry);
+        }
+        return entryIndex == entries.size();
+    }
+}
@@ -1,19 +1,38 @@
 package org.jabref.gui.collab;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.jabref.gui.DialogService;
 import org.jabref.gui.preferences.GuiPreferences;
+import org.jabref.logic.bibtex.comparator.BibDatabaseDiff;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Determines the changes of the library file on disk compared to the library in memory.
+ * <p>
+ * The scanner keeps a {@link BibFileSnapshot} of the file as of the last scan. In case only entries changed since then, only the changed entries are parsed and compared.
+ * Otherwise, the complete file is parsed and compared with the library.
+ */
 public class ChangeScanner {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ChangeScanner.class);
@@ -22,6 +41,8 @@ public class ChangeScanner {
 
     private final DatabaseChangeResolverFactory databaseChangeResolverFactory;
 
+    private Optional<BibFileSnapshot> snapshot = Optional.empty();
+
     public ChangeScanner(BibDatabaseContext database,
                          DialogService dialogService,
                          GuiPreferences preferences) {
@@ -30,22 +51,113 @@ public class ChangeScanner {
         this.databaseChangeResolverFactory = new DatabaseChangeResolverFactory(dialogService, database, preferences);
     }
 
-    public List<DatabaseChange> scanForChanges() {
+    /**
+     * Takes the snapshot of the file on disk from the library in memory. Needs to be called as long as the library corresponds to the file, e.g., directly after loading.
+     * Thus, the first change of the file can be detected incrementally already.
+     */
+    public synchronized void snapshotLoadedLibrary() {
+        if (database.getDatabasePath().isEmpty()) {
+            return;
+        }
+        try {
+            List<BibEntry> entries = database.getEntries();
+            if (entries.stream().anyMatch(BibEntry::hasChanged)) {
+                return;
+            }
+            List<BibEntry> copies = entries.stream().map(entry -> (BibEntry) entry.clone()).toList();
+            snapshot = BibFileSnapshot.of(BibFileSnapshot.split(readFile(database.getDatabasePath().get())), copies);
+        } catch (IOException e) {
+            LOGGER.debug("Could not read library file", e);
+        }
+    }
+
+    public synchronized List<DatabaseChange> scanForChanges() {
         if (database.getDatabasePath().isEmpty()) {
             return List.of();
         }
 
+        Path path = database.getDatabasePath().get();
         try {
+            List<BibFileSnapshot.Block> blocks = BibFileSnapshot.split(readFile(path));
+            Optional<List<DatabaseChange>> changes = scanChangedEntries(blocks);
+            if (changes.isPresent()) {
+                return changes.get();
+            }
+
             // Parse the modified file
             // Important: apply all post-load actions
             ImportFormatPreferences importFormatPreferences = preferences.getImportFormatPreferences();
-            ParserResult result = OpenDatabase.loadDatabase(database.getDatabasePath().get(), importFormatPreferences, new DummyFileUpdateMonitor());
+            ParserResult result = OpenDatabase.loadDatabase(path, importFormatPreferences, new DummyFileUpdateMonitor());
             BibDatabaseContext databaseOnDisk = result.getDatabaseContext();
+            snapshot = BibFileSnapshot.of(blocks, databaseOnDisk.getEntries());
 
             return DatabaseChangeList.compareAndGetChanges(database, databaseOnDisk, databaseChangeResolverFactory);
         } catch (IOException e) {
             LOGGER.warn("Error while parsing changed file.", e);
+            snapshot = Optional.empty();
             return List.of();
         }
     }
+
+    /**
+     * Compares only the entries changed on disk since the last scan with the corresponding entries of the library.
+     *
+     * @return the changes, or an empty optional if the file needs to be compared completely
+     */
+    private Optional<List<DatabaseChange>> scanChangedEntries(List<BibFileSnapshot.Block> blocks) throws IOException {
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<BibFileSnapshot.Changes> changes = snapshot.get().compare(blocks);
+        if (changes.isEmpty()) {
+            return Optional.empty();
+        }
+        if (changes.get().isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        String changedText = String.join("\n\n", changes.get().addedEntryBlocks().stream().map(BibFileSnapshot.Block::text).toList());
+        List<BibEntry> newEntries = new BibtexParser(preferences.getImportFormatPreferences())
+                .parse(Reader.of(changedText))
+                .getDatabase()
+                .getEntries();
+        if (!snapshot.get().update(changes.get(), newEntries)) {
+            LOGGER.debug("Changed entries could not be matched with the parsed entries. Comparing the complete file.");
+            return Optional.empty();
+        }
+
+        // The entries of the library corresponding to the changed entries on disk
+        Set<BibEntry> originalEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        Stream.concat(changes.get().removedEntries().stream(), newEntries.stream())
+              .forEach(entry -> findInLibrary(entry).ifPresent(originalEntries::add));
+
+        List<BibEntry> libraryEntries = database.getEntries().stream().filter(originalEntries::contains).toList();
+        List<BibEntry> diskEntries = newEntries.stream().filter(entry -> !entry.isEmpty()).toList();
+        return Optional.of(DatabaseChangeList.getEntryChanges(
+                database,
+                BibDatabaseDiff.compareEntries(libraryEntries, diskEntries, database.getMode()),
+                databaseChangeResolverFactory));
+    }
+
+    /**
+     * Finds the entry of the library with the same content as the given entry. Otherwise, finds the only entry with the same citation key.
+     */
+    private Optional<BibEntry> findInLibrary(BibEntry diskEntry) {
+        Optional<String> citationKey = diskEntry.getCitationKey().filter(key -> !key.isEmpty());
+        List<BibEntry> candidates = citationKey.map(key -> database.getDatabase().getEntriesByCitationKey(key))
+                                               .orElseGet(database::getEntries);
+        Optional<BibEntry> sameContent = candidates.stream()
+                                                   .filter(entry -> entry.getType().equals(diskEntry.getType())
+                                                           && entry.getFieldMap().equals(diskEntry.getFieldMap()))
+                                                   .findFirst();
+        if (sameContent.isPresent() || citationKey.isEmpty() || (candidates.size() != 1)) {
+            return sameContent;
+        }
+        return Optional.of(candidates.getFirst());
+    }
+
+    private String readFile(Path path) throws IOException {
+        Charset encoding = database.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
+        return new String(Files.readAllBytes(path), encoding);
+    }
 }
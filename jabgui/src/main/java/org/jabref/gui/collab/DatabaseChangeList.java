@@ -48,6 +48,15 @@ public class DatabaseChangeList {
         return Collections.unmodifiableList(changes);
     }
 
+    /**
+     * Returns the changes required to apply the given differences of entries to the {@code originalDatabase}
+     */
+    public static List<DatabaseChange> getEntryChanges(BibDatabaseContext originalDatabase, List<BibEntryDiff> differences, DatabaseChangeResolverFactory databaseChangeResolverFactory) {
+        return differences.stream()
+                          .map(diff -> createBibEntryDiff(originalDatabase, databaseChangeResolverFactory, diff))
+                          .toList();
+    }
+
     private static DatabaseChange createBibStringDiff(BibDatabaseContext originalDatabase, DatabaseChangeResolverFactory databaseChangeResolverFactory, BibStringDiff diff) {
         if (diff.getOriginalString() == null) {
             return new BibTexStringAdd(diff.getNewString(), originalDatabase, databaseChangeResolverFactory);
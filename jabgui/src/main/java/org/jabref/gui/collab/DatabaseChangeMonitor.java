@@ -38,6 +38,7 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
     private final LibraryTab.DatabaseNotification notificationPane;
     private final UndoManager undoManager;
     private final StateManager stateManager;
+    private final ChangeScanner changeScanner;
     private LibraryTab saveState;
 
     public DatabaseChangeMonitor(BibDatabaseContext database,
@@ -58,6 +59,7 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
         this.stateManager = stateManager;
 
         this.listeners = new ArrayList<>();
+        this.changeScanner = new ChangeScanner(database, dialogService, preferences);
 
         this.database.getDatabasePath().ifPresent(path -> {
             try {
@@ -65,6 +67,9 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
             } catch (IOException e) {
                 LOGGER.error("Error while trying to monitor {}", path, e);
             }
+            BackgroundTask.wrap(changeScanner::snapshotLoadedLibrary)
+                          .onFailure(e -> LOGGER.debug("Could not take snapshot of library file", e))
+                          .executeWith(taskExecutor);
         });
 
         addListener(this::notifyOnChange);
@@ -101,8 +106,7 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
     public void fileUpdated() {
         synchronized (database) {
             // File on disk has changed, thus look for notable changes and notify listeners in case there are such changes
-            ChangeScanner scanner = new ChangeScanner(database, dialogService, preferences);
-            BackgroundTask.wrap(scanner::scanForChanges)
+            BackgroundTask.wrap(changeScanner::scanForChanges)
                           .onSuccess(changes -> {
                               if (!changes.isEmpty()) {
                                   listeners.forEach(listener -> listener.databaseChanged(changes));
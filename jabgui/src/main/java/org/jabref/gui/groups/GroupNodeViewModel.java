@@ -28,6 +28,7 @@ import org.jabref.gui.util.CustomLocalDragboard;
 import org.jabref.gui.util.DroppingMouseLocation;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.groups.DefaultGroupsFactory;
+import org.jabref.logic.groups.GroupMembershipIndex;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
@@ -300,15 +301,14 @@ public class GroupNodeViewModel {
 
     private void updateMatchedEntries() {
         // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
+        // The index only matches the entries against the group in case the group was not requested before
         if (preferences.getGroupsPreferences().shouldDisplayGroupCount()) {
             BackgroundTask
-                    .wrap(() -> groupNode.findMatches(databaseContext.getDatabase()))
-                    .onSuccess(entries -> {
+                    .wrap(() -> GroupMembershipIndex.of(databaseContext).getMatchingIds(groupNode))
+                    .onSuccess(entryIds -> {
                         matchedEntries.clear();
                         // ADR-0038
-                        entries.forEach(entry -> matchedEntries.add(entry.getId()));
+                        matchedEntries.addAll(entryIds);
                     })
                     .executeWith(taskExecutor);
         }
@@ -1,5 +1,6 @@
 package org.jabref.gui.maintable;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,7 @@ import org.jabref.gui.search.MatchCategory;
 import org.jabref.gui.util.BindingsHelper;
 import org.jabref.gui.util.FilteredListProxy;
 import org.jabref.gui.util.OptionalObjectProperty;
+import org.jabref.logic.groups.GroupMembershipIndex;
 import org.jabref.logic.search.IndexManager;
 import org.jabref.logic.search.SearchPreferences;
 import org.jabref.logic.util.BackgroundTask;
@@ -80,7 +82,7 @@ public class MainTableDataModel {
         this.bibDatabaseContext = context;
         this.searchQueryProperty = searchQueryProperty;
         this.indexUpdatedListener = new SearchIndexListener();
-        this.groupsMatcher = createGroupMatcher(selectedGroupsProperty.get(), groupsPreferences);
+        this.groupsMatcher = createGroupMatcher(selectedGroupsProperty.get(), groupsPreferences, GroupMembershipIndex.of(context));
 
         this.bibDatabaseContext.getDatabase().registerListener(indexUpdatedListener);
         resetFieldFormatter();
@@ -99,76 +101,145 @@ public class MainTableDataModel {
         entriesFilteredAndSorted = new SortedList<>(entriesFiltered);
     }
 
+    /**
+     * The rows of the table whose match or visibility changed
+     *
+     * @param entries the rows of the table at the time of the change
+     * @param rows    the indices of the changed rows
+     */
+    private record ChangedRows(List<BibEntryTableViewModel> entries, BitSet rows) {
+    }
+
     private void updateSearchMatches(Optional<SearchQuery> query) {
         BackgroundTask.wrap(() -> {
+            List<BibEntryTableViewModel> entries = List.copyOf(entriesViewModel);
             if (query.isPresent()) {
-                setSearchMatches(indexManager.search(query.get()));
+                return setSearchMatches(entries, indexManager.search(query.get()));
             } else {
-                clearSearchMatches();
+                return clearSearchMatches(entries);
             }
-        }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
+        }).onSuccess(this::refilter).executeWith(taskExecutor);
     }
 
-    private void setSearchMatches(SearchResults results) {
-        boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
-        entriesViewModel.forEach(entry -> {
-            entry.hasFullTextResultsProperty().set(results.hasFulltextResults(entry.getEntry()));
-            updateEntrySearchMatch(entry, results.isMatched(entry.getEntry()), isFloatingMode);
-        });
+    private ChangedRows setSearchMatches(List<BibEntryTableViewModel> entries, SearchResults results) {
+        BitSet matched = new BitSet(entries.size());
+        BitSet fulltextMatched = new BitSet(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i).getEntry();
+            matched.set(i, results.isMatched(entry));
+            fulltextMatched.set(i, results.hasFulltextResults(entry));
+        }
+        return applySearchMatches(entries, matched, fulltextMatched);
     }
 
-    private void clearSearchMatches() {
+    private ChangedRows clearSearchMatches(List<BibEntryTableViewModel> entries) {
+        BitSet matched = new BitSet(entries.size());
+        matched.set(0, entries.size());
+        return applySearchMatches(entries, matched, new BitSet());
+    }
+
+    private ChangedRows applySearchMatches(List<BibEntryTableViewModel> entries, BitSet matched, BitSet fulltextMatched) {
         boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
-        entriesViewModel.forEach(entry -> {
-            entry.isMatchedBySearch().set(true);
-            entry.hasFullTextResultsProperty().set(false);
-            updateEntrySearchMatch(entry, true, isFloatingMode);
-        });
+        BitSet changedRows = new BitSet(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntryTableViewModel entry = entries.get(i);
+            entry.hasFullTextResultsProperty().set(fulltextMatched.get(i));
+            if (updateEntrySearchMatch(entry, matched.get(i), isFloatingMode)) {
+                changedRows.set(i);
+            }
+        }
+        return new ChangedRows(entries, changedRows);
     }
 
-    private static void updateEntrySearchMatch(BibEntryTableViewModel entry, boolean isMatched, boolean isFloatingMode) {
-        entry.isMatchedBySearch().set(isMatched);
-        entry.updateMatchCategory();
-        setEntrySearchVisibility(entry, isMatched, isFloatingMode);
+    /**
+     * @return true if the match category or the visibility of the entry changed
+     */
+    private static boolean updateEntrySearchMatch(BibEntryTableViewModel entry, boolean isMatched, boolean isFloatingMode) {
+        boolean matchChanged = entry.isMatchedBySearch().get() != isMatched;
+        if (matchChanged) {
+            entry.isMatchedBySearch().set(isMatched);
+            entry.updateMatchCategory();
+        }
+        return setEntrySearchVisibility(entry, isMatched, isFloatingMode) || matchChanged;
     }
 
-    private static void setEntrySearchVisibility(BibEntryTableViewModel entry, boolean isMatched, boolean isFloatingMode) {
-        if (isMatched) {
-            entry.isVisibleBySearch().set(true);
-        } else {
-            entry.isVisibleBySearch().set(isFloatingMode);
+    /**
+     * @return true if the visibility of the entry changed
+     */
+    private static boolean setEntrySearchVisibility(BibEntryTableViewModel entry, boolean isMatched, boolean isFloatingMode) {
+        boolean isVisible = isMatched || isFloatingMode;
+        if (entry.isVisibleBySearch().get() == isVisible) {
+            return false;
         }
+        entry.isVisibleBySearch().set(isVisible);
+        return true;
     }
 
     private void updateSearchDisplayMode(SearchDisplayMode mode) {
         BackgroundTask.wrap(() -> {
             boolean isFloatingMode = mode == SearchDisplayMode.FLOAT;
-            entriesViewModel.forEach(entry -> setEntrySearchVisibility(entry, entry.isMatchedBySearch().get(), isFloatingMode));
-        }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
+            List<BibEntryTableViewModel> entries = List.copyOf(entriesViewModel);
+            BitSet changedRows = new BitSet(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                BibEntryTableViewModel entry = entries.get(i);
+                if (setEntrySearchVisibility(entry, entry.isMatchedBySearch().get(), isFloatingMode)) {
+                    changedRows.set(i);
+                }
+            }
+            return new ChangedRows(entries, changedRows);
+        }).onSuccess(this::refilter).executeWith(taskExecutor);
     }
 
     private void updateGroupMatches(ObservableList<GroupTreeNode> groups) {
         BackgroundTask.wrap(() -> {
-            groupsMatcher = createGroupMatcher(groups, groupsPreferences);
+            groupsMatcher = createGroupMatcher(groups, groupsPreferences, GroupMembershipIndex.of(bibDatabaseContext));
             boolean isInvertMode = groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT);
             boolean isFloatingMode = !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER);
-            entriesViewModel.forEach(entry -> updateEntryGroupMatch(entry, groupsMatcher, isInvertMode, isFloatingMode));
-        }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
+            List<BibEntryTableViewModel> entries = List.copyOf(entriesViewModel);
+            BitSet changedRows = new BitSet(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                if (updateEntryGroupMatch(entries.get(i), groupsMatcher, isInvertMode, isFloatingMode)) {
+                    changedRows.set(i);
+                }
+            }
+            return new ChangedRows(entries, changedRows);
+        }).onSuccess(this::refilter).executeWith(taskExecutor);
     }
 
-    private void updateEntryGroupMatch(BibEntryTableViewModel entry, Optional<MatcherSet> groupsMatcher, boolean isInvertMode, boolean isFloatingMode) {
+    /**
+     * @return true if the match category or the visibility of the entry changed
+     */
+    private boolean updateEntryGroupMatch(BibEntryTableViewModel entry, Optional<MatcherSet> groupsMatcher, boolean isInvertMode, boolean isFloatingMode) {
         boolean isMatched = groupsMatcher.map(matcher -> matcher.isMatch(entry.getEntry()) ^ isInvertMode)
                                          .orElse(true);
+        boolean isVisible = isMatched || isFloatingMode;
+        if ((entry.isMatchedByGroup().get() == isMatched) && (entry.isVisibleByGroup().get() == isVisible)) {
+            return false;
+        }
         entry.isMatchedByGroup().set(isMatched);
         entry.updateMatchCategory();
-        if (isMatched) {
-            entry.isVisibleByGroup().set(true);
+        entry.isVisibleByGroup().set(isVisible);
+        return true;
+    }
+
+    /**
+     * Refilters the changed rows only. In case entries were added or removed in the meantime, the rows may have moved and the whole table is refiltered.
+     */
+    private void refilter(ChangedRows changedRows) {
+        List<BibEntryTableViewModel> entries = changedRows.entries();
+        boolean rowsUnmoved = (entriesViewModel.size() == entries.size())
+                && changedRows.rows().stream().allMatch(row -> entriesViewModel.get(row) == entries.get(row));
+        if (rowsUnmoved) {
+            FilteredListProxy.refilterListReflection(entriesFiltered, changedRows.rows());
         } else {
-            entry.isVisibleByGroup().set(isFloatingMode);
+            FilteredListProxy.refilterListReflection(entriesFiltered);
         }
     }
 
-    private static Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups, GroupsPreferences groupsPreferences) {
+    /**
+     * Creates the matcher of the selected groups. The membership of the groups is taken from the index, thus the matcher does not match the groups against each entry.
+     */
+    private static Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups, GroupsPreferences groupsPreferences, GroupMembershipIndex membershipIndex) {
         if ((selectedGroups == null) || selectedGroups.isEmpty()) {
             // No selected group, show all entries
             return Optional.empty();
@@ -180,7 +251,7 @@ public class MainTableDataModel {
                         : MatcherSets.MatcherType.OR);
 
         for (GroupTreeNode node : selectedGroups) {
-            searchRules.addRule(node.getSearchMatcher());
+            searchRules.addRule(membershipIndex.getMatcher(node));
         }
         return Optional.of(searchRules);
     }
@@ -24,6 +24,7 @@ import org.jabref.gui.util.ViewModelListCellFactory;
 import org.jabref.logic.help.HelpFile;
 import org.jabref.logic.l10n.Language;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.search.SearchBackend;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -50,6 +51,7 @@ public class GeneralTab extends AbstractPreferenceTabView<GeneralTabViewModel> i
     @FXML private CheckBox shouldAskForIncludingCrossReferences;
     @FXML private CheckBox confirmHideTabBar;
     @FXML private ComboBox<BibDatabaseMode> biblatexMode;
+    @FXML private ComboBox<SearchBackend> searchBackend;
     @FXML private CheckBox alwaysReformatBib;
     @FXML private CheckBox autosaveLocalLibraries;
     @FXML private Button autosaveLocalLibrariesHelp;
@@ -130,6 +132,12 @@ public class GeneralTab extends AbstractPreferenceTabView<GeneralTabViewModel> i
         biblatexMode.itemsProperty().bind(viewModel.biblatexModeListProperty());
         biblatexMode.valueProperty().bindBidirectional(viewModel.selectedBiblatexModeProperty());
 
+        new ViewModelListCellFactory<SearchBackend>()
+                .withText(SearchBackend::getDisplayName)
+                .install(searchBackend);
+        searchBackend.itemsProperty().bind(viewModel.searchBackendListProperty());
+        searchBackend.valueProperty().bindBidirectional(viewModel.selectedSearchBackendProperty());
+
         alwaysReformatBib.selectedProperty().bindBidirectional(viewModel.alwaysReformatBibProperty());
         autosaveLocalLibraries.selectedProperty().bindBidirectional(viewModel.autosaveLocalLibrariesProperty());
         ActionFactory actionFactory = new ActionFactory();
@@ -38,6 +38,8 @@ import org.jabref.logic.net.ssl.TrustStoreManager;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.RemoteUtil;
 import org.jabref.logic.remote.server.RemoteListenerServerManager;
+import org.jabref.logic.search.SearchBackend;
+import org.jabref.logic.search.SearchPreferences;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.strings.StringUtil;
@@ -80,6 +82,8 @@ public class GeneralTabViewModel implements PreferenceTabViewModel {
 
     private final ListProperty<BibDatabaseMode> bibliographyModeListProperty = new SimpleListProperty<>();
     private final ObjectProperty<BibDatabaseMode> selectedBiblatexModeProperty = new SimpleObjectProperty<>();
+    private final ListProperty<SearchBackend> searchBackendListProperty = new SimpleListProperty<>();
+    private final ObjectProperty<SearchBackend> selectedSearchBackendProperty = new SimpleObjectProperty<>();
 
     private final BooleanProperty alwaysReformatBibProperty = new SimpleBooleanProperty();
     private final BooleanProperty autosaveLocalLibraries = new SimpleBooleanProperty();
@@ -93,6 +97,7 @@ public class GeneralTabViewModel implements PreferenceTabViewModel {
     private final LibraryPreferences libraryPreferences;
     private final FilePreferences filePreferences;
     private final RemotePreferences remotePreferences;
+    private final SearchPreferences searchPreferences;
 
     private final Validator fontSizeValidator;
     private final Validator customPathToThemeValidator;
@@ -111,6 +116,7 @@ public class GeneralTabViewModel implements PreferenceTabViewModel {
         this.libraryPreferences = preferences.getLibraryPreferences();
         this.filePreferences = preferences.getFilePreferences();
         this.remotePreferences = preferences.getRemotePreferences();
+        this.searchPreferences = preferences.getSearchPreferences();
         this.fileUpdateMonitor = fileUpdateMonitor;
 
         fontSizeValidator = new FunctionBasedValidator<>(
@@ -189,6 +195,9 @@ public class GeneralTabViewModel implements PreferenceTabViewModel {
         bibliographyModeListProperty.setValue(FXCollections.observableArrayList(BibDatabaseMode.values()));
         selectedBiblatexModeProperty.setValue(libraryPreferences.getDefaultBibDatabaseMode());
 
+        searchBackendListProperty.setValue(FXCollections.observableArrayList(SearchBackend.values()));
+        selectedSearchBackendProperty.setValue(searchPreferences.getSearchBackend());
+
         alwaysReformatBibProperty.setValue(libraryPreferences.shouldAlwaysReformatOnSave());
         autosaveLocalLibraries.setValue(libraryPreferences.shouldAutoSave());
 
@@ -231,6 +240,11 @@ public class GeneralTabViewModel implements PreferenceTabViewModel {
 
         libraryPreferences.setDefaultBibDatabaseMode(selectedBiblatexModeProperty.getValue());
 
+        if (selectedSearchBackendProperty.getValue() != searchPreferences.getSearchBackend()) {
+            searchPreferences.setSearchBackend(selectedSearchBackendProperty.getValue());
+            restartWarning.add(Localization.lang("Changed search backend to %0", selectedSearchBackendProperty.getValue().getDisplayName()));
+        }
+
         libraryPreferences.setAlwaysReformatOnSave(alwaysReformatBibProperty.getValue());
         libraryPreferences.setAutoSave(autosaveLocalLibraries.getValue());
 
@@ -390,6 +404,14 @@ public class GeneralTabViewModel implements PreferenceTabViewModel {
         return this.selectedBiblatexModeProperty;
     }
 
+    public ListProperty<SearchBackend> searchBackendListProperty() {
+        return this.searchBackendListProperty;
+    }
+
+    public ObjectProperty<SearchBackend> selectedSearchBackendProperty() {
+        return this.selectedSearchBackendProperty;
+    }
+
     public BooleanProperty alwaysReformatBibProperty() {
         return alwaysReformatBibProperty;
     }
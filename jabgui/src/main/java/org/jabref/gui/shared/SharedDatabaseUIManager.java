@@ -222,6 +222,7 @@ public class SharedDatabaseUIManager {
                 preferences.getFieldPreferences(),
                 preferences.getCitationKeyPatternPreferences().getKeyPatterns(),
                 fileUpdateMonitor);
+        synchronizer.setFlushInterval(new SharedDatabasePreferences().getFlushInterval());
         bibDatabaseContext.convertToSharedDatabase(synchronizer);
         return bibDatabaseContext;
     }
@@ -2,8 +2,8 @@ package org.jabref.gui.util;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.ListIterator;
+import java.util.BitSet;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableListBase;
@@ -40,51 +40,76 @@ public class FilteredListProxy {
     }
 
     public static void refilterListReflection(FilteredList<BibEntryTableViewModel> filteredList, int sourceFrom, int sourceTo) {
+        if (sourceFrom < 0 || sourceTo > filteredList.getSource().size() || sourceFrom > sourceTo) {
+            throw new IndexOutOfBoundsException();
+        }
+        BitSet sourceRows = new BitSet(sourceTo);
+        sourceRows.set(sourceFrom, sourceTo);
+        refilterListReflection(filteredList, sourceRows);
+    }
+
+    /**
+     * Refilters only the given rows of the source list. The filtered list is rebuilt in one pass, thus the effort does not depend on the number of rows whose visibility changed.
+     *
+     * @param sourceRows the indices of the rows in the source list to refilter
+     */
+    public static void refilterListReflection(FilteredList<BibEntryTableViewModel> filteredList, BitSet sourceRows) {
+        if (sourceRows.length() > filteredList.getSource().size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (sourceRows.isEmpty()) {
+            return;
+        }
         try {
             if (!initialized) {
                 initReflection();
             }
-            if (sourceFrom < 0 || sourceTo > filteredList.getSource().size() || sourceFrom > sourceTo) {
-                throw new IndexOutOfBoundsException();
-            }
 
             BEGIN_CHANGE_METHOD.invoke(filteredList);
             ENSURE_SIZE_METHOD.invoke(filteredList, filteredList.getSource().size());
 
             @SuppressWarnings("unchecked")
             Predicate<BibEntryTableViewModel> predicateImpl = (Predicate<BibEntryTableViewModel>) GET_PREDICATE_IMPL_METHOD.invoke(filteredList);
-            ListIterator<? extends BibEntryTableViewModel> it = filteredList.getSource().listIterator(sourceFrom);
+            List<? extends BibEntryTableViewModel> source = filteredList.getSource();
 
             int[] filtered = (int[]) FILTERED_FIELD.get(filteredList);
             int size = (int) SIZE_FIELD.get(filteredList);
+            int[] newFiltered = new int[filtered.length];
+            int newSize = 0;
+            int oldPos = 0;
+
+            for (int i = sourceRows.nextSetBit(0); i >= 0; i = sourceRows.nextSetBit(i + 1)) {
+                // Rows between the refiltered ones keep their state
+                while (oldPos < size && filtered[oldPos] < i) {
+                    newFiltered[newSize++] = filtered[oldPos++];
+                }
 
-            for (int i = sourceFrom; i < sourceTo; ++i) {
-                BibEntryTableViewModel el = it.next();
-                int pos = Arrays.binarySearch(filtered, 0, size, i);
-                boolean passedBefore = pos >= 0;
+                BibEntryTableViewModel el = source.get(i);
+                boolean passedBefore = oldPos < size && filtered[oldPos] == i;
                 boolean passedNow = predicateImpl.test(el);
                 /* 1. passed before and now -> nextUpdate
                  * 2. passed before and not now -> nextRemove
                  * 3. not passed before and now -> nextAdd
                  * 4. not passed before and not now -> do nothing */
                 if (passedBefore && passedNow) {
-                    NEXT_UPDATE_METHOD.invoke(filteredList, pos);
+                    NEXT_UPDATE_METHOD.invoke(filteredList, newSize);
+                    newFiltered[newSize++] = i;
+                    oldPos++;
                 } else if (passedBefore) {
-                    NEXT_REMOVE_METHOD.invoke(filteredList, pos, el);
-                    System.arraycopy(filtered, pos + 1, filtered, pos, size - pos - 1);
-                    size--;
+                    NEXT_REMOVE_METHOD.invoke(filteredList, newSize, el);
+                    oldPos++;
                 } else if (passedNow) {
-                    int insertionPoint = ~pos;
-                    System.arraycopy(filtered, insertionPoint, filtered, insertionPoint + 1, size - insertionPoint);
-                    filtered[insertionPoint] = i;
-                    NEXT_ADD_METHOD.invoke(filteredList, insertionPoint, insertionPoint + 1);
-                    size++;
+                    newFiltered[newSize] = i;
+                    NEXT_ADD_METHOD.invoke(filteredList, newSize, newSize + 1);
+                    newSize++;
                 }
             }
+            System.arraycopy(filtered, oldPos, newFiltered, newSize, size - oldPos);
+            newSize += size - oldPos;
 
             // Write back
-            FILTERED_FIELD.set(filteredList, filtered);
-            SIZE_FIELD.set(filteredList, size);
+            FILTERED_FIELD.set(filteredList, newFiltered);
+            SIZE_FIELD.set(filteredList, newSize);
 
             END_CHANGE_METHOD.invoke(filteredList);
         } catch (ReflectiveOperationException e) {
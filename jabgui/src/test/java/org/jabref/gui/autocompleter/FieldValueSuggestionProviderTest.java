@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import static org.jabref.gui.autocompleter.AutoCompleterUtil.getRequest;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -180,4 +181,60 @@ class FieldValueSuggestionProviderTest {
         Collection<String> result = autoCompleter.provideSuggestions(getRequest("te"));
         assertEquals(List.of("test value"), result);
     }
+
+    @Test
+    void completeAfterChangingValueReturnsNewValue() {
+        BibEntry entry = new BibEntry();
+        entry.setField(StandardField.TITLE, "testValue");
+        database.insertEntry(entry);
+        autoCompleter.provideSuggestions(getRequest("test"));
+
+        entry.setField(StandardField.TITLE, "testOtherValue");
+
+        Collection<String> result = autoCompleter.provideSuggestions(getRequest("test"));
+        assertEquals(List.of("testOtherValue"), result);
+    }
+
+    @Test
+    void completeAfterRemovingEntryReturnsNothing() {
+        BibEntry entry = new BibEntry();
+        entry.setField(StandardField.TITLE, "testValue");
+        database.insertEntry(entry);
+        autoCompleter.provideSuggestions(getRequest("test"));
+
+        database.removeEntry(entry);
+
+        Collection<String> result = autoCompleter.provideSuggestions(getRequest("test"));
+        assertEquals(List.of(), result);
+    }
+
+    @Test
+    void completeKeepsValueUsedByRemainingEntry() {
+        BibEntry entryOne = new BibEntry();
+        entryOne.setField(StandardField.TITLE, "testValue");
+        BibEntry entryTwo = new BibEntry();
+        entryTwo.setField(StandardField.TITLE, "testValue");
+        database.insertEntries(entryOne, entryTwo);
+        autoCompleter.provideSuggestions(getRequest("test"));
+
+        database.removeEntry(entryOne);
+
+        Collection<String> result = autoCompleter.provideSuggestions(getRequest("test"));
+        assertEquals(List.of("testValue"), result);
+    }
+
+    @Test
+    void completePrefersValuesStartingWithText() {
+        for (int i = 0; i < 20; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setField(StandardField.TITLE, "a value " + i);
+            database.insertEntry(entry);
+        }
+        BibEntry entry = new BibEntry();
+        entry.setField(StandardField.TITLE, "value");
+        database.insertEntry(entry);
+
+        Collection<String> result = autoCompleter.provideSuggestions(getRequest("value"));
+        assertTrue(result.contains("value"));
+    }
 }
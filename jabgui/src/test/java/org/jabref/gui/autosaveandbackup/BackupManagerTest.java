@@ -2,6 +2,7 @@ package org.jabref.gui.autosaveandbackup;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -184,9 +185,26 @@ class BackupManagerTest {
 
         BackupManager.shutdown(database, backupDir, true);
 
-        List<Path> files = Files.list(backupDir).sorted().toList();
+        // No complete copy of the library is written, the backups are kept in the history
+        assertFalse(Files.exists(fullBackupPath.get()));
+        List<Path> backups = new ChunkedBackupStore(database.getDatabasePath().get(), backupDir).getBackups();
         // we only know the first backup path because the second one is created on shutdown
         // due to timing issues we cannot test that reliable
-        assertEquals(fullBackupPath.get(), files.getFirst());
+        assertEquals(fullBackupPath.get(), backups.getFirst());
+    }
+
+    @Test
+    void backupIsRestoredFromHistory(@TempDir Path customDir) throws IOException {
+        Path originalPath = Files.writeString(customDir.resolve("Bibfile.bib"), "@Misc{current,}\n");
+        Path backupPath = BackupManager.getBackupPathForNewBackup(originalPath, backupDir);
+        new ChunkedBackupStore(originalPath, backupDir).add(backupPath, "@Misc{backup,}\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(originalPath, FileTime.fromMillis(0));
+
+        assertEquals(Optional.of(backupPath), BackupManager.getLatestBackupPath(originalPath, backupDir));
+        assertTrue(BackupManager.backupFileDiffers(originalPath, backupDir));
+
+        BackupManager.restoreBackup(originalPath, backupDir);
+
+        assertEquals("@Misc{backup,}\n", Files.readString(originalPath));
     }
 }
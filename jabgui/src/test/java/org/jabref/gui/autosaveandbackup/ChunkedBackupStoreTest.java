@@ -0,0 +1,163 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkedBackupStoreTest {
+
+    private static final String LIBRARY = """
+            % Encoding: UTF-8
+
+            @Article{first,
+              title = {First},
+            }
+
+            @Article{second,
+              title  = {Second},
+              author = {Some@Mail},
+            }
+
+            @Comment{jabref-meta: databaseType:bibtex;}
+            """;
+
+    @TempDir
+    private Path tempDir;
+
+    private Path backupDir;
+    private ChunkedBackupStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        backupDir = tempDir.resolve("backups");
+        Files.createDirectories(backupDir);
+        store = new ChunkedBackupStore(tempDir.resolve("library.bib"), backupDir);
+    }
+
+    @Test
+    void splitKeepsContent() throws IOException {
+        List<String> chunks = new ArrayList<>();
+        ChunkedBackupStore.split(new ByteArrayInputStream(bytes(LIBRARY)), chunk -> chunks.add(new String(chunk, StandardCharsets.UTF_8)));
+
+        assertEquals(4, chunks.size());
+        assertEquals(LIBRARY, String.join("", chunks));
+    }
+
+    @Test
+    void addDoesNotWriteBackupFile() throws IOException {
+        Path backupPath = backupDir.resolve("first.bak");
+
+        store.add(backupPath, bytes(LIBRARY));
+
+        assertFalse(Files.exists(backupPath));
+        assertTrue(store.contains(backupPath));
+        assertEquals(List.of(backupPath), store.getBackups());
+    }
+
+    @Test
+    void backupIsReadFromHistory() throws IOException {
+        Path backupPath = backupDir.resolve("first.bak");
+        store.add(backupPath, bytes(LIBRARY));
+
+        assertArrayEquals(bytes(LIBRARY), store.read(backupPath));
+    }
+
+    @Test
+    void backupFileOfOlderVersionIsRead() throws IOException {
+        Path backupPath = Files.writeString(backupDir.resolve("first.bak"), LIBRARY);
+
+        assertArrayEquals(bytes(LIBRARY), store.read(backupPath));
+    }
+
+    @Test
+    void unchangedChunksAreStoredOnce() throws IOException {
+        store.add(backupDir.resolve("first.bak"), bytes(LIBRARY));
+        long packSize = getPackSize();
+
+        store.add(backupDir.resolve("second.bak"), bytes(LIBRARY.replace("{Second}", "{Changed}")));
+
+        long addedBytes = getPackSize() - packSize;
+        assertTrue(addedBytes > 0);
+        assertTrue(addedBytes < LIBRARY.length() / 2);
+    }
+
+    @Test
+    void fileWithSameContentDoesNotDiffer() throws IOException {
+        Path backupPath = backupDir.resolve("first.bak");
+        store.add(backupPath, bytes(LIBRARY));
+
+        assertFalse(store.differs(backupPath, Files.writeString(tempDir.resolve("library.bib"), LIBRARY)));
+    }
+
+    @Test
+    void fileWithChangedEntryDiffers() throws IOException {
+        Path backupPath = backupDir.resolve("first.bak");
+        store.add(backupPath, bytes(LIBRARY));
+
+        // Same length, different content
+        assertTrue(store.differs(backupPath, Files.writeString(tempDir.resolve("library.bib"), LIBRARY.replace("{Second}", "{SecoND}"))));
+        assertTrue(store.differs(backupPath, Files.writeString(tempDir.resolve("library.bib"), LIBRARY + "\n")));
+    }
+
+    @Test
+    void historyDoesNotLookLikeBackupFiles() throws IOException {
+        Path backupPath = backupDir.resolve("prefix--library.bib--2025-01-01--10.00.00.bak");
+        store.add(backupPath, bytes(LIBRARY));
+
+        try (Stream<Path> files = Files.list(backupDir)) {
+            assertEquals(List.of(), files.filter(file -> file.getFileName().toString().startsWith("prefix")).toList());
+        }
+        assertEquals(List.of(backupPath), store.getBackups());
+    }
+
+    @Test
+    void removedBackupsAreCompacted() throws IOException {
+        String removedEntries = IntStream.range(0, 100)
+                                         .mapToObj(i -> "@Misc{key" + i + ",\n  note = {" + UUID.randomUUID() + "},\n}\n\n")
+                                         .collect(Collectors.joining());
+        Path firstBackup = backupDir.resolve("first.bak");
+        Path secondBackup = backupDir.resolve("second.bak");
+        store.add(firstBackup, bytes(LIBRARY + removedEntries));
+        store.add(secondBackup, bytes(LIBRARY));
+        long packSize = getPackSize();
+
+        store.remove(firstBackup);
+
+        assertFalse(store.contains(firstBackup));
+        assertTrue(getPackSize() < packSize);
+        assertArrayEquals(bytes(LIBRARY), store.read(secondBackup));
+        assertThrows(IOException.class, () -> store.read(firstBackup));
+    }
+
+    private long getPackSize() throws IOException {
+        try (Stream<Path> files = Files.walk(backupDir.resolve("history"))) {
+            long size = 0;
+            for (Path pack : files.filter(file -> file.getFileName().toString().endsWith(".pack")).toList()) {
+                size += Files.size(pack);
+            }
+            return size;
+        }
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
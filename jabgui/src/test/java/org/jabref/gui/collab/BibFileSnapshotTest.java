@@ -0,0 +1,95 @@
+package org.jabref.gui.collab;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class BibFileSnapshotTest {
+
+    private static final String FILE = """
+            % Encoding: UTF-8
+
+            @String{jabref = {JabRef}}
+
+            @Article{first,
+              title = {First {Title}},
+            }
+
+            @Article{second,
+              title  = {Second},
+              author = {Some@Mail},
+            }
+
+            @Comment{jabref-meta: databaseType:bibtex;}
+            """;
+
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+
+    @Test
+    void splitFindsTopLevelBlocks() {
+        List<BibFileSnapshot.Block> blocks = BibFileSnapshot.split(FILE);
+
+        assertEquals(List.of(false, false, true, true, false), blocks.stream().map(BibFileSnapshot.Block::isEntry).toList());
+        assertEquals("@Article{first,\n  title = {First {Title}},\n}", blocks.get(2).entryText());
+    }
+
+    @Test
+    void unchangedFileHasNoChanges() throws IOException {
+        BibFileSnapshot snapshot = snapshotOf(FILE);
+
+        assertTrue(snapshot.compare(BibFileSnapshot.split(FILE.replace("\n", "\r\n"))).orElseThrow().isEmpty());
+    }
+
+    @Test
+    void changedEntryIsOnlyChange() throws IOException {
+        BibFileSnapshot snapshot = snapshotOf(FILE);
+
+        BibFileSnapshot.Changes changes = snapshot.compare(BibFileSnapshot.split(FILE.replace("{Second}", "{Changed}"))).orElseThrow();
+
+        assertEquals(1, changes.addedEntryBlocks().size());
+        assertTrue(changes.addedEntryBlocks().getFirst().text().contains("{Changed}"));
+        assertEquals(List.of(Optional.of("second")), changes.removedEntries().stream().map(BibEntry::getCitationKey).toList());
+    }
+
+    @Test
+    void snapshotIsUpdated() throws IOException {
+        BibFileSnapshot snapshot = snapshotOf(FILE);
+        String changedFile = FILE.replace("{Second}", "{Changed}");
+        BibFileSnapshot.Changes changes = snapshot.compare(BibFileSnapshot.split(changedFile)).orElseThrow();
+
+        assertTrue(snapshot.update(changes, parse(changes.addedEntryBlocks().getFirst().text())));
+        assertTrue(snapshot.compare(BibFileSnapshot.split(changedFile)).orElseThrow().isEmpty());
+    }
+
+    @Test
+    void changedStringRequiresCompleteComparison() throws IOException {
+        BibFileSnapshot snapshot = snapshotOf(FILE);
+
+        assertEquals(Optional.empty(), snapshot.compare(BibFileSnapshot.split(FILE.replace("{JabRef}", "{Other}"))));
+    }
+
+    @Test
+    void entriesNotCorrespondingToBlocksAreRejected() throws IOException {
+        assertEquals(Optional.empty(), BibFileSnapshot.of(BibFileSnapshot.split(FILE), parse(FILE).reversed()));
+    }
+
+    private BibFileSnapshot snapshotOf(String content) throws IOException {
+        return BibFileSnapshot.of(BibFileSnapshot.split(content), parse(content)).orElseThrow();
+    }
+
+    private List<BibEntry> parse(String content) throws IOException {
+        return new BibtexParser(importFormatPreferences).parse(Reader.of(content)).getDatabase().getEntries();
+    }
+}
@@ -0,0 +1,112 @@
+package org.jabref.gui.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+import org.jabref.gui.maintable.BibEntryTableViewModel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class FilteredListProxyTest {
+
+    private List<BibEntryTableViewModel> rows;
+    private Set<BibEntryTableViewModel> visibleRows;
+    private FilteredList<BibEntryTableViewModel> filteredList;
+
+    private final List<BibEntryTableViewModel> added = new ArrayList<>();
+    private final List<BibEntryTableViewModel> removed = new ArrayList<>();
+    private final List<BibEntryTableViewModel> updated = new ArrayList<>();
+    private List<BibEntryTableViewModel> replayedList;
+
+    @BeforeEach
+    void setUp() {
+        rows = IntStream.range(0, 6).mapToObj(_ -> mock(BibEntryTableViewModel.class)).toList();
+        ObservableList<BibEntryTableViewModel> source = FXCollections.observableArrayList(rows);
+        visibleRows = new HashSet<>(List.of(rows.get(0), rows.get(1), rows.get(3), rows.get(5)));
+        filteredList = new FilteredList<>(source, row -> visibleRows.contains(row));
+
+        replayedList = new ArrayList<>(filteredList);
+        filteredList.addListener((ListChangeListener<BibEntryTableViewModel>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    updated.addAll(change.getList().subList(change.getFrom(), change.getTo()));
+                } else {
+                    removed.addAll(change.getRemoved());
+                    added.addAll(change.getAddedSubList());
+                    replayedList.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                    replayedList.addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    @Test
+    void refilterAddsRemovesAndUpdatesRows() {
+        // Row 0 is not refiltered, thus it stays visible
+        visibleRows = new HashSet<>(List.of(rows.get(2), rows.get(3), rows.get(4)));
+        BitSet sourceRows = new BitSet();
+        sourceRows.set(1, 6);
+
+        FilteredListProxy.refilterListReflection(filteredList, sourceRows);
+
+        List<BibEntryTableViewModel> expected = List.of(rows.get(0), rows.get(2), rows.get(3), rows.get(4));
+        assertEquals(expected, filteredList);
+        assertEquals(expected, replayedList);
+        assertEquals(List.of(rows.get(2), rows.get(4)), added);
+        assertEquals(List.of(rows.get(1), rows.get(5)), removed);
+        assertEquals(List.of(rows.get(3)), updated);
+    }
+
+    @Test
+    void refilterOfNonAdjacentRowsKeepsRowsInBetween() {
+        visibleRows = new HashSet<>(List.of(rows.get(2), rows.get(3), rows.get(4)));
+        BitSet sourceRows = new BitSet();
+        sourceRows.set(0);
+        sourceRows.set(4);
+
+        FilteredListProxy.refilterListReflection(filteredList, sourceRows);
+
+        List<BibEntryTableViewModel> expected = List.of(rows.get(1), rows.get(3), rows.get(4), rows.get(5));
+        assertEquals(expected, filteredList);
+        assertEquals(expected, replayedList);
+        assertEquals(List.of(rows.get(4)), added);
+        assertEquals(List.of(rows.get(0)), removed);
+        assertEquals(List.of(), updated);
+    }
+
+    @Test
+    void refilterOfUnchangedRowsOnlyUpdates() {
+        BitSet sourceRows = new BitSet();
+        sourceRows.set(0, 6);
+
+        FilteredListProxy.refilterListReflection(filteredList, sourceRows);
+
+        List<BibEntryTableViewModel> expected = List.of(rows.get(0), rows.get(1), rows.get(3), rows.get(5));
+        assertEquals(expected, filteredList);
+        assertEquals(List.of(), added);
+        assertEquals(List.of(), removed);
+        assertEquals(expected, updated);
+    }
+
+    @Test
+    void refilterOfRowOutsideSourceThrows() {
+        BitSet sourceRows = new BitSet();
+        sourceRows.set(6);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> FilteredListProxy.refilterListReflection(filteredList, sourceRows));
+    }
+}
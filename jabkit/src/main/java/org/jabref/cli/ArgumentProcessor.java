@@ -41,7 +41,8 @@ import static picocli.CommandLine.Option;
         subcommands = {
                 GenerateCitationKeys.class,
                 CheckConsistency.class,
-//                CheckIntegrity.class,
+                Deduplicate.class,
+                CheckIntegrity.class,
                 Fetch.class,
                 Search.class,
                 Convert.class,
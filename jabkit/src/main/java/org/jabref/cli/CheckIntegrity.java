@@ -1,36 +1,111 @@
 package org.jabref.cli;
 
-import java.io.File;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityMessage;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.model.database.BibDatabaseContext;
+
+import com.airhacks.afterburner.injection.Injector;
 
 import static picocli.CommandLine.Command;
 import static picocli.CommandLine.Mixin;
 import static picocli.CommandLine.Option;
 import static picocli.CommandLine.Parameters;
+import static picocli.CommandLine.ParentCommand;
 
 @Command(name = "check-integrity", description = "Check integrity of the database.")
 class CheckIntegrity implements Runnable {
 
+    @ParentCommand
+    private ArgumentProcessor argumentProcessor;
+
     @Mixin
     private ArgumentProcessor.SharedOptions sharedOptions = new ArgumentProcessor.SharedOptions();
 
     @Parameters(index = "0", description = "BibTeX file to check", arity = "0..1")
-    private File inputFile;
+    private String inputFile;
 
     @Option(names = {"--input"}, description = "Input BibTeX file")
-    private File inputOption;
+    private String inputOption;
+
+    @Option(names = {"--output-format"}, description = "Output format: txt or csv", defaultValue = "txt")
+    private String outputFormat;
 
-    @Option(names = {"--output-format"}, description = "Output format: txt or csv")
-    private String outputFormat = "txt"; // FixMe: Default value?
+    @Option(names = {"--statistics"}, description = "Print the time spent in each checker and the number of messages it reported")
+    private boolean statistics;
 
     @Override
     public void run() {
+        String input = inputOption != null ? inputOption : inputFile;
+        if (input == null) {
+            System.out.println(Localization.lang("No input file specified."));
+            return;
+        }
+
+        Optional<ParserResult> parserResult = ArgumentProcessor.importFile(
+                input,
+                "bibtex",
+                argumentProcessor.cliPreferences,
+                sharedOptions.porcelain);
+        if (parserResult.isEmpty()) {
+            System.out.println(Localization.lang("Unable to open file '%0'.", input));
+            return;
+        }
+
+        if (parserResult.get().isInvalid()) {
+            System.out.println(Localization.lang("Input file '%0' is invalid and could not be parsed.", input));
+            return;
+        }
+
         if (!sharedOptions.porcelain) {
-            System.out.println(Localization.lang("Checking integrity of '%0'.", inputFile));
+            System.out.println(Localization.lang("Checking integrity of '%0'.", input));
             System.out.flush();
         }
 
-        // TODO: Implement integrity checking
+        BibDatabaseContext databaseContext = parserResult.get().getDatabaseContext();
+        IntegrityCheck integrityCheck = new IntegrityCheck(
+                databaseContext,
+                argumentProcessor.cliPreferences.getFilePreferences(),
+                argumentProcessor.cliPreferences.getCitationKeyPatternPreferences(),
+                Injector.instantiateModelOrService(JournalAbbreviationRepository.class),
+                JabRefCliPreferences.getInstance().getBoolean(JabRefCliPreferences.ALLOW_INTEGER_EDITION_BIBTEX));
+        List<IntegrityMessage> messages = integrityCheck.check();
+
+        if ("csv".equalsIgnoreCase(outputFormat)) {
+            System.out.println("Citation key,Field,Message");
+            for (IntegrityMessage message : messages) {
+                System.out.println(String.join(",",
+                        toCsvValue(message.entry().getCitationKey().orElse("")),
+                        toCsvValue(message.field().getName()),
+                        toCsvValue(message.message())));
+            }
+        } else {
+            messages.forEach(System.out::println);
+        }
+
+        if (!sharedOptions.porcelain && messages.isEmpty()) {
+            System.out.println(Localization.lang("No problems found."));
+        }
+
+        if (statistics) {
+            for (IntegrityCheck.CheckerStatistics checkerStatistics : integrityCheck.getCheckerStatistics()) {
+                System.out.println(String.format(Locale.ROOT, "%-60s %10.1f ms %8d runs %6d messages",
+                        checkerStatistics.checker(),
+                        checkerStatistics.duration().toNanos() / 1_000_000.0,
+                        checkerStatistics.runs(),
+                        checkerStatistics.messages()));
+            }
+        }
+    }
+
+    private static String toCsvValue(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
     }
 }
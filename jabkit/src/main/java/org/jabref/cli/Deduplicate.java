@@ -0,0 +1,88 @@
+package org.jabref.cli;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.database.DuplicateFinder;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.l10n.Localization;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+
+import static picocli.CommandLine.Command;
+import static picocli.CommandLine.Mixin;
+import static picocli.CommandLine.Option;
+import static picocli.CommandLine.ParentCommand;
+
+@Command(name = "deduplicate", description = "Find duplicate entries in a .bib file and optionally write the library without them.")
+class Deduplicate implements Runnable {
+
+    @ParentCommand
+    private ArgumentProcessor argumentProcessor;
+
+    @Mixin
+    private ArgumentProcessor.SharedOptions sharedOptions = new ArgumentProcessor.SharedOptions();
+
+    @Option(names = "--input", description = "The input .bib file.", required = true)
+    private String inputFile;
+
+    @Option(names = "--output", description = "The output .bib file. Of each pair of duplicates, the entry appearing later in the input is left out.")
+    private Path outputFile;
+
+    @Override
+    public void run() {
+        Optional<ParserResult> parserResult = ArgumentProcessor.importFile(
+                inputFile,
+                "bibtex",
+                argumentProcessor.cliPreferences,
+                sharedOptions.porcelain);
+        if (parserResult.isEmpty()) {
+            System.out.println(Localization.lang("Unable to open file '%0'.", inputFile));
+            return;
+        }
+
+        if (parserResult.get().isInvalid()) {
+            System.out.println(Localization.lang("Input file '%0' is invalid and could not be parsed.", inputFile));
+            return;
+        }
+
+        if (!sharedOptions.porcelain) {
+            System.out.println(Localization.lang("Checking for duplicates in '%0'.", inputFile));
+        }
+
+        BibDatabaseContext databaseContext = parserResult.get().getDatabaseContext();
+        List<DuplicateFinder.DuplicatePair> duplicates = new DuplicateFinder(argumentProcessor.entryTypesManager)
+                .findDuplicates(databaseContext.getEntries(), databaseContext.getMode());
+
+        for (DuplicateFinder.DuplicatePair duplicate : duplicates) {
+            System.out.println(getDescription(duplicate.first()) + "\t" + getDescription(duplicate.second()));
+        }
+        if (!sharedOptions.porcelain) {
+            System.out.println(Localization.lang("Found %0 pairs of duplicates.", String.valueOf(duplicates.size())));
+        }
+
+        if (outputFile != null) {
+            Set<BibEntry> toBeRemoved = Collections.newSetFromMap(new IdentityHashMap<>());
+            duplicates.forEach(duplicate -> toBeRemoved.add(duplicate.second()));
+            databaseContext.getDatabase().removeEntries(List.copyOf(toBeRemoved));
+            if (!sharedOptions.porcelain) {
+                System.out.println(Localization.lang("Removed %0 duplicates.", String.valueOf(toBeRemoved.size())));
+            }
+            ArgumentProcessor.saveDatabase(
+                    argumentProcessor.cliPreferences,
+                    argumentProcessor.entryTypesManager,
+                    databaseContext.getDatabase(),
+                    outputFile);
+        }
+    }
+
+    private static String getDescription(BibEntry entry) {
+        return entry.getCitationKey()
+                    .or(entry::getTitle)
+                    .orElse(entry.getId());
+    }
+}
@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.PatternSyntaxException;
 
 import org.jabref.logic.exporter.Exporter;
 import org.jabref.logic.exporter.ExporterFactory;
@@ -13,11 +15,14 @@ import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.search.DatabaseSearcher;
 import org.jabref.logic.search.IndexManager;
 import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.SearchBackend;
 import org.jabref.logic.search.SearchPreferences;
+import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.logic.util.CurrentThreadTaskExecutor;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchFlags;
 import org.jabref.model.search.query.SearchQuery;
 
 import com.airhacks.afterburner.injection.Injector;
@@ -68,25 +73,21 @@ class Search implements Runnable {
             return;
         }
 
-        PostgreServer postgreServer = new PostgreServer();
-        IndexManager.clearOldSearchIndices();
-
         SearchPreferences searchPreferences = argumentProcessor.cliPreferences.getSearchPreferences();
         SearchQuery searchQuery = new SearchQuery(query, searchPreferences.getSearchFlags());
 
         BibDatabaseContext databaseContext = parserResult.get().getDatabaseContext();
         List<BibEntry> matches;
-        try {
-            // extract current thread task executor from indexManager
-            matches = new DatabaseSearcher(searchQuery,
-                    databaseContext,
-                    new CurrentThreadTaskExecutor(),
-                    argumentProcessor.cliPreferences,
-                    postgreServer
-            ).getMatches();
-        } catch (IOException ex) {
-            LOGGER.error("Error occurred when searching", ex);
-            return;
+        if (searchQuery.getSearchFlags().contains(SearchFlags.FULLTEXT)) {
+            // Only the index of the linked files can answer full-text queries
+            try {
+                matches = searchIndex(searchQuery, databaseContext, searchPreferences.getSearchBackend());
+            } catch (IOException ex) {
+                LOGGER.error("Error occurred when searching", ex);
+                return;
+            }
+        } else {
+            matches = searchEntries(searchQuery, databaseContext);
         }
 
         // export matches
@@ -128,4 +129,50 @@ class Search implements Runnable {
             }
         }
     }
+
+    /**
+     * Searches the library once without building any index. The query is evaluated directly against the parsed entries,
+     * which avoids starting the embedded PostgreSQL server and indexing the whole library.
+     *
+     * @return The matches in the order they appear in the library.
+     */
+    private List<BibEntry> searchEntries(SearchQuery searchQuery, BibDatabaseContext databaseContext) {
+        LOGGER.debug("Search term: {}", searchQuery);
+        if (!searchQuery.isValid()) {
+            LOGGER.warn("Search failed: invalid search expression");
+            return List.of();
+        }
+
+        Predicate<BibEntry> predicate;
+        try {
+            predicate = SearchQueryConversion.searchToEntryPredicate(
+                    searchQuery,
+                    databaseContext.getDatabase(),
+                    argumentProcessor.cliPreferences.getBibEntryPreferences().getKeywordSeparator());
+        } catch (PatternSyntaxException ex) {
+            LOGGER.warn("Search failed: invalid regular expression in search expression", ex);
+            return List.of();
+        }
+        return databaseContext.getDatabase().getEntries().stream()
+                              .filter(entry -> !entry.getFields().isEmpty())
+                              .filter(predicate)
+                              .toList();
+    }
+
+    /**
+     * Indexes the library with the configured search backend and searches the index
+     */
+    private List<BibEntry> searchIndex(SearchQuery searchQuery, BibDatabaseContext databaseContext, SearchBackend searchBackend) throws IOException {
+        PostgreServer postgreServer = (searchBackend == SearchBackend.POSTGRES) ? new PostgreServer() : null;
+        IndexManager.clearOldSearchIndices();
+
+        // extract current thread task executor from indexManager
+        return new DatabaseSearcher(searchQuery,
+                databaseContext,
+                new CurrentThreadTaskExecutor(),
+                argumentProcessor.cliPreferences,
+                postgreServer,
+                searchBackend
+        ).getMatches();
+    }
 }
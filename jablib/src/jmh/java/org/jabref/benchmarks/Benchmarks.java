@@ -20,6 +20,12 @@ import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.logic.search.BibFieldsIndex;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.search.indexing.InMemoryBibFieldsIndex;
+import org.jabref.logic.search.indexing.PostgresBibFieldsIndex;
+import org.jabref.logic.util.BackgroundTask;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -33,6 +39,8 @@ import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
 
 import com.airhacks.afterburner.injection.Injector;
 import org.mockito.Answers;
@@ -41,6 +49,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 
 import static org.mockito.Mockito.mock;
 
@@ -51,6 +60,10 @@ public class Benchmarks {
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
+    private PostgreServer postgreServer;
+    private BibFieldsIndex postgresIndex;
+    private BibFieldsIndex inMemoryIndex;
+    private final SearchQuery searchQuery = new SearchQuery("title = \"title 42\" OR author == LastnameA");
 
     @Setup
     public void init() throws IOException {
@@ -74,6 +87,22 @@ public class Benchmarks {
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
+
+        postgreServer = new PostgreServer();
+
+        CliPreferences preferences = Injector.instantiateModelOrService(CliPreferences.class);
+        BibDatabaseContext databaseContext = new BibDatabaseContext(database, new MetaData());
+        postgresIndex = new PostgresBibFieldsIndex(preferences.getBibEntryPreferences(), databaseContext, postgreServer);
+        postgresIndex.updateOnStart(BackgroundTask.wrap(() -> { }));
+        inMemoryIndex = new InMemoryBibFieldsIndex(preferences.getBibEntryPreferences(), databaseContext);
+        inMemoryIndex.updateOnStart(BackgroundTask.wrap(() -> { }));
+    }
+
+    @TearDown
+    public void shutdown() {
+        postgresIndex.closeAndWait();
+        inMemoryIndex.closeAndWait();
+        postgreServer.shutdown();
     }
 
     private StringWriter getOutputWriter() throws IOException {
@@ -106,15 +135,22 @@ public class Benchmarks {
     }
 
     @Benchmark
-    public List<BibEntry> search() {
-        // TODO: Create Benchmark for LuceneSearch
-        return List.of();
+    public SearchResults searchPostgres() {
+        return postgresIndex.search(searchQuery);
     }
 
     @Benchmark
-    public List<BibEntry> index() {
-        // TODO: Create Benchmark for LuceneIndexer
-        return List.of();
+    public SearchResults searchInMemory() {
+        return inMemoryIndex.search(searchQuery);
+    }
+
+    @Benchmark
+    public String index() {
+        CliPreferences preferences = Injector.instantiateModelOrService(CliPreferences.class);
+        BibFieldsIndexer indexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), new BibDatabaseContext(database, new MetaData()), postgreServer);
+        indexer.updateOnStart(BackgroundTask.wrap(() -> { }));
+        indexer.closeAndWait();
+        return indexer.getTable();
     }
 
     @Benchmark
@@ -0,0 +1,83 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.citationstyle.CSLStyleLoader;
+import org.jabref.logic.citationstyle.CitationStyleGenerator;
+import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the throughput of the bibliography generation with the citation style engine.
+ * <p>
+ * The concurrent benchmark renders single entries from several threads, as preview rendering and OpenOffice citation updates do.
+ * The batch benchmark renders one bibliography per entry, as the OpenOffice bibliography of numeric styles does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CitationStyleBenchmarks {
+
+    private static final BibEntryTypesManager ENTRY_TYPES_MANAGER = new BibEntryTypesManager();
+
+    @Param({"100", "1000"})
+    private int numberOfEntries;
+
+    private List<BibEntry> entries;
+    private BibDatabaseContext databaseContext;
+    private String style;
+
+    @Setup
+    public void setup() {
+        entries = IntStream.range(0, numberOfEntries)
+                           .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                   .withCitationKey("key" + i)
+                                   .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA" + i)
+                                   .withField(StandardField.TITLE, "This is my title " + i)
+                                   .withField(StandardField.JOURNAL, "Journal Title " + i)
+                                   .withField(StandardField.YEAR, String.valueOf(1900 + (i % 120)))
+                                   .withField(StandardField.PAGES, i + "--" + (i + 10)))
+                           .toList();
+        databaseContext = new BibDatabaseContext(new BibDatabase(entries));
+        databaseContext.setMode(BibDatabaseMode.BIBLATEX);
+        style = CSLStyleLoader.getDefaultStyle().getSource();
+
+        // Creates the first engine, so that it is not measured
+        CitationStyleGenerator.generateBibliography(List.of(entries.getFirst()), style, CitationStyleOutputFormat.HTML, databaseContext, ENTRY_TYPES_MANAGER);
+    }
+
+    @Benchmark
+    public List<String> bibliography() {
+        return CitationStyleGenerator.generateBibliography(entries, style, CitationStyleOutputFormat.HTML, databaseContext, ENTRY_TYPES_MANAGER);
+    }
+
+    @Benchmark
+    public List<String> bibliographyPerEntry() {
+        return CitationStyleGenerator.generateBibliographies(entries, style, CitationStyleOutputFormat.HTML, databaseContext, ENTRY_TYPES_MANAGER);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<String> singleEntryBibliographyConcurrently() {
+        BibEntry entry = entries.get((int) (Thread.currentThread().threadId() % numberOfEntries));
+        return CitationStyleGenerator.generateBibliography(List.of(entry), style, CitationStyleOutputFormat.HTML, databaseContext, ENTRY_TYPES_MANAGER);
+    }
+}
@@ -0,0 +1,110 @@
+package org.jabref.benchmarks;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.ai.ingestion.EmbeddingsIndex;
+
+import org.h2.mvstore.MVStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the latency of the clustered search of the {@link EmbeddingsIndex} with the exhaustive search.
+ * <p>
+ * The recall of the clustered search (the share of the exact top 10 results found) is printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmbeddingsIndexBenchmarks {
+
+    // Dimension of the embeddings of the default embedding model (all-MiniLM-L6-v2)
+    private static final int DIMENSION = 384;
+    private static final int MAX_RESULTS = 10;
+    private static final int NUMBER_OF_QUERIES = 100;
+
+    @Param({"10000", "100000"})
+    private int numberOfEmbeddings;
+
+    private EmbeddingsIndex index;
+    private float[][] queries;
+    private int nextQuery;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        index = new EmbeddingsIndex(new MVStore.Builder().open());
+
+        // Text segments of the same document have similar embeddings
+        float[] documentEmbedding = randomVector(random);
+        for (int i = 0; i < numberOfEmbeddings; i++) {
+            if ((i % 50) == 0) {
+                documentEmbedding = randomVector(random);
+            }
+            float[] vector = new float[DIMENSION];
+            for (int d = 0; d < DIMENSION; d++) {
+                vector[d] = documentEmbedding[d] + (float) (0.5 * random.nextGaussian());
+            }
+            index.add("id" + i, "file" + (i / 50) + ".pdf", vector);
+        }
+
+        queries = new float[NUMBER_OF_QUERIES][];
+        for (int i = 0; i < NUMBER_OF_QUERIES; i++) {
+            queries[i] = randomVector(random);
+        }
+
+        // Triggers the clustering, so that it is not measured
+        index.search(queries[0], MAX_RESULTS, -1, null);
+
+        int found = 0;
+        int expected = 0;
+        for (float[] query : queries) {
+            Set<String> exact = new HashSet<>(getIds(index.searchExactly(query, MAX_RESULTS, -1, null)));
+            expected += exact.size();
+            found += (int) getIds(index.search(query, MAX_RESULTS, -1, null)).stream().filter(exact::contains).count();
+        }
+        System.out.printf("%nRecall of the clustered search at %d embeddings: %.3f%n", numberOfEmbeddings, (double) found / expected);
+    }
+
+    @Benchmark
+    public List<EmbeddingsIndex.SearchHit> clusteredSearch() {
+        return index.search(nextQuery(), MAX_RESULTS, -1, null);
+    }
+
+    @Benchmark
+    public List<EmbeddingsIndex.SearchHit> exhaustiveSearch() {
+        return index.searchExactly(nextQuery(), MAX_RESULTS, -1, null);
+    }
+
+    @Benchmark
+    public List<EmbeddingsIndex.SearchHit> clusteredSearchInOneFile() {
+        return index.search(nextQuery(), MAX_RESULTS, -1, "file7.pdf"::equals);
+    }
+
+    private float[] nextQuery() {
+        nextQuery = (nextQuery + 1) % NUMBER_OF_QUERIES;
+        return queries[nextQuery];
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int d = 0; d < DIMENSION; d++) {
+            vector[d] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static List<String> getIds(List<EmbeddingsIndex.SearchHit> hits) {
+        return hits.stream().map(EmbeddingsIndex.SearchHit::id).toList();
+    }
+}
@@ -0,0 +1,91 @@
+package org.jabref.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the heap retained by large synthetic libraries.
+ * <p>
+ * After each iteration, the used heap is determined after a full garbage collection, once with the created library and once without.
+ * The difference is printed as retained heap. The measured time includes creating the library only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LargeLibraryBenchmarks {
+
+    private static final int GARBAGE_COLLECTION_RUNS = 5;
+
+    @Param({"50000", "200000"})
+    private int numberOfEntries;
+
+    // The library created by the last invocation, kept until its retained heap is measured
+    private BibDatabase library;
+
+    @Benchmark
+    public BibDatabase createLibrary() {
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < numberOfEntries; i++) {
+            database.insertEntry(createEntry(i));
+        }
+        library = database;
+        return database;
+    }
+
+    @Benchmark
+    public BibDatabase createLibraryAndAccessLatexFreeFields() {
+        BibDatabase database = createLibrary();
+        for (BibEntry entry : database.getEntries()) {
+            entry.getFieldLatexFree(StandardField.TITLE);
+            entry.getFieldLatexFree(StandardField.AUTHOR);
+        }
+        return database;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printRetainedHeap() {
+        long usedHeapWithLibrary = getUsedHeapAfterGarbageCollection();
+        library = null;
+        long usedHeapWithoutLibrary = getUsedHeapAfterGarbageCollection();
+        long retainedBytes = usedHeapWithLibrary - usedHeapWithoutLibrary;
+        System.out.printf("%nRetained heap of %d entries: %d KiB (%d bytes per entry)%n", numberOfEntries, retainedBytes / 1024, retainedBytes / numberOfEntries);
+    }
+
+    private static long getUsedHeapAfterGarbageCollection() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        // Several runs, because a single one does not necessarily collect everything unreachable
+        for (int i = 0; i < GARBAGE_COLLECTION_RUNS; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static BibEntry createEntry(int i) {
+        return new BibEntry(StandardEntryType.Article)
+                .withCitationKey("key" + i)
+                .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA {\\\"O}sterreich and FirstnameB LastnameB" + i)
+                .withField(StandardField.TITLE, "This is my {T}itle " + i)
+                .withField(StandardField.JOURNAL, "Journal Title " + (i % 100))
+                .withField(StandardField.YEAR, String.valueOf(1900 + (i % 125)))
+                .withField(StandardField.KEYWORDS, "keyword" + (i % 10) + ", testkeyword")
+                .withField(StandardField.DOI, "10.1000/" + i)
+                .withField(new UnknownField("rnd"), String.valueOf(i * 31));
+    }
+}
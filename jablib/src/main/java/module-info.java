@@ -45,6 +45,7 @@ open module org.jabref.jablib {
     exports org.jabref.logic.push;
     exports org.jabref.model.search.event;
     exports org.jabref.model.search.matchers;
+    exports org.jabref.model.paging;
     exports org.jabref.model.entry.identifier;
     exports org.jabref.model.entry.types;
     exports org.jabref.logic.importer.util;
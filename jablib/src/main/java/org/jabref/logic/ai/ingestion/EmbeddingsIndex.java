@@ -0,0 +1,344 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import jakarta.annotation.Nullable;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An approximate nearest neighbour index of embeddings (inverted file index, IVF), used by {@link MVStoreEmbeddingStore}.
+ * <p>
+ * The embeddings are normalized and kept in one contiguous array, so that the cosine similarity of two embeddings is their dot product.
+ * As soon as there are enough embeddings, they are partitioned into clusters using k-means.
+ * A search only scans the embeddings of the clusters whose centroids are most similar to the query.
+ * The similarity of each scanned embedding is computed exactly. Thus, only embeddings of clusters not scanned can be missed.
+ * <p>
+ * The centroids and the assignment of the embeddings to the clusters are persisted in the {@link MVStore} of the embeddings,
+ * so that the clustering is not repeated in the next session.
+ */
+public class EmbeddingsIndex {
+
+    /**
+     * @param id               the id of the embedding
+     * @param cosineSimilarity the cosine similarity of the embedding and the query
+     */
+    public record SearchHit(String id, double cosineSimilarity) {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmbeddingsIndex.class);
+
+    private static final String CENTROIDS_MAP_NAME = "embeddingsIndexCentroids";
+    private static final String CLUSTERS_MAP_NAME = "embeddingsIndexClusters";
+
+    private static final int DEFAULT_MIN_EMBEDDINGS_FOR_CLUSTERING = 4096;
+    private static final int K_MEANS_ITERATIONS = 8;
+    private static final int K_MEANS_SAMPLES_PER_CLUSTER = 40;
+    private static final int MIN_PROBED_CLUSTERS = 4;
+    private static final double PROBED_CLUSTERS_RATIO = 0.1;
+
+    private final int minEmbeddingsForClustering;
+    private final MVMap<Integer, float[]> centroidsMap;
+    private final MVMap<String, Integer> clustersMap;
+
+    private int dimension = -1;
+    private int size;
+    private float[] vectors = new float[0];
+    private String[] ids = new String[0];
+    private String[] files = new String[0];
+    private int[] clusters = new int[0];
+    private final Map<String, Integer> rowsById = new HashMap<>();
+
+    // null as long as the embeddings are not clustered
+    private float[][] centroids;
+    private int sizeAtClustering;
+
+    public EmbeddingsIndex(MVStore mvStore) {
+        this(mvStore, DEFAULT_MIN_EMBEDDINGS_FOR_CLUSTERING);
+    }
+
+    EmbeddingsIndex(MVStore mvStore, int minEmbeddingsForClustering) {
+        this.minEmbeddingsForClustering = minEmbeddingsForClustering;
+        this.centroidsMap = mvStore.openMap(CENTROIDS_MAP_NAME);
+        this.clustersMap = mvStore.openMap(CLUSTERS_MAP_NAME);
+
+        if (!centroidsMap.isEmpty()) {
+            centroids = new float[centroidsMap.size()][];
+            centroidsMap.forEach((cluster, centroid) -> centroids[cluster] = centroid);
+            dimension = centroids[0].length;
+        }
+    }
+
+    /**
+     * Adds the embedding to the index. In case there already is an embedding with the same id, it is replaced.
+     */
+    public synchronized void add(String id, @Nullable String file, float[] vector) {
+        if (dimension == -1) {
+            dimension = vector.length;
+        } else if (vector.length != dimension) {
+            LOGGER.warn("Embedding {} has dimension {} instead of {}. It is not indexed.", id, vector.length, dimension);
+            return;
+        }
+        if (rowsById.containsKey(id)) {
+            remove(id);
+        }
+
+        ensureCapacity(size + 1);
+        int row = size++;
+        System.arraycopy(normalize(vector), 0, vectors, row * dimension, dimension);
+        ids[row] = id;
+        files[row] = file;
+        rowsById.put(id, row);
+
+        if (centroids != null) {
+            Integer cluster = clustersMap.get(id);
+            if ((cluster == null) || (cluster >= centroids.length)) {
+                cluster = getNearestCentroid(vectors, row * dimension);
+                clustersMap.put(id, cluster);
+            }
+            clusters[row] = cluster;
+        }
+    }
+
+    public synchronized void remove(String id) {
+        Integer row = rowsById.remove(id);
+        clustersMap.remove(id);
+        if (row == null) {
+            return;
+        }
+
+        // The last row is moved to the removed row to keep the rows contiguous
+        int last = --size;
+        if (row != last) {
+            System.arraycopy(vectors, last * dimension, vectors, row * dimension, dimension);
+            ids[row] = ids[last];
+            files[row] = files[last];
+            clusters[row] = clusters[last];
+            rowsById.put(ids[row], row);
+        }
+        ids[last] = null;
+        files[last] = null;
+    }
+
+    public synchronized void clear() {
+        size = 0;
+        dimension = -1;
+        vectors = new float[0];
+        ids = new String[0];
+        files = new String[0];
+        clusters = new int[0];
+        rowsById.clear();
+        centroids = null;
+        centroidsMap.clear();
+        clustersMap.clear();
+    }
+
+    /**
+     * Finds the embeddings most similar to the query. Only the clusters most similar to the query are scanned.
+     * In case these clusters do not contain enough embeddings passing the filter, all embeddings are scanned.
+     *
+     * @param fileFilter only embeddings of files passing the filter are considered. If null, all embeddings are considered.
+     * @return the embeddings found, the most similar first
+     */
+    public synchronized List<SearchHit> search(float[] query, int maxResults, double minCosineSimilarity, @Nullable Predicate<String> fileFilter) {
+        if (size == 0) {
+            return List.of();
+        }
+        float[] normalizedQuery = normalize(checkDimension(query));
+        updateClustering();
+
+        if (centroids != null) {
+            List<SearchHit> hits = scan(normalizedQuery, maxResults, minCosineSimilarity, fileFilter, getProbedClusters(normalizedQuery));
+            if (hits.size() >= maxResults) {
+                return hits;
+            }
+        }
+        return scan(normalizedQuery, maxResults, minCosineSimilarity, fileFilter, null);
+    }
+
+    /**
+     * Finds the embeddings most similar to the query by comparing the query with all embeddings.
+     */
+    public synchronized List<SearchHit> searchExactly(float[] query, int maxResults, double minCosineSimilarity, @Nullable Predicate<String> fileFilter) {
+        if (size == 0) {
+            return List.of();
+        }
+        return scan(normalize(checkDimension(query)), maxResults, minCosineSimilarity, fileFilter, null);
+    }
+
+    synchronized boolean isClustered() {
+        return centroids != null;
+    }
+
+    private float[] checkDimension(float[] query) {
+        if (query.length != dimension) {
+            throw new IllegalArgumentException("Length of vector a (" + query.length + ") must be equal to the length of vector b (" + dimension + ")");
+        }
+        return query;
+    }
+
+    /**
+     * @param probedClusters the clusters to scan. If null, all embeddings are scanned.
+     */
+    private List<SearchHit> scan(float[] query, int maxResults, double minCosineSimilarity, @Nullable Predicate<String> fileFilter, @Nullable boolean[] probedClusters) {
+        // Min-heap of rows, the least similar row on top
+        PriorityQueue<SearchHit> best = new PriorityQueue<>(Comparator.comparingDouble(SearchHit::cosineSimilarity));
+        for (int row = 0; row < size; row++) {
+            if (((probedClusters != null) && !probedClusters[clusters[row]])
+                    || ((fileFilter != null) && !fileFilter.test(files[row]))) {
+                continue;
+            }
+            double similarity = dotProduct(query, vectors, row * dimension);
+            if ((similarity < minCosineSimilarity)
+                    || ((best.size() == maxResults) && (similarity <= best.peek().cosineSimilarity()))) {
+                continue;
+            }
+            best.add(new SearchHit(ids[row], similarity));
+            if (best.size() > maxResults) {
+                best.poll();
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(best);
+        hits.sort(Comparator.comparingDouble(SearchHit::cosineSimilarity).reversed());
+        return hits;
+    }
+
+    private boolean[] getProbedClusters(float[] query) {
+        int numberOfProbedClusters = Math.max(MIN_PROBED_CLUSTERS, (int) Math.ceil(centroids.length * PROBED_CLUSTERS_RATIO));
+        Integer[] byDescendingSimilarity = IntStream.range(0, centroids.length).boxed().toArray(Integer[]::new);
+        double[] similarities = new double[centroids.length];
+        for (int cluster = 0; cluster < centroids.length; cluster++) {
+            similarities[cluster] = dotProduct(query, centroids[cluster], 0);
+        }
+        Arrays.sort(byDescendingSimilarity, Comparator.comparingDouble(cluster -> -similarities[cluster]));
+
+        boolean[] probed = new boolean[centroids.length];
+        for (int i = 0; i < Math.min(numberOfProbedClusters, centroids.length); i++) {
+            probed[byDescendingSimilarity[i]] = true;
+        }
+        return probed;
+    }
+
+    /**
+     * Clusters the embeddings as soon as there are enough of them, and again as soon as their number doubled.
+     */
+    private void updateClustering() {
+        if (size < minEmbeddingsForClustering) {
+            return;
+        }
+        if (centroids == null) {
+            cluster();
+        } else if (sizeAtClustering == 0) {
+            // The clustering was loaded
+            sizeAtClustering = size;
+        } else if (size > (2 * sizeAtClustering)) {
+            cluster();
+        }
+    }
+
+    /**
+     * Spherical k-means on a sample of the embeddings
+     */
+    private void cluster() {
+        int numberOfClusters = Math.max(1, (int) Math.sqrt(size));
+        LOGGER.debug("Clustering {} embeddings into {} clusters", size, numberOfClusters);
+        Random random = new Random(size);
+        int[] sample = random.ints(0, size).distinct().limit(Math.min(size, (long) numberOfClusters * K_MEANS_SAMPLES_PER_CLUSTER)).toArray();
+
+        float[][] newCentroids = new float[numberOfClusters][];
+        for (int cluster = 0; cluster < numberOfClusters; cluster++) {
+            newCentroids[cluster] = Arrays.copyOfRange(vectors, sample[cluster % sample.length] * dimension, (sample[cluster % sample.length] + 1) * dimension);
+        }
+        centroids = newCentroids;
+
+        for (int iteration = 0; iteration < K_MEANS_ITERATIONS; iteration++) {
+            int[] assignments = Arrays.stream(sample).parallel().map(row -> getNearestCentroid(vectors, row * dimension)).toArray();
+            float[][] sums = new float[numberOfClusters][dimension];
+            int[] counts = new int[numberOfClusters];
+            for (int i = 0; i < sample.length; i++) {
+                counts[assignments[i]]++;
+                int offset = sample[i] * dimension;
+                float[] sum = sums[assignments[i]];
+                for (int d = 0; d < dimension; d++) {
+                    sum[d] += vectors[offset + d];
+                }
+            }
+            for (int cluster = 0; cluster < numberOfClusters; cluster++) {
+                if (counts[cluster] == 0) {
+                    // Reseed an empty cluster with a random embedding
+                    int row = sample[random.nextInt(sample.length)];
+                    newCentroids[cluster] = Arrays.copyOfRange(vectors, row * dimension, (row + 1) * dimension);
+                } else {
+                    newCentroids[cluster] = normalize(sums[cluster]);
+                }
+            }
+        }
+
+        clusters = Arrays.copyOf(IntStream.range(0, size).parallel().map(row -> getNearestCentroid(vectors, row * dimension)).toArray(), ids.length);
+        sizeAtClustering = size;
+
+        centroidsMap.clear();
+        for (int cluster = 0; cluster < numberOfClusters; cluster++) {
+            centroidsMap.put(cluster, centroids[cluster]);
+        }
+        clustersMap.clear();
+        for (int row = 0; row < size; row++) {
+            clustersMap.put(ids[row], clusters[row]);
+        }
+    }
+
+    private int getNearestCentroid(float[] vectorArray, int offset) {
+        int nearest = 0;
+        double bestSimilarity = Double.NEGATIVE_INFINITY;
+        for (int cluster = 0; cluster < centroids.length; cluster++) {
+            double similarity = dotProduct(centroids[cluster], vectorArray, offset);
+            if (similarity > bestSimilarity) {
+                bestSimilarity = similarity;
+                nearest = cluster;
+            }
+        }
+        return nearest;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length * 2);
+        vectors = Arrays.copyOf(vectors, newCapacity * dimension);
+        ids = Arrays.copyOf(ids, newCapacity);
+        files = Arrays.copyOf(files, newCapacity);
+        clusters = Arrays.copyOf(clusters, newCapacity);
+    }
+
+    private static double dotProduct(float[] vector, float[] vectorArray, int offset) {
+        double product = 0;
+        for (int d = 0; d < vector.length; d++) {
+            product += vector[d] * vectorArray[offset + d];
+        }
+        return product;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = Math.sqrt(dotProduct(vector, vector, 0));
+        float[] normalized = new float[vector.length];
+        if (norm > 0) {
+            for (int d = 0; d < vector.length; d++) {
+                normalized[d] = (float) (vector[d] / norm);
+            }
+        }
+        return normalized;
+    }
+}
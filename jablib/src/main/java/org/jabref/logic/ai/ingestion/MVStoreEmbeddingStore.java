@@ -4,15 +4,12 @@ import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.PriorityQueue;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
@@ -21,7 +18,6 @@ import org.jabref.logic.util.NotificationService;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
@@ -33,7 +29,6 @@ import dev.langchain4j.store.embedding.filter.comparison.IsIn;
 import jakarta.annotation.Nullable;
 import org.h2.mvstore.MVStore;
 
-import static java.util.Comparator.comparingDouble;
 import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
 
 /**
@@ -42,6 +37,7 @@ import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_
  * Every embedding has 3 fields: float array (the embedding itself), file where it was generated from, and the embedded
  * string (the content).
  * <p>
+ * Searches are answered by an {@link EmbeddingsIndex}, which is loaded on the first search and kept up to date afterward.
  */
 public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore<TextSegment> {
     // `file` field is nullable, because {@link Optional} can't be serialized.
@@ -50,11 +46,14 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     private static final String EMBEDDINGS_MAP_NAME = "embeddings";
 
     private final Map<String, EmbeddingRecord> embeddingsMap;
+    private final EmbeddingsIndex index;
+    private boolean indexLoaded;
 
     public MVStoreEmbeddingStore(Path path, NotificationService dialogService) {
         super(path, dialogService);
 
         this.embeddingsMap = this.mvStore.openMap(EMBEDDINGS_MAP_NAME);
+        this.index = new EmbeddingsIndex(this.mvStore);
     }
 
     @Override
@@ -76,14 +75,14 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     public void add(String id, Embedding embedding) {
         // It does not make much sense to store single embedding vector, but this is a requirement from langchain4j's
         // {@link EmbeddingStore}.
-        embeddingsMap.put(id, new EmbeddingRecord(null, "", embedding.vector()));
+        put(id, new EmbeddingRecord(null, "", embedding.vector()));
     }
 
     @Override
     public String add(Embedding embedding, TextSegment textSegment) {
         String id = String.valueOf(UUID.randomUUID());
         String linkedFile = textSegment.metadata().getString(LINK_METADATA_KEY);
-        embeddingsMap.put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
+        put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
         return id;
     }
 
@@ -92,20 +91,33 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
         return IntStream.range(0, embeddings.size()).mapToObj(i -> add(embeddings.get(i), embedded.get(i))).toList();
     }
 
+    private synchronized void put(String id, EmbeddingRecord embeddingRecord) {
+        embeddingsMap.put(id, embeddingRecord);
+        if (indexLoaded) {
+            index.add(id, embeddingRecord.file, embeddingRecord.embeddingVector);
+        }
+    }
+
     @Override
-    public void remove(String id) {
+    public synchronized void remove(String id) {
         embeddingsMap.remove(id);
+        index.remove(id);
     }
 
     @Override
     public void removeAll(Filter filter) {
-        List<String> idsToRemove = applyFilter(filter).toList();
+        Predicate<String> fileFilter = toFileFilter(filter);
+        List<String> idsToRemove = embeddingsMap.entrySet().stream()
+                                                .filter(entry -> (fileFilter == null) || fileFilter.test(entry.getValue().file))
+                                                .map(Map.Entry::getKey)
+                                                .toList();
         idsToRemove.forEach(this::remove);
     }
 
     @Override
-    public void removeAll() {
+    public synchronized void removeAll() {
         embeddingsMap.clear();
+        index.clear();
     }
 
     /**
@@ -120,63 +132,66 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
      */
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
-        // Source: {@link InMemoryEmbeddingStore}.
-
-        Comparator<EmbeddingMatch<TextSegment>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<TextSegment>> matches = new PriorityQueue<>(comparator);
-
-        applyFilter(request.filter()).forEach(id -> {
-            EmbeddingRecord eRecord = embeddingsMap.get(id);
-
-            double cosineSimilarity = CosineSimilarity.between(Embedding.from(eRecord.embeddingVector), request.queryEmbedding());
-            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
-
-            if (score >= request.minScore()) {
-                matches.add(
-                        new EmbeddingMatch<>(
-                                score,
-                                id,
-                                Embedding.from(eRecord.embeddingVector),
-                                new TextSegment(
-                                        eRecord.content,
-                                        new Metadata(
-                                                eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file)))));
-
-                if (matches.size() > request.maxResults()) {
-                    matches.poll();
-                }
+        // RelevanceScore.fromCosineSimilarity maps the cosine similarity from [-1, 1] to [0, 1]
+        double minCosineSimilarity = (2 * request.minScore()) - 1;
+        List<EmbeddingsIndex.SearchHit> hits = getIndex().search(
+                request.queryEmbedding().vector(),
+                request.maxResults(),
+                minCosineSimilarity,
+                toFileFilter(request.filter()));
+
+        // Text segments are only created for the embeddings found
+        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(hits.size());
+        for (EmbeddingsIndex.SearchHit hit : hits) {
+            EmbeddingRecord eRecord = embeddingsMap.get(hit.id());
+            if (eRecord == null) {
+                // Removed concurrently
+                continue;
             }
-        });
-
-        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(matches);
-        result.sort(comparator.reversed());
+            result.add(new EmbeddingMatch<>(
+                    RelevanceScore.fromCosineSimilarity(hit.cosineSimilarity()),
+                    hit.id(),
+                    Embedding.from(eRecord.embeddingVector),
+                    new TextSegment(
+                            eRecord.content,
+                            new Metadata(
+                                    eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file)))));
+        }
 
         return new EmbeddingSearchResult<>(result);
     }
 
     @Override
     public void removeAll(Collection ids) {
-        embeddingsMap.entrySet().removeIf(entry -> ids.contains(entry.getKey()));
+        List<String> idsToRemove = embeddingsMap.keySet().stream().filter(ids::contains).toList();
+        idsToRemove.forEach(this::remove);
+    }
+
+    private synchronized EmbeddingsIndex getIndex() {
+        if (!indexLoaded) {
+            embeddingsMap.forEach((id, embeddingRecord) -> index.add(id, embeddingRecord.file, embeddingRecord.embeddingVector));
+            indexLoaded = true;
+        }
+        return index;
     }
 
-    private Stream<String> applyFilter(@Nullable Filter filter) {
+    /**
+     * @return a predicate on the linked file of an embedding, or null if all embeddings pass the filter
+     */
+    private @Nullable Predicate<String> toFileFilter(@Nullable Filter filter) {
         return switch (filter) {
-            case null -> embeddingsMap.keySet().stream();
+            case null -> null;
 
             case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isInFilter.comparisonValues().contains(entry.getValue().file));
+                    file -> isInFilter.comparisonValues().contains(file);
 
             case IsEqualTo isEqualToFilter when Objects.equals(isEqualToFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isEqualToFilter.comparisonValue().equals(entry.getValue().file));
+                    file -> isEqualToFilter.comparisonValue().equals(file);
 
             default -> throw new IllegalArgumentException("Wrong filter passed to MVStoreEmbeddingStore");
         };
     }
 
-    private Stream<String> filterEntries(Predicate<Map.Entry<String, EmbeddingRecord>> predicate) {
-        return embeddingsMap.entrySet().stream().filter(predicate).map(Map.Entry::getKey);
-    }
-
     @Override
     protected String errorMessageForOpening() {
         return "An error occurred while opening the embeddings cache file. Embeddings will not be stored in the next session.";
@@ -68,9 +68,9 @@ public class BibEntryWriter {
      * @param reformat        Should the entry be in any case, even if no change occurred?
      */
     public void write(BibEntry entry, BibWriter out, BibDatabaseMode bibDatabaseMode, boolean reformat) throws IOException {
-        // if the entry has not been modified, write it as it was
+        // if the entry has not been modified, write it as it was saved or parsed
         if (!reformat && !entry.hasChanged()) {
-            out.write(entry.getParsedSerialization());
+            out.write(entry.getSavedSerialization().orElse(entry.getParsedSerialization()));
             out.finishBlock();
             return;
         }
@@ -80,6 +80,20 @@ public class BibEntryWriter {
         out.finishBlock();
     }
 
+    /**
+     * Serializes the given entry based on its fields, independent of whether it changed.
+     * The result is what {@link #write(BibEntry, BibWriter, BibDatabaseMode, boolean)} writes for a changed entry, except for the finishing of the block.
+     *
+     * @param newLineSeparator the string used for a line break
+     */
+    public String serialize(BibEntry entry, BibDatabaseMode bibDatabaseMode, String newLineSeparator) throws IOException {
+        StringWriter writer = new StringWriter();
+        BibWriter out = new BibWriter(writer, newLineSeparator);
+        writeUserComments(entry, out);
+        writeRequiredFieldsFirstRemainingFieldsSecond(entry, out, bibDatabaseMode);
+        return writer.toString();
+    }
+
     private void writeUserComments(BibEntry entry, BibWriter out) throws IOException {
         String userComments = entry.getUserComments();
 
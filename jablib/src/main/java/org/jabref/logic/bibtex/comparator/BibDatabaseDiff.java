@@ -1,17 +1,27 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.strings.StringUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +31,12 @@ public class BibDatabaseDiff {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibDatabaseDiff.class);
 
     private static final double MATCH_THRESHOLD = 0.4;
+
+    /**
+     * Number of remaining entries from which on the similarity to them is computed in parallel
+     */
+    private static final int PARALLEL_MATCHING_THRESHOLD = 100;
+
     private final Optional<MetaDataDiff> metaDataDiff;
     private final Optional<PreambleDiff> preambleDiff;
     private final List<BibStringDiff> bibStringDiffs;
@@ -66,58 +82,77 @@ public class BibDatabaseDiff {
         return comparator;
     }
 
-    private static List<BibEntryDiff> compareEntries(List<BibEntry> originalEntries, List<BibEntry> newEntries, BibDatabaseMode mode) {
+    /**
+     * Matches the entries of the original database with the entries of the new database.
+     * <p>
+     * Most entries are unchanged, thus entries are first matched in linear time: entries with the same content, then entries with the same citation key or identifier (e.g., DOI).
+     * Only the remaining entries are compared pairwise to find the most similar entry.
+     *
+     * @return the differences. An original entry without a match is reported as removed, a new entry without a match as added.
+     */
+    public static List<BibEntryDiff> compareEntries(List<BibEntry> originalEntries, List<BibEntry> newEntries, BibDatabaseMode mode) {
         List<BibEntryDiff> differences = new ArrayList<>();
 
-        // Prevent IndexOutOfBoundException
-        if (newEntries.isEmpty()) {
-            return differences;
-        }
-
         // Create a HashSet where we can put references to entries in the new
         // database that we have matched. This is to avoid matching them twice.
         Set<Integer> matchedEntries = new HashSet<>(newEntries.size());
-        Set<BibEntry> notMatched = new HashSet<>(originalEntries.size());
+        List<BibEntry> notMatched = new ArrayList<>();
 
-        // Loop through the entries of the original database, looking for exact matches in the new one.
-        // We must finish scanning for exact matches before looking for near matches, to avoid an exact
-        // match being "stolen" from another entry.
-        mainLoop:
+        // Look for exact matches first, to avoid an exact match being "stolen" from another entry.
+        Map<Map<Field, String>, Deque<Integer>> newEntriesByContent = new HashMap<>(newEntries.size());
+        for (int i = 0; i < newEntries.size(); i++) {
+            newEntriesByContent.computeIfAbsent(getContent(newEntries.get(i)), _ -> new ArrayDeque<>()).add(i);
+        }
         for (BibEntry originalEntry : originalEntries) {
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        matchedEntries.add(i);
-                        continue mainLoop;
-                    }
-                }
+            Deque<Integer> sameContent = newEntriesByContent.get(getContent(originalEntry));
+            if ((sameContent != null) && !sameContent.isEmpty()) {
+                matchedEntries.add(sameContent.poll());
+            } else {
+                notMatched.add(originalEntry);
             }
-
-            // No? Add this entry to the list of non-matched entries.
-            notMatched.add(originalEntry);
         }
 
-        // Now we've found all exact matches, look through the remaining entries, looking for close matches.
-        DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
-        for (BibEntry originalEntry : notMatched) {
-            // These two variables will keep track of which entry most closely matches the one we're looking at.
-            double bestMatch = 0;
-            int bestMatchIndex = 0;
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > bestMatch) {
-                        bestMatch = score;
-                        bestMatchIndex = i;
-                    }
+        // Changed entries usually keep their citation key or identifiers
+        Map<String, Deque<Integer>> newEntriesByKey = new HashMap<>();
+        for (int i = 0; i < newEntries.size(); i++) {
+            if (!matchedEntries.contains(i)) {
+                for (String key : getMatchingKeys(newEntries.get(i))) {
+                    newEntriesByKey.computeIfAbsent(key, _ -> new ArrayDeque<>()).add(i);
                 }
             }
-            BibEntry bestEntry = newEntries.get(bestMatchIndex);
-            if (bestMatch > MATCH_THRESHOLD
-                    || hasEqualCitationKey(originalEntry, bestEntry)
-                    || duplicateCheck.isDuplicate(originalEntry, bestEntry, mode)) {
+        }
+        List<BibEntry> notMatchedByKey = new ArrayList<>();
+        for (BibEntry originalEntry : notMatched) {
+            Optional<Integer> match = getMatchingKeys(originalEntry).stream()
+                                                                    .map(newEntriesByKey::get)
+                                                                    .filter(Objects::nonNull)
+                                                                    .flatMap(Collection::stream)
+                                                                    .filter(i -> !matchedEntries.contains(i))
+                                                                    .findFirst();
+            if (match.isPresent()) {
+                matchedEntries.add(match.get());
+                differences.add(new BibEntryDiff(originalEntry, newEntries.get(match.get())));
+            } else {
+                notMatchedByKey.add(originalEntry);
+            }
+        }
+
+        // Now look through the remaining entries, looking for close matches.
+        List<Integer> remainingNewEntries = new ArrayList<>();
+        for (int i = 0; i < newEntries.size(); i++) {
+            if (!matchedEntries.contains(i)) {
+                remainingNewEntries.add(i);
+            }
+        }
+        DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+        for (BibEntry originalEntry : notMatchedByKey) {
+            Optional<ScoredEntry> bestMatch = findBestMatch(originalEntry, newEntries, remainingNewEntries);
+            if (bestMatch.isPresent()
+                    && ((bestMatch.get().score() > MATCH_THRESHOLD)
+                    || duplicateCheck.isDuplicate(originalEntry, newEntries.get(bestMatch.get().index()), mode))) {
+                int bestMatchIndex = bestMatch.get().index();
                 matchedEntries.add(bestMatchIndex);
+                remainingNewEntries.remove(Integer.valueOf(bestMatchIndex));
                 differences.add(new BibEntryDiff(originalEntry, newEntries.get(bestMatchIndex)));
             } else {
                 differences.add(new BibEntryDiff(originalEntry, null));
@@ -134,8 +169,36 @@ public class BibDatabaseDiff {
         return differences;
     }
 
-    private static boolean hasEqualCitationKey(BibEntry oneEntry, BibEntry twoEntry) {
-        return oneEntry.hasCitationKey() && twoEntry.hasCitationKey() && oneEntry.getCitationKey().equals(twoEntry.getCitationKey());
+    /**
+     * Finds the most similar of the given candidates. In case of equal scores, the candidate listed first wins.
+     */
+    private static Optional<ScoredEntry> findBestMatch(BibEntry originalEntry, List<BibEntry> newEntries, List<Integer> candidates) {
+        Stream<Integer> candidateStream = candidates.size() >= PARALLEL_MATCHING_THRESHOLD ? candidates.parallelStream() : candidates.stream();
+        return candidateStream.map(i -> new ScoredEntry(i, DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i))))
+                              .reduce((one, two) -> (two.score() > one.score()) || ((two.score() == one.score()) && (two.index() < one.index())) ? two : one);
+    }
+
+    /**
+     * The fields of the entry with normalized line breaks. Entries with the same content are exact matches according to {@link DuplicateCheck#compareEntriesStrictly(BibEntry, BibEntry)}.
+     */
+    private static Map<Field, String> getContent(BibEntry entry) {
+        Map<Field, String> content = new HashMap<>();
+        entry.getFieldMap().forEach((field, value) -> content.put(field, StringUtil.unifyLineBreaks(value, "\n")));
+        return content;
+    }
+
+    private static List<String> getMatchingKeys(BibEntry entry) {
+        List<String> keys = new ArrayList<>();
+        entry.getCitationKey().filter(key -> !key.isEmpty()).ifPresent(key -> keys.add("key:" + key));
+        for (Field field : entry.getFields()) {
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                entry.getField(field).ifPresent(value -> keys.add(field.getName() + ":" + value));
+            }
+        }
+        return keys;
+    }
+
+    private record ScoredEntry(int index, double score) {
     }
 
     public static BibDatabaseDiff compare(BibDatabaseContext base, BibDatabaseContext changed) {
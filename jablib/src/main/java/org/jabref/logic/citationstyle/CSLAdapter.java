@@ -1,9 +1,15 @@
 package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -13,70 +19,131 @@ import de.undercouch.citeproc.CSL;
 import de.undercouch.citeproc.DefaultAbbreviationProvider;
 import de.undercouch.citeproc.output.Bibliography;
 import de.undercouch.citeproc.output.Citation;
+import org.jbibtex.TokenMgrException;
 
 /**
- * Provides an adapter class to CSL. It holds a CSL instance under the hood that is only recreated when
- * the style changes.
+ * Provides an adapter class to CSL. It holds a pool of CSL instances under the hood, which are reused for the same style and output format.
  * <p>
- * Note on the API: The first call to {@link #makeBibliography} is expensive since the
- * CSL instance will be created. As long as the style stays the same, we can reuse this instance. On style-change, the
- * engine is re-instantiated. Therefore, the use-case of this class is many calls to {@link #makeBibliography} with the
- * same style. Changing the output format is cheap.
+ * Note on the API: Creating a CSL instance for a style is expensive. Thus, the instances are kept after use, as long as not too many
+ * idle instances exist. Then, the instances of the least recently used style and output format are dropped first.
  * <p>
  * Note on the implementation:
- * The main function {@link #makeBibliography} will enforce
- * synchronized calling. The main CSL engine under the hood is not thread-safe. Since this class is usually called from
- * a BackgroundTask, the only other option would be to create several CSL instances which is wasting a lot of resources and very slow.
- * In the current scheme, {@link #makeBibliography} can be called as usual
- * background task and to the best of my knowledge, concurrent calls will pile up and processed sequentially.
+ * The CSL engine under the hood is not thread-safe. Thus, each call takes an instance from the pool (or creates a new one if none is idle)
+ * and returns it to the pool afterward. Concurrent calls, for instance preview rendering and OpenOffice citation updates, use different instances
+ * and do not wait for each other.
  */
 public class CSLAdapter {
 
-    private final JabRefItemDataProvider dataProvider = new JabRefItemDataProvider();
-    private String style;
-    private CitationStyleOutputFormat format;
-    private CSL cslInstance;
+    static final int MAXIMUM_IDLE_ENGINES = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    // Below this number of items, creating further CSL instances takes longer than creating the bibliographies one after the other
+    private static final int PARALLEL_BIBLIOGRAPHIES_THRESHOLD = 16;
+
+    private record EngineKey(String style, CitationStyleOutputFormat outputFormat) {
+    }
+
+    /**
+     * A CSL instance together with the data provider it reads the entries from
+     */
+    private record Engine(CSL cslInstance, JabRefItemDataProvider dataProvider) {
+    }
+
+    // Access order, thus the least recently used style and output format come first
+    private final Map<EngineKey, Deque<Engine>> idleEngines = new LinkedHashMap<>(16, 0.75f, true);
+    private int idleEngineCount;
 
     /**
-     * Creates the bibliography of the provided items. This method needs to run synchronized because the underlying
-     * CSL engine is not thread-safe.
+     * Creates the bibliography of the provided items.
      *
      * @param databaseContext {@link BibDatabaseContext} is used to be able to resolve fields and their aliases
      */
-    public synchronized List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException, IllegalArgumentException {
-        dataProvider.setData(bibEntries, databaseContext, entryTypesManager);
-        initialize(style, outputFormat);
-        cslInstance.registerCitationItems(dataProvider.getIds());
-        final Bibliography bibliography = cslInstance.makeBibliography();
-        return Arrays.asList(bibliography.getEntries());
+    public List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException, IllegalArgumentException {
+        EngineKey key = new EngineKey(style, outputFormat);
+        Engine engine = acquire(key);
+        List<String> bibliography = makeBibliography(engine, bibEntries, databaseContext, entryTypesManager);
+        // Only released if no exception occurred, as the state of the engine is unknown otherwise
+        release(key, engine);
+        return bibliography;
+    }
+
+    /**
+     * Creates a separate bibliography for each of the provided items. Many bibliographies are created in parallel using several CSL instances.
+     * <p>
+     * An item whose bibliography cannot be created does not affect the other items. Its bibliography is replaced by the message returned by
+     * the given function instead.
+     *
+     * @param errorMessage creates the message shown instead of the bibliography of an item which caused the given exception
+     * @return the bibliography entry of each item, in the order of the items
+     */
+    public List<String> makeBibliographies(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager, Function<Exception, String> errorMessage) {
+        Stream<BibEntry> entries = bibEntries.size() >= PARALLEL_BIBLIOGRAPHIES_THRESHOLD ? bibEntries.parallelStream() : bibEntries.stream();
+        return entries.map(entry -> {
+            try {
+                return makeBibliography(List.of(entry), style, outputFormat, databaseContext, entryTypesManager).getFirst();
+            } catch (IllegalArgumentException | IOException | ArrayIndexOutOfBoundsException | TokenMgrException e) {
+                return errorMessage.apply(e);
+            }
+        }).toList();
+    }
+
+    public Citation makeCitation(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
+        EngineKey key = new EngineKey(style, outputFormat);
+        Engine engine = acquire(key);
+        engine.dataProvider().setData(bibEntries, databaseContext, entryTypesManager);
+        engine.cslInstance().registerCitationItems(engine.dataProvider().getIds());
+        Citation citation = engine.cslInstance().makeCitation(bibEntries.stream().map(entry -> entry.getCitationKey().orElse("")).toList()).getFirst();
+        release(key, engine);
+        return citation;
     }
 
-    public synchronized Citation makeCitation(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
-        dataProvider.setData(bibEntries, databaseContext, entryTypesManager);
-        initialize(style, outputFormat);
-        cslInstance.registerCitationItems(dataProvider.getIds());
-        return cslInstance.makeCitation(bibEntries.stream().map(entry -> entry.getCitationKey().orElse("")).toList()).getFirst();
+    private static List<String> makeBibliography(Engine engine, List<BibEntry> bibEntries, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+        engine.dataProvider().setData(bibEntries, databaseContext, entryTypesManager);
+        engine.cslInstance().registerCitationItems(engine.dataProvider().getIds());
+        final Bibliography bibliography = engine.cslInstance().makeBibliography();
+        return Arrays.asList(bibliography.getEntries());
     }
 
     /**
-     * Initialized the static CSL instance if needed.
+     * Takes an idle CSL instance for the given style and output format from the pool or creates a new one.
      *
-     * @param newStyle  journal style of the output
-     * @param newFormat usually HTML or RTF.
      * @throws IOException An error occurred in the underlying framework
      */
-    private void initialize(String newStyle, CitationStyleOutputFormat newFormat) throws IOException {
-        final boolean newCslInstanceNeedsToBeCreated = (cslInstance == null) || !Objects.equals(newStyle, style);
-        if (newCslInstanceNeedsToBeCreated) {
-            // lang and forceLang are set to the default values of other CSL constructors
-            cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(),
-                    new DefaultAbbreviationProvider(), newStyle, "en-US");
-            style = newStyle;
+    private Engine acquire(EngineKey key) throws IOException {
+        synchronized (this) {
+            Deque<Engine> engines = idleEngines.get(key);
+            if (engines != null) {
+                Engine engine = engines.pop();
+                if (engines.isEmpty()) {
+                    idleEngines.remove(key);
+                }
+                idleEngineCount--;
+                return engine;
+            }
         }
 
-        if (newCslInstanceNeedsToBeCreated || (!Objects.equals(newFormat, format))) {
-            cslInstance.setOutputFormat(newFormat.getFormat());
-            format = newFormat;
+        // Created outside the lock, as this takes long
+        JabRefItemDataProvider dataProvider = new JabRefItemDataProvider();
+        // lang and forceLang are set to the default values of other CSL constructors
+        CSL cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(),
+                new DefaultAbbreviationProvider(), key.style(), "en-US");
+        cslInstance.setOutputFormat(key.outputFormat().getFormat());
+        return new Engine(cslInstance, dataProvider);
+    }
+
+    private synchronized void release(EngineKey key, Engine engine) {
+        idleEngines.computeIfAbsent(key, _ -> new ArrayDeque<>()).push(engine);
+        idleEngineCount++;
+
+        Iterator<Deque<Engine>> leastRecentlyUsed = idleEngines.values().iterator();
+        while (idleEngineCount > MAXIMUM_IDLE_ENGINES) {
+            Deque<Engine> engines = leastRecentlyUsed.next();
+            while (!engines.isEmpty() && (idleEngineCount > MAXIMUM_IDLE_ENGINES)) {
+                engines.removeLast();
+                idleEngineCount--;
+            }
+            if (engines.isEmpty()) {
+                leastRecentlyUsed.remove();
+            }
         }
     }
 }
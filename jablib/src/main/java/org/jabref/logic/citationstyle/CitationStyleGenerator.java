@@ -59,20 +59,40 @@ public class CitationStyleGenerator {
     public static List<String> generateBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
         try {
             return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
-        } catch (IllegalArgumentException e) {
-            LOGGER.error("Could not generate BibEntry bibliography. The CSL engine could not create a bibliography output for your item.", e);
-            return List.of(Localization.lang("Cannot generate bibliography based on selected citation style."));
-        } catch (IOException | ArrayIndexOutOfBoundsException e) {
-            LOGGER.error("Could not generate BibEntry bibliography", e);
-            return List.of(Localization.lang("Cannot generate bibliography based on selected citation style."));
-        } catch (TokenMgrException e) {
-            LOGGER.error("Bad character inside BibEntry", e);
-            // sadly one cannot easily retrieve the bad char from the TokenMgrError
-            return List.of(Localization.lang("Cannot generate bibliography based on selected citation style.") +
-                    outputFormat.getLineSeparator() +
-                    Localization.lang("Bad character inside entry") +
-                    outputFormat.getLineSeparator() +
-                    e.getLocalizedMessage());
+        } catch (IllegalArgumentException | IOException | ArrayIndexOutOfBoundsException | TokenMgrException e) {
+            return List.of(getBibliographyErrorMessage(e, outputFormat));
         }
     }
+
+    /**
+     * Generates a separate bibliography for each of the given entries, for instance to number the entries afterward.
+     * Many bibliographies are generated in parallel.
+     *
+     * @return the bibliography of each entry, in the order of the entries
+     */
+    public static List<String> generateBibliographies(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+        return CSL_ADAPTER.makeBibliographies(bibEntries, style, outputFormat, databaseContext, entryTypesManager, e -> getBibliographyErrorMessage(e, outputFormat));
+    }
+
+    private static String getBibliographyErrorMessage(Exception exception, CitationStyleOutputFormat outputFormat) {
+        return switch (exception) {
+            case IllegalArgumentException e -> {
+                LOGGER.error("Could not generate BibEntry bibliography. The CSL engine could not create a bibliography output for your item.", e);
+                yield Localization.lang("Cannot generate bibliography based on selected citation style.");
+            }
+            case TokenMgrException e -> {
+                LOGGER.error("Bad character inside BibEntry", e);
+                // sadly one cannot easily retrieve the bad char from the TokenMgrError
+                yield Localization.lang("Cannot generate bibliography based on selected citation style.") +
+                        outputFormat.getLineSeparator() +
+                        Localization.lang("Bad character inside entry") +
+                        outputFormat.getLineSeparator() +
+                        e.getLocalizedMessage();
+            }
+            default -> {
+                LOGGER.error("Could not generate BibEntry bibliography", exception);
+                yield Localization.lang("Cannot generate bibliography based on selected citation style.");
+            }
+        };
+    }
 }
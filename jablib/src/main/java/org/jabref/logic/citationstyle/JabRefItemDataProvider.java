@@ -36,8 +36,8 @@ import org.jbibtex.Key;
  */
 public class JabRefItemDataProvider implements ItemDataProvider {
 
-    private static final BibTeXConverter BIBTEX_CONVERTER = new BibTeXConverter();
-
+    // One converter per provider, as several providers are used concurrently
+    private final BibTeXConverter bibTeXConverter = new BibTeXConverter();
     private final StringJsonBuilderFactory stringJsonBuilderFactory;
 
     private final List<BibEntry> data = new ArrayList<>();
@@ -168,7 +168,7 @@ public class JabRefItemDataProvider implements ItemDataProvider {
                         bibTeXEntry.addField(new Key(key.getName()), new DigitStringValue(value));
                     });
         }
-        return BIBTEX_CONVERTER.toItemData(bibTeXEntry);
+        return bibTeXConverter.toItemData(bibTeXEntry);
     }
 
     /**
@@ -23,6 +23,7 @@ import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.OrFields;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.identifier.DOI;
 import org.jabref.model.entry.identifier.ISBN;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.strings.StringUtil;
@@ -77,7 +78,20 @@ public class DuplicateCheck {
     private static boolean haveSameIdentifier(final BibEntry one, final BibEntry two) {
         return one.getFields().stream()
                 .filter(field -> field.getProperties().contains(FieldProperty.IDENTIFIER))
-                .anyMatch(field -> two.getField(field).map(content -> one.getField(field).orElseThrow().equals(content)).orElse(false));
+                .anyMatch(field -> two.getField(field)
+                                      .map(content -> normalizeIdentifier(field, one.getField(field).orElseThrow()).equals(normalizeIdentifier(field, content)))
+                                      .orElse(false));
+    }
+
+    /**
+     * Identifiers are compared case-insensitively. A DOI may also be given as URL (e.g., https://doi.org/10.1000/xyz).
+     */
+    static String normalizeIdentifier(Field field, String value) {
+        String identifier = value.trim();
+        if (field == StandardField.DOI) {
+            identifier = DOI.parse(identifier).map(DOI::asString).orElse(identifier);
+        }
+        return identifier.toLowerCase(Locale.ROOT);
     }
 
     private static boolean haveDifferentEntryType(final BibEntry one, final BibEntry two) {
@@ -0,0 +1,196 @@
+package org.jabref.logic.database;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.Author;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Finds the duplicates within a list of entries without checking all pairs of entries.
+ * <p>
+ * The entries are grouped into blocks by keys, which duplicates most likely share:
+ * <ul>
+ *     <li>an equal identifier (e.g., DOI or ISBN)</li>
+ *     <li>the first words of the title</li>
+ *     <li>a similar title, determined using MinHash signatures of the title words (locality-sensitive hashing)</li>
+ *     <li>the family name of the first author together with the year</li>
+ * </ul>
+ * Only pairs of entries sharing a block are checked using {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)}. The checks run in parallel.
+ * In contrast to checking all pairs, duplicates sharing none of the keys are not found.
+ */
+public class DuplicateFinder {
+
+    /**
+     * Two duplicate entries. The first entry precedes the second one in the list of entries checked.
+     */
+    public record DuplicatePair(BibEntry first, BibEntry second) {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DuplicateFinder.class);
+
+    /**
+     * Blocks larger than this (e.g., all entries of a very common title start) are not used for candidate generation, as they would make the search quadratic again.
+     * Blocks of identifiers are not limited, because equal identifiers always indicate duplicates.
+     */
+    private static final int MAX_BLOCK_SIZE = 200;
+
+    private static final int TITLE_PREFIX_WORDS = 2;
+    private static final int MIN_HASH_BANDS = 6;
+    private static final int MIN_HASH_ROWS = 2;
+
+    private static final String IDENTIFIER_KEY_PREFIX = "id:";
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final DuplicateCheck duplicateCheck;
+
+    public DuplicateFinder(BibEntryTypesManager entryTypesManager) {
+        this.duplicateCheck = new DuplicateCheck(entryTypesManager);
+    }
+
+    /**
+     * @return the pairs of duplicates, ordered by the positions of their entries in the given list
+     */
+    public List<DuplicatePair> findDuplicates(List<BibEntry> entries, BibDatabaseMode bibDatabaseMode) {
+        return findDuplicates(entries, bibDatabaseMode, () -> false);
+    }
+
+    /**
+     * @param isCancelled checked while the entries are compared. As soon as it returns true, the search stops and no duplicates are returned.
+     * @return the pairs of duplicates, ordered by the positions of their entries in the given list
+     */
+    public List<DuplicatePair> findDuplicates(List<BibEntry> entries, BibDatabaseMode bibDatabaseMode, BooleanSupplier isCancelled) {
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (isCancelled.getAsBoolean()) {
+                return List.of();
+            }
+            for (String key : getBlockingKeys(entries.get(i))) {
+                blocks.computeIfAbsent(key, _ -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // A candidate pair is encoded as one long: the position of the first entry in the upper half, the position of the second entry in the lower half
+        Set<Long> candidates = new HashSet<>();
+        blocks.forEach((key, block) -> {
+            if ((block.size() > MAX_BLOCK_SIZE) && !key.startsWith(IDENTIFIER_KEY_PREFIX)) {
+                LOGGER.debug("Skipping block {} with {} entries", key, block.size());
+                return;
+            }
+            for (int i = 0; i < (block.size() - 1); i++) {
+                for (int j = i + 1; j < block.size(); j++) {
+                    candidates.add(((long) block.get(i) << 32) | block.get(j));
+                }
+            }
+        });
+        LOGGER.debug("Checking {} candidate pairs of {} entries", candidates.size(), entries.size());
+
+        // The remaining candidates are skipped as soon as the search is cancelled
+        List<DuplicatePair> duplicates = candidates.parallelStream()
+                                                   .filter(candidate -> !isCancelled.getAsBoolean()
+                                                           && duplicateCheck.isDuplicate(entries.get(getFirst(candidate)), entries.get(getSecond(candidate)), bibDatabaseMode))
+                                                   .sorted()
+                                                   .map(candidate -> new DuplicatePair(entries.get(getFirst(candidate)), entries.get(getSecond(candidate))))
+                                                   .toList();
+        return isCancelled.getAsBoolean() ? List.of() : duplicates;
+    }
+
+    private static int getFirst(long candidate) {
+        return (int) (candidate >>> 32);
+    }
+
+    private static int getSecond(long candidate) {
+        return (int) candidate;
+    }
+
+    static Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+        for (Field field : entry.getFields()) {
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                entry.getField(field).ifPresent(value -> keys.add(IDENTIFIER_KEY_PREFIX + field.getName() + ":" + DuplicateCheck.normalizeIdentifier(field, value)));
+            }
+        }
+        entry.getISBN().ifPresent(isbn -> keys.add(IDENTIFIER_KEY_PREFIX + "isbn:" + isbn.asString()));
+
+        // Entries of different types are never duplicates (except for equal identifiers)
+        String type = entry.getType().getName() + ":";
+
+        List<String> titleWords = entry.getFieldLatexFree(StandardField.TITLE)
+                                       .map(title -> Arrays.stream(WORD_SEPARATOR.split(title.toLowerCase(Locale.ROOT)))
+                                                           .filter(word -> !word.isEmpty())
+                                                           .toList())
+                                       .orElse(List.of());
+        if (!titleWords.isEmpty()) {
+            // DuplicateCheck compares titles word by word up to the length of the shorter title. Thus, a title is similar to titles it is a prefix of.
+            keys.add(type + "title:" + String.join(" ", titleWords.subList(0, Math.min(TITLE_PREFIX_WORDS, titleWords.size()))));
+            long[] signature = getMinHashSignature(titleWords);
+            for (int band = 0; band < MIN_HASH_BANDS; band++) {
+                long[] rows = Arrays.copyOfRange(signature, band * MIN_HASH_ROWS, (band + 1) * MIN_HASH_ROWS);
+                keys.add(type + "minhash" + band + ":" + Arrays.hashCode(rows));
+            }
+        }
+
+        Optional<String> firstAuthor = entry.getFieldLatexFree(StandardField.AUTHOR)
+                                            .or(() -> entry.getFieldLatexFree(StandardField.EDITOR))
+                                            .flatMap(authors -> AuthorList.parse(authors).getAuthors().stream().findFirst())
+                                            .flatMap(Author::getFamilyName)
+                                            .map(name -> name.toLowerCase(Locale.ROOT));
+        firstAuthor.ifPresent(author -> keys.add(type + "author:" + author + ":" + entry.getFieldOrAlias(StandardField.YEAR).orElse("")));
+
+        if (titleWords.isEmpty() && firstAuthor.isEmpty()) {
+            // Nothing to block on, thus compare with all other entries of the type lacking title and author
+            keys.add(type + "other");
+        }
+        return keys;
+    }
+
+    /**
+     * Computes the MinHash signature of the set of words. The more words two titles share, the more likely their signatures agree in a band.
+     * The hash functions are derived from one 64-bit hash per word (double hashing).
+     */
+    private static long[] getMinHashSignature(List<String> words) {
+        long[] signature = new long[MIN_HASH_BANDS * MIN_HASH_ROWS];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String word : new HashSet<>(words)) {
+            long hash = Hashing.murmur3_128().hashString(word, StandardCharsets.UTF_8).asLong();
+            long step = Long.rotateLeft(hash * 0x9E3779B97F4A7C15L, 31) | 1;
+            for (int i = 0; i < signature.length; i++) {
+                signature[i] = Math.min(signature[i], mix(hash + (i * step)));
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * The finalization step of MurmurHash3, spreading the bits of the value
+     */
+    private static long mix(long value) {
+        long mixed = value;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xff51afd7ed558ccdL;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xc4ceb9fe1a85ec53L;
+        mixed ^= mixed >>> 33;
+        return mixed;
+    }
+}
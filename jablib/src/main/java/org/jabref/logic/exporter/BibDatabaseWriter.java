@@ -189,8 +189,13 @@ public abstract class BibDatabaseWriter {
 
         // FIXME: "Clean" architecture violation: We modify the entries here, which should not happen during a write
         //        The cleanup should be done before the write operation
-        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData(), fieldPreferences);
+        // Entries cleaned by the last save and not changed since do not need to be cleaned again
+        SaveActionsTracker saveActionsTracker = SaveActionsTracker.of(bibDatabaseContext.getDatabase());
+        Optional<FieldFormatterCleanups> saveActions = bibDatabaseContext.getMetaData().getSaveActions();
+        List<BibEntry> entriesToClean = saveActionsTracker.getEntriesToClean(sortedEntries, saveActions, fieldPreferences);
+        List<FieldChange> saveActionChanges = applySaveActions(entriesToClean, bibDatabaseContext.getMetaData(), fieldPreferences);
         saveActionsFieldChanges.addAll(saveActionChanges);
+        saveActionsTracker.setCleaned(entriesToClean, saveActions, fieldPreferences);
         if (keyPatternPreferences.shouldGenerateCiteKeysBeforeSaving()) {
             List<FieldChange> keyChanges = generateCitationKeys(bibDatabaseContext, sortedEntries);
             saveActionsFieldChanges.addAll(keyChanges);
@@ -34,13 +34,34 @@ public class BibWriter {
             writer.write(newLineSeparator);
             precedingNewLineRequired = false;
         }
-        string = StringUtil.unifyLineBreaks(string, newLineSeparator);
+        if (!hasOnlyNewLineSeparators(string)) {
+            string = StringUtil.unifyLineBreaks(string, newLineSeparator);
+        }
         writer.write(string);
         currentPosition += string.length();
         lastWriteWasNewline = string.endsWith(newLineSeparator);
         somethingWasWritten = true;
     }
 
+    /**
+     * Checks whether all line breaks of the given string already are the newline set for this class.
+     * This holds for most strings written, e.g., the parsed serialization of unchanged entries. Then, the more expensive replacement of the line breaks is not needed.
+     */
+    private boolean hasOnlyNewLineSeparators(String string) {
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c == '\r') {
+                if (!"\r\n".equals(newLineSeparator) || ((i + 1) == string.length()) || (string.charAt(i + 1) != '\n')) {
+                    return false;
+                }
+                i++;
+            } else if ((c == '\n') && !"\n".equals(newLineSeparator)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Writes the given string and finishes it with a line break
      */
@@ -75,4 +96,8 @@ public class BibWriter {
     public int getCurrentPosition() {
         return currentPosition;
     }
+
+    public String getNewLineSeparator() {
+        return newLineSeparator;
+    }
 }
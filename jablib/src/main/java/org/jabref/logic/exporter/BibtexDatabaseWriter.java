@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.jabref.logic.bibtex.BibEntryWriter;
@@ -38,6 +40,14 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
     private static final String PREAMBLE_PREFIX = "@Preamble";
     private static final String STRING_PREFIX = "@String";
 
+    private final BibEntryWriter bibEntryWriter;
+
+    // The entries serialized by the current save
+    private final List<WrittenEntry> writtenEntries = new ArrayList<>();
+
+    private record WrittenEntry(BibEntry entry, String serialization) {
+    }
+
     public BibtexDatabaseWriter(BibWriter bibWriter,
                                 SelfContainedSaveConfiguration saveConfiguration,
                                 FieldPreferences fieldPreferences,
@@ -48,6 +58,7 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
                 fieldPreferences,
                 citationKeyPatternPreferences,
                 entryTypesManager);
+        this.bibEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
     }
 
     public BibtexDatabaseWriter(Writer writer,
@@ -61,6 +72,7 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
                 fieldPreferences,
                 citationKeyPatternPreferences,
                 entryTypesManager);
+        this.bibEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
     }
 
     @Override
@@ -155,9 +167,29 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
         bibWriter.writeLine(sharedDatabaseID);
     }
 
+    @Override
+    public void savePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        writtenEntries.clear();
+        super.savePartOfDatabase(bibDatabaseContext, entries);
+
+        // Everything was written. Thus, as long as the serialized entries do not change, the next save writes them without serializing them again.
+        for (WrittenEntry writtenEntry : writtenEntries) {
+            writtenEntry.entry().setSavedSerialization(writtenEntry.serialization());
+        }
+        writtenEntries.clear();
+    }
+
     @Override
     protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
-        BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
-        bibtexEntryWriter.write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
+        // Unchanged entries are written as they were parsed or last saved. Only changed entries are serialized.
+        if (!saveConfiguration.shouldReformatFile() && !entry.hasChanged()) {
+            bibEntryWriter.write(entry, bibWriter, mode);
+            return;
+        }
+
+        String serialization = bibEntryWriter.serialize(entry, mode, bibWriter.getNewLineSeparator());
+        bibWriter.write(serialization);
+        bibWriter.finishBlock();
+        writtenEntries.add(new WrittenEntry(entry, serialization));
     }
 }
@@ -0,0 +1,85 @@
+package org.jabref.logic.exporter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.cleanup.FieldFormatterCleanups;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Remembers the entries of a library the save actions were applied to by the last save, as long as these entries are not changed afterward.
+ * The save actions are idempotent, thus applying them again does not change such an entry. The next save can skip it.
+ * <p>
+ * One tracker is kept per library. It is dropped together with the library.
+ */
+class SaveActionsTracker {
+
+    /**
+     * The configuration the save actions were applied with
+     */
+    private record Configuration(Optional<FieldFormatterCleanups> saveActions, List<Field> nonWrappableFields) {
+    }
+
+    // Weak keys are compared by identity
+    private static final Map<BibDatabase, SaveActionsTracker> TRACKERS = new MapMaker().weakKeys().makeMap();
+
+    // Ids of the entries not changed since the save actions were applied to them
+    private final Set<String> appliedEntries = ConcurrentHashMap.newKeySet();
+    private Configuration appliedConfiguration;
+
+    static SaveActionsTracker of(BibDatabase database) {
+        return TRACKERS.computeIfAbsent(database, key -> {
+            SaveActionsTracker tracker = new SaveActionsTracker();
+            key.registerListener(tracker);
+            return tracker;
+        });
+    }
+
+    /**
+     * Returns the entries the save actions need to be applied to. These are all entries in case the save actions changed since the last save.
+     */
+    synchronized List<BibEntry> getEntriesToClean(List<BibEntry> entries, Optional<FieldFormatterCleanups> saveActions, FieldPreferences fieldPreferences) {
+        if (!Objects.equals(appliedConfiguration, getConfiguration(saveActions, fieldPreferences))) {
+            return entries;
+        }
+        return entries.stream().filter(entry -> !appliedEntries.contains(entry.getId())).toList();
+    }
+
+    /**
+     * Records that the save actions were applied to the given entries
+     */
+    synchronized void setCleaned(List<BibEntry> entries, Optional<FieldFormatterCleanups> saveActions, FieldPreferences fieldPreferences) {
+        Configuration configuration = getConfiguration(saveActions, fieldPreferences);
+        if (!Objects.equals(appliedConfiguration, configuration)) {
+            appliedEntries.clear();
+            appliedConfiguration = configuration;
+        }
+        entries.forEach(entry -> appliedEntries.add(entry.getId()));
+    }
+
+    private static Configuration getConfiguration(Optional<FieldFormatterCleanups> saveActions, FieldPreferences fieldPreferences) {
+        return new Configuration(saveActions, List.copyOf(fieldPreferences.getNonWrappableFields()));
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        appliedEntries.remove(event.getBibEntry().getId());
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(entry -> appliedEntries.remove(entry.getId()));
+    }
+}
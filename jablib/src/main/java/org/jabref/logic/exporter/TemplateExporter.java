@@ -14,6 +14,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -45,6 +46,10 @@ public class TemplateExporter extends Exporter {
     private static final String BEGIN_INFIX = ".begin";
     private static final String END_INFIX = ".end";
 
+    // Below this number of entries, rendering in parallel does not pay off
+    private static final int PARALLEL_RENDERING_THRESHOLD = 200;
+    private static final int RENDERING_BLOCK_SIZE = 2048;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
     private final String lfFileName;
@@ -252,45 +257,41 @@ public class TemplateExporter extends Exporter {
                     LOGGER.warn("Missing formatters found: {}", missingFormatters);
                 }
             }
+            // Compile the layouts of all entry types before rendering, thus rendering only reads them
             Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
-
-            Number.serialExportNumber = 0;
-            for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
-                // Get the layout
-                EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
+            for (EntryType type : sorted.stream().map(BibEntry::getType).distinct().toList()) {
+                try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
+                    // We try to get a type-specific layout for this entry.
+                    layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
+                    Layout layout = layoutHelper.getLayoutFromText();
+                    layouts.put(type, layout);
+                    if (layout != null) {
+                        missingFormatters.addAll(layout.getMissingFormatters());
                     }
+                } catch (IOException ex) {
+                    // The exception indicates that no type-specific layout
+                    // exists, so we
+                    // go with the default one.
+                    layouts.put(type, defLayout);
                 }
+            }
 
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
-                        }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
-                    }
+            // Group blocks are only output if the group differs from the one of the previous entry, thus such layouts are rendered in order
+            boolean renderInParallel = (sorted.size() >= PARALLEL_RENDERING_THRESHOLD)
+                    && layouts.values().stream().noneMatch(layout -> (layout != null) && layout.dependsOnPreviousEntry());
+            LayoutHelper.setCurrentGroup(null);
+
+            // Render blocks of entries, thus only the rendered entries of one block are kept in memory
+            for (int blockStart = 0; blockStart < sorted.size(); blockStart += RENDERING_BLOCK_SIZE) {
+                IntStream entryIndices = IntStream.range(blockStart, Math.min(blockStart + RENDERING_BLOCK_SIZE, sorted.size()));
+                if (renderInParallel) {
+                    entryIndices = entryIndices.parallel();
+                }
+                List<String> renderedEntries = entryIndices
+                        .mapToObj(index -> renderEntry(sorted.get(index), index + 1, layouts.get(sorted.get(index).getType()), databaseContext))
+                        .toList();
+                for (String renderedEntry : renderedEntries) {
+                    ps.write(renderedEntry);
                 }
             }
 
@@ -318,6 +319,34 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * Renders the given entry. The layout must not depend on other entries in case entries are rendered in parallel.
+     *
+     * @param serialExportNumber the position of the entry in the export, starting at 1
+     */
+    private String renderEntry(BibEntry entry, int serialExportNumber, Layout layout, BibDatabaseContext databaseContext) {
+        if (layout == null) {
+            return "";
+        }
+
+        Number.setSerialExportNumber(serialExportNumber);
+        try {
+            String renderedEntry = layout.doLayout(entry, databaseContext.getDatabase());
+            if (blankLineBehaviour != BlankLineBehaviour.DELETE_BLANKS) {
+                return renderedEntry;
+            }
+            StringBuilder withoutBlankLines = new StringBuilder(renderedEntry.length());
+            for (String line : renderedEntry.split(BLANK_LINE_PATTERN)) {
+                if (!line.isBlank() && !line.isEmpty()) {
+                    withoutBlankLines.append(line).append(OS.NEWLINE);
+                }
+            }
+            return withoutBlankLines.toString();
+        } finally {
+            Number.resetSerialExportNumber();
+        }
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format.
      * If so, read all the name formatters so they can be used by the filter layouts.
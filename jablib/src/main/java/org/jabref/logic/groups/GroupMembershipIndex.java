@@ -0,0 +1,303 @@
+package org.jabref.logic.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.groups.AbstractGroup;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.SearchGroup;
+import org.jabref.model.groups.TexGroup;
+import org.jabref.model.groups.event.GroupUpdatedEvent;
+import org.jabref.model.search.matchers.SearchMatcher;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps the members of the groups of a library up to date, so that the entries of a group are known without matching all entries of the library.
+ * <p>
+ * Each entry of the library gets a slot and each group a bit set of the slots of its members.
+ * A change of an entry only updates the bits of this entry. A group is matched against all entries only when it is requested for the first time.
+ * The members are kept for the requested groups as long as the group tree of the library contains them, but at most for the groups requested last.
+ * <p>
+ * The members of search groups and TeX groups depend on the search index and on aux files instead of the entries.
+ * Thus, these groups, and the groups refining or including them, are matched directly.
+ */
+public class GroupMembershipIndex {
+
+    private static final int MAXIMUM_MAINTAINED_GROUPS = 1000;
+
+    // Weak keys are compared by identity. The memberships must not reference the library, otherwise it would never be dropped.
+    private static final Map<BibDatabase, Memberships> MEMBERSHIPS = new MapMaker().weakKeys().makeMap();
+
+    private final BibDatabase database;
+    private final Memberships memberships;
+
+    private GroupMembershipIndex(BibDatabase database, Memberships memberships) {
+        this.database = database;
+        this.memberships = memberships;
+    }
+
+    public static GroupMembershipIndex of(BibDatabaseContext databaseContext) {
+        BibDatabase database = databaseContext.getDatabase();
+        // Entries added while the memberships are created are either part of the entries or announced by an event
+        synchronized (database) {
+            Memberships memberships = MEMBERSHIPS.computeIfAbsent(database, key -> {
+                Memberships created = new Memberships();
+                key.registerListener(created);
+                databaseContext.getMetaData().registerListener(created);
+                created.addEntries(key.getEntries());
+                return created;
+            });
+            return new GroupMembershipIndex(database, memberships);
+        }
+    }
+
+    /**
+     * Returns the entries of the library matched by the given group, in the order of the library
+     */
+    public List<BibEntry> getMatches(GroupTreeNode node) {
+        Optional<GroupSnapshot> snapshot = GroupSnapshot.of(node);
+        if (snapshot.isEmpty()) {
+            return node.findMatches(database);
+        }
+
+        // The ids increase in the order of the library, see BibDatabase#indexOf
+        return memberships.getMatchingIds(snapshot.get(), database).stream()
+                          .sorted()
+                          .map(database::getEntryById)
+                          .filter(Objects::nonNull)
+                          .toList();
+    }
+
+    /**
+     * Returns the ids of the entries matched by the given group. In contrast to {@link #getMatches(GroupTreeNode)}, the ids are not sorted.
+     */
+    public List<String> getMatchingIds(GroupTreeNode node) {
+        Optional<GroupSnapshot> snapshot = GroupSnapshot.of(node);
+        if (snapshot.isEmpty()) {
+            return node.findMatches(database).stream().map(BibEntry::getId).toList();
+        }
+
+        return memberships.getMatchingIds(snapshot.get(), database);
+    }
+
+    /**
+     * Returns a matcher for the given group. The matcher stays up to date with changes of the entries, but not with changes of the group.
+     */
+    public SearchMatcher getMatcher(GroupTreeNode node) {
+        Optional<GroupSnapshot> snapshot = GroupSnapshot.of(node);
+        if (snapshot.isEmpty()) {
+            return node.getSearchMatcher();
+        }
+
+        Members members = memberships.getMembers(snapshot.get(), database);
+        return entry -> memberships.isMember(members, snapshot.get(), entry);
+    }
+
+    /**
+     * The members of a group. Their bits are no longer updated as soon as the group is dropped from the maintained groups.
+     */
+    private static class Members {
+        private final BitSet slots = new BitSet();
+        private boolean maintained = true;
+    }
+
+    /**
+     * A copy of a group together with the groups its members depend on, as determined by {@link GroupTreeNode#getSearchMatcher()}.
+     * Equal snapshots have the same members.
+     */
+    private record GroupSnapshot(AbstractGroup group, GroupHierarchyType context, List<GroupSnapshot> related) {
+
+        static Optional<GroupSnapshot> of(GroupTreeNode node) {
+            return of(node, node.getGroup().getHierarchicalContext());
+        }
+
+        private static Optional<GroupSnapshot> of(GroupTreeNode node, GroupHierarchyType originalContext) {
+            AbstractGroup group = node.getGroup();
+            if ((group instanceof SearchGroup) || (group instanceof TexGroup)) {
+                return Optional.empty();
+            }
+
+            GroupHierarchyType context = group.getHierarchicalContext();
+            List<GroupTreeNode> relatedNodes = List.of();
+            if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+                relatedNodes = node.getChildren();
+            } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext != GroupHierarchyType.INCLUDING)) {
+                relatedNodes = List.of(node.getParent().get());
+            }
+
+            List<GroupSnapshot> related = new ArrayList<>(relatedNodes.size());
+            for (GroupTreeNode relatedNode : relatedNodes) {
+                Optional<GroupSnapshot> relatedSnapshot = of(relatedNode, originalContext);
+                if (relatedSnapshot.isEmpty()) {
+                    return Optional.empty();
+                }
+                related.add(relatedSnapshot.get());
+            }
+            return Optional.of(new GroupSnapshot(group.deepCopy(), context, List.copyOf(related)));
+        }
+
+        boolean matches(BibEntry entry) {
+            return switch (context) {
+                case INDEPENDENT ->
+                        group.isMatch(entry);
+                case REFINING ->
+                        group.isMatch(entry) && related.stream().allMatch(snapshot -> snapshot.matches(entry));
+                case INCLUDING ->
+                        group.isMatch(entry) || related.stream().anyMatch(snapshot -> snapshot.matches(entry));
+            };
+        }
+    }
+
+    /**
+     * The slots of the entries of one library and the members of the groups of this library
+     */
+    private static class Memberships {
+
+        private final Map<String, Integer> slotsByEntryId = new HashMap<>();
+        private final List<String> entryIdsBySlot = new ArrayList<>();
+        private final BitSet usedSlots = new BitSet();
+
+        // Access order, thus the least recently requested group is dropped first
+        private final Map<GroupSnapshot, Members> membersByGroup = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<GroupSnapshot, Members> eldest) {
+                if (size() > MAXIMUM_MAINTAINED_GROUPS) {
+                    eldest.getValue().maintained = false;
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        synchronized void addEntries(List<BibEntry> entries) {
+            entries.forEach(this::getSlot);
+        }
+
+        /**
+         * Returns the members of the given group. Only a group requested for the first time is matched against the entries, which are looked up in the given library by their id.
+         */
+        synchronized Members getMembers(GroupSnapshot snapshot, BibDatabase database) {
+            Members members = membersByGroup.get(snapshot);
+            if (members != null) {
+                return members;
+            }
+
+            members = new Members();
+            for (int slot = usedSlots.nextSetBit(0); slot >= 0; slot = usedSlots.nextSetBit(slot + 1)) {
+                BibEntry entry = database.getEntryById(entryIdsBySlot.get(slot));
+                if ((entry != null) && snapshot.matches(entry)) {
+                    members.slots.set(slot);
+                }
+            }
+            membersByGroup.put(snapshot, members);
+            return members;
+        }
+
+        synchronized List<String> getMatchingIds(GroupSnapshot snapshot, BibDatabase database) {
+            Members members = getMembers(snapshot, database);
+            List<String> matchingIds = new ArrayList<>(members.slots.cardinality());
+            members.slots.stream().forEach(slot -> matchingIds.add(entryIdsBySlot.get(slot)));
+            return matchingIds;
+        }
+
+        /**
+         * Stops maintaining the members of the groups which are not part of the group tree anymore, for instance because they were edited or moved.
+         */
+        private synchronized void retainGroups(Set<GroupSnapshot> groups) {
+            membersByGroup.entrySet().removeIf(entry -> {
+                if (groups.contains(entry.getKey())) {
+                    return false;
+                }
+                entry.getValue().maintained = false;
+                return true;
+            });
+        }
+
+        synchronized boolean isMember(Members members, GroupSnapshot snapshot, BibEntry entry) {
+            Integer slot = slotsByEntryId.get(entry.getId());
+            if (!members.maintained || (slot == null)) {
+                return snapshot.matches(entry);
+            }
+            return members.slots.get(slot);
+        }
+
+        /**
+         * Returns the slot of the given entry. A new slot is assigned to an unknown entry.
+         */
+        private int getSlot(BibEntry entry) {
+            Integer slot = slotsByEntryId.get(entry.getId());
+            if (slot != null) {
+                return slot;
+            }
+
+            int newSlot = usedSlots.nextClearBit(0);
+            usedSlots.set(newSlot);
+            slotsByEntryId.put(entry.getId(), newSlot);
+            if (newSlot == entryIdsBySlot.size()) {
+                entryIdsBySlot.add(entry.getId());
+            } else {
+                entryIdsBySlot.set(newSlot, entry.getId());
+            }
+            updateMembers(entry, newSlot);
+            return newSlot;
+        }
+
+        private void updateMembers(BibEntry entry, int slot) {
+            membersByGroup.forEach((snapshot, members) -> members.slots.set(slot, snapshot.matches(entry)));
+        }
+
+        @Subscribe
+        public synchronized void listen(EntriesAddedEvent event) {
+            event.getBibEntries().forEach(this::getSlot);
+        }
+
+        @Subscribe
+        public synchronized void listen(FieldChangedEvent event) {
+            BibEntry entry = event.getBibEntry();
+            Integer slot = slotsByEntryId.get(entry.getId());
+            if (slot != null) {
+                updateMembers(entry, slot);
+            }
+        }
+
+        @Subscribe
+        public synchronized void listen(EntriesRemovedEvent event) {
+            for (BibEntry entry : event.getBibEntries()) {
+                Integer slot = slotsByEntryId.remove(entry.getId());
+                if (slot != null) {
+                    membersByGroup.values().forEach(members -> members.slots.clear(slot));
+                    usedSlots.clear(slot);
+                    entryIdsBySlot.set(slot, null);
+                }
+            }
+        }
+
+        @Subscribe
+        public void listen(GroupUpdatedEvent event) {
+            // The snapshots are created outside the lock, as this copies all groups
+            Set<GroupSnapshot> groups = event.getMetaData().getGroups().stream()
+                                             .flatMap(GroupTreeNode::iterateOverTree)
+                                             .map(GroupSnapshot::of)
+                                             .flatMap(Optional::stream)
+                                             .collect(Collectors.toSet());
+            retainGroups(groups);
+        }
+    }
+}
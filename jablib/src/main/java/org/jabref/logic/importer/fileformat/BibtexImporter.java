@@ -65,7 +65,8 @@ public class BibtexImporter extends Importer {
 
         try (InputStreamReader inputStreamReader = new InputStreamReader(Files.newInputStream(filePath), decoder);
              BufferedReader reader = new BufferedReader(inputStreamReader)) {
-            ParserResult parserResult = this.importDatabase(reader);
+            // Files can be large, thus they are parsed using all cores
+            ParserResult parserResult = new BibtexParser(importFormatPreferences, fileMonitor).parseInParallel(reader);
             parserResult.getMetaData().setEncoding(result.encoding());
             parserResult.getMetaData().setEncodingExplicitlySupplied(result.encodingExplicitlySupplied());
             parserResult.setPath(filePath);
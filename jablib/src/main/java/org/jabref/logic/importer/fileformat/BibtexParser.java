@@ -3,22 +3,23 @@ package org.jabref.logic.importer.fileformat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackReader;
 import java.io.Reader;
-import java.io.StringWriter;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -37,11 +38,13 @@ import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.util.MetaDataParser;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.os.OS;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.KeyCollisionException;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.IdGenerator;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
@@ -94,9 +97,47 @@ public class BibtexParser implements Parser {
     private static final String BIB_DESK_ROOT_GROUP_NAME = "BibDeskGroups";
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
     private static final int INDEX_RELATIVE_PATH_IN_PLIST = 4;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Inputs are split into chunks of at least this number of characters when parsing in parallel. Smaller inputs are parsed sequentially.
+     */
+    private static final int MIN_CHUNK_SIZE = 1024 * 1024;
+    private static final int PARSING_PARALLELISM = Runtime.getRuntime().availableProcessors();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+
+    /**
+     * The complete input. The parser scans it using {@link #position}, thus no object is created per character read.
+     */
+    private char[] buffer = new char[0];
+    private int bufferLength;
+    private int position;
+
+    /**
+     * Start of the text read since the last call of {@link #dumpTextReadSoFarToString()}. The text itself is not copied before it is dumped.
+     */
+    private int textStart;
+
+    /**
+     * Characters pushed back by {@link #unread(int)}, which do not match the input at the current position (e.g., when a corrupted key is fixed).
+     * The last character is read first.
+     */
+    private final StringBuilder pushedBackCharacters = new StringBuilder();
+
+    /**
+     * Text read since the last dump, as soon as characters differing from the input have been pushed back. Then, the text read is no longer a range of the input.
+     */
+    private StringBuilder textReadWithPushback;
+
+    /**
+     * Changes to the parser result, which are recorded instead of being applied when parsing a chunk (see {@link #parseInParallel(Reader)}).
+     * If null, changes are applied directly.
+     */
+    private List<Consumer<BibtexParser>> deferredChanges;
+    private boolean parsingItem;
+    private boolean endOfInputInItem;
+    private boolean renumberInsertedEntries;
+    private Map<String, String> meta;
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
@@ -162,8 +203,80 @@ public class BibtexParser implements Parser {
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        readInput(in);
+        return parseInput();
+    }
+
+    /**
+     * Parses BibTeX data found when reading from reader, using all cores for large inputs.
+     * <p>
+     * The input is split into chunks starting at entries. The chunks are parsed concurrently, and the results are merged in input order.
+     * The result is the same as the one of {@link #parse(Reader)}:
+     * In case parsing a chunk reveals that its start is not a boundary between two entries (e.g., because of a preceding malformed entry), the input is parsed sequentially.
+     */
+    public ParserResult parseInParallel(Reader in) throws IOException {
+        return parseInParallel(in, MIN_CHUNK_SIZE);
+    }
+
+    ParserResult parseInParallel(Reader in, int minChunkSize) throws IOException {
+        Objects.requireNonNull(in);
+        readInput(in);
+
+        List<Integer> boundaries = findChunkBoundaries(minChunkSize);
+        if (boundaries.isEmpty()) {
+            return parseInput();
+        }
+        boundaries.addFirst(0);
+        boundaries.addLast(bufferLength);
+        LOGGER.debug("Parsing {} characters in {} chunks", bufferLength, boundaries.size() - 1);
+
+        List<Future<ParsedChunk>> futures = new ArrayList<>();
+        int firstLine = 1;
+        for (int i = 0; i < (boundaries.size() - 1); i++) {
+            int start = boundaries.get(i);
+            int end = boundaries.get(i + 1);
+            int chunkFirstLine = firstLine;
+            futures.add(HeadlessExecutorService.INSTANCE.execute(() ->
+                    new BibtexParser(importFormatPreferences).parseChunk(buffer, start, end, chunkFirstLine)));
+            firstLine += countNewlines(start, end);
+        }
+
+        List<ParsedChunk> chunks = new ArrayList<>(futures.size());
+        try {
+            for (Future<ParsedChunk> future : futures) {
+                chunks.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            LOGGER.warn("Could not parse chunk. Parsing sequentially.", e);
+            return parseInput();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IOException("Parsing interrupted", e);
+        }
+
+        // The last chunk ends at the end of the input. Thus, it is parsed as in the sequential case.
+        for (int i = 0; i < (chunks.size() - 1); i++) {
+            if (!chunks.get(i).endsAtEntryBoundary()) {
+                LOGGER.debug("Chunk {} does not end at an entry boundary. Parsing sequentially.", i);
+                return parseInput();
+            }
+        }
+
+        // Merge the chunks in input order
+        initializeParserResult(determineNewLineSeparator());
+        renumberInsertedEntries = true;
+        try {
+            for (ParsedChunk chunk : chunks) {
+                chunk.changes().forEach(change -> change.accept(this));
+            }
+        } finally {
+            renumberInsertedEntries = false;
+        }
+        return finishParsing(chunks.getLast().remainingText());
+    }
 
+    private ParserResult parseInput() throws IOException {
         String newLineSeparator = determineNewLineSeparator();
 
         // BibTeX related contents
@@ -176,29 +289,172 @@ public class BibtexParser implements Parser {
         return parseFileContent();
     }
 
-    private String determineNewLineSeparator() throws IOException {
-        String newLineSeparator = OS.NEWLINE;
-        StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
-        int i = 0;
-        int currentChar;
-        do {
-            currentChar = pushbackReader.read();
-            stringWriter.append((char) currentChar);
+    /**
+     * Parses the items in the given range of the input, recording the changes to the parser result.
+     * Called on a fresh parser, as the parsing state is not shared between chunks.
+     */
+    private ParsedChunk parseChunk(char[] input, int start, int end, int firstLine) throws IOException {
+        buffer = input;
+        bufferLength = end;
+        position = start;
+        textStart = start;
+        line = firstLine;
+        deferredChanges = new ArrayList<>();
+        initializeParserResult(OS.NEWLINE);
+        if (start == 0) {
+            parseDatabaseID();
+        }
+        skipWhitespace();
+        parseItems();
+        return new ParsedChunk(deferredChanges, dumpTextReadSoFarToString(), endOfInputInItem);
+    }
+
+    /**
+     * Determines the starts of the chunks for parsing in parallel. Each chunk (except the first one) starts in front of an entry, which begins at a line start.
+     * The newline ending the preceding item belongs to the previous chunk, the other whitespace belongs to the text read in front of the entry. This is the same as in the sequential case.
+     * Strings, preambles, and comments are not used as chunk starts, because the text in front of them is treated differently.
+     */
+    private List<Integer> findChunkBoundaries(int minChunkSize) {
+        List<Integer> boundaries = new ArrayList<>();
+        int chunkSize = Math.max(minChunkSize, (bufferLength / PARSING_PARALLELISM) + 1);
+        int previousBoundary = 0;
+        int candidate = chunkSize;
+        while (candidate < bufferLength) {
+            int entryStart = findEntryStart(candidate);
+            if (entryStart < 0) {
+                break;
+            }
+            int boundary = entryStart;
+            while ((boundary > previousBoundary) && Character.isWhitespace(buffer[boundary - 1])) {
+                boundary--;
+            }
+            boundary = skipOneNewline(boundary, entryStart);
+            if (boundary > previousBoundary) {
+                boundaries.add(boundary);
+                previousBoundary = boundary;
+            }
+            candidate = entryStart + chunkSize;
+        }
+        return boundaries;
+    }
+
+    private int findEntryStart(int from) {
+        for (int i = Math.max(from, 1); i < bufferLength; i++) {
+            if ((buffer[i] == '@') && (buffer[i - 1] == '\n') && startsEntry(i + 1)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Same as {@link #skipOneNewline()}, but working on positions in the input
+     */
+    private int skipOneNewline(int from, int to) {
+        int i = from;
+        while ((i < to) && (buffer[i] == ' ')) {
             i++;
-        } while ((i < BibtexParser.LOOKAHEAD) && (currentChar != '\r') && (currentChar != '\n'));
-        if (currentChar == '\r') {
-            newLineSeparator = "\r\n";
-        } else if (currentChar == '\n') {
-            newLineSeparator = "\n";
         }
+        if ((i < to) && (buffer[i] == '\r')) {
+            i++;
+        }
+        if ((i < to) && (buffer[i] == '\n')) {
+            i++;
+        }
+        return i;
+    }
+
+    private boolean startsEntry(int typeStart) {
+        int i = typeStart;
+        while ((i < bufferLength) && Character.isWhitespace(buffer[i])) {
+            i++;
+        }
+        int tokenStart = i;
+        while ((i < bufferLength) && Character.isLetter(buffer[i])) {
+            i++;
+        }
+        if (i == tokenStart) {
+            return false;
+        }
+        String type = new String(buffer, tokenStart, i - tokenStart).toLowerCase(Locale.ROOT);
+        return !"string".equals(type) && !"preamble".equals(type) && !"comment".equals(type);
+    }
+
+    private int countNewlines(int start, int end) {
+        int newlines = 0;
+        for (int i = start; i < end; i++) {
+            if (buffer[i] == '\n') {
+                newlines++;
+            }
+        }
+        return newlines;
+    }
+
+    /**
+     * Applies a change to the parser result, or records it if a chunk is parsed
+     */
+    private void apply(Consumer<BibtexParser> change) {
+        if (deferredChanges == null) {
+            change.accept(this);
+        } else {
+            deferredChanges.add(change);
+        }
+    }
+
+    private void addWarning(String warning) {
+        apply(parser -> parser.parserResult.addWarning(warning));
+    }
+
+    private void addException(ParseException exception) {
+        apply(parser -> parser.parserResult.addException(exception));
+    }
+
+    private void insertEntry(BibEntry entry) {
+        if (renumberInsertedEntries) {
+            // Entries of different chunks have been created concurrently. The database expects the ids to increase in the order of the entries.
+            boolean changed = entry.hasChanged();
+            entry.setId(IdGenerator.next());
+            entry.setChanged(changed);
+        }
+        database.insertEntry(entry);
+    }
 
-        // unread all sneaked characters
-        pushbackReader.unread(stringWriter.toString().toCharArray());
+    /**
+     * Reads the complete input into {@link #buffer}. A BibTeX file is parsed as a whole anyway, and scanning a char array is much faster than reading character by character.
+     */
+    private void readInput(Reader in) throws IOException {
+        char[] chars = new char[INITIAL_BUFFER_SIZE];
+        int length = 0;
+        int charsRead;
+        while ((charsRead = in.read(chars, length, chars.length - length)) != -1) {
+            length += charsRead;
+            if (length == chars.length) {
+                chars = Arrays.copyOf(chars, chars.length * 2);
+            }
+        }
+        buffer = chars;
+        bufferLength = length;
+        position = 0;
+        textStart = 0;
+        pushedBackCharacters.setLength(0);
+        textReadWithPushback = null;
+    }
 
+    private String determineNewLineSeparator() {
+        String newLineSeparator = OS.NEWLINE;
+        int end = Math.min(bufferLength, BibtexParser.LOOKAHEAD);
+        for (int i = 0; i < end; i++) {
+            if (buffer[i] == '\r') {
+                return "\r\n";
+            } else if (buffer[i] == '\n') {
+                return "\n";
+            }
+        }
         return newLineSeparator;
     }
 
     private void initializeParserResult(String newLineSeparator) {
+        meta = new HashMap<>();
         database = new BibDatabase();
         database.setNewLineSeparator(newLineSeparator);
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
@@ -216,7 +472,8 @@ public class BibtexParser implements Parser {
 
                 if (BibtexDatabaseWriter.DATABASE_ID_PREFIX.equals(label)) {
                     skipWhitespace();
-                    database.setSharedDatabaseID(parseTextToken().trim());
+                    String sharedDatabaseID = parseTextToken().trim();
+                    apply(parser -> parser.database.setSharedDatabaseID(sharedDatabaseID));
                 }
             } else if (c == '@') {
                 unread(c);
@@ -226,14 +483,18 @@ public class BibtexParser implements Parser {
     }
 
     private ParserResult parseFileContent() throws IOException {
-        Map<String, String> meta = new HashMap<>();
+        parseItems();
+        return finishParsing(dumpTextReadSoFarToString());
+    }
 
+    private void parseItems() throws IOException {
         while (!eof) {
             boolean found = consumeUncritically('@');
             if (!found) {
                 break;
             }
 
+            parsingItem = true;
             skipWhitespace();
 
             // Try to read the entry type
@@ -241,7 +502,8 @@ public class BibtexParser implements Parser {
 
             switch (entryType) {
                 case "preamble" -> {
-                    database.setPreamble(parsePreamble());
+                    String preamble = parsePreamble();
+                    apply(parser -> parser.database.setPreamble(preamble));
                     // Consume a new line which separates the preamble from the next part (if the file was written with JabRef)
                     skipOneNewline();
                     // the preamble is saved verbatim anyway, so the text read so far can be dropped
@@ -250,15 +512,23 @@ public class BibtexParser implements Parser {
                 case "string" ->
                         parseBibtexString();
                 case "comment" ->
-                        parseJabRefComment(meta);
+                        parseJabRefComment();
                 default ->
                     // Not a comment, preamble, or string. Thus, it is an entry
                         parseAndAddEntry(entryType);
             }
+            parsingItem = false;
 
             skipWhitespace();
         }
+    }
 
+    /**
+     * Completes the parser result after all items have been parsed
+     *
+     * @param remainingText the text after the last item
+     */
+    private ParserResult finishParsing(String remainingText) {
         addBibDeskGroupEntriesToJabRefGroups();
 
         try {
@@ -288,7 +558,7 @@ public class BibtexParser implements Parser {
             parserResult.addException(exception);
         }
 
-        parseRemainingContent();
+        database.setEpilog(remainingText.trim());
 
         checkEpilog();
 
@@ -303,10 +573,6 @@ public class BibtexParser implements Parser {
         }
     }
 
-    private void parseRemainingContent() {
-        database.setEpilog(dumpTextReadSoFarToString().trim());
-    }
-
     private void parseAndAddEntry(String type) {
         try {
             // collect all comments and the entry type definition in front of the actual entry
@@ -331,17 +597,17 @@ public class BibtexParser implements Parser {
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
             entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            apply(parser -> parser.insertEntry(entry));
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
             LOGGER.warn("Could not parse entry", ex);
-            parserResult.addWarning(Localization.lang("Error occurred when parsing entry") + ": '" + ex.getMessage()
+            addWarning(Localization.lang("Error occurred when parsing entry") + ": '" + ex.getMessage()
                     + "'. " + "\n\n" + Localization.lang("JabRef skipped the entry."));
         }
     }
 
-    private void parseJabRefComment(Map<String, String> meta) {
+    private void parseJabRefComment() {
         StringBuilder buffer;
         try {
             buffer = parseBracketedFieldContent();
@@ -362,7 +628,9 @@ public class BibtexParser implements Parser {
             int pos = rest.indexOf(':');
 
             if (pos > 0) {
-                meta.put(rest.substring(0, pos), rest.substring(pos + 1));
+                String key = rest.substring(0, pos);
+                String value = rest.substring(pos + 1);
+                apply(parser -> parser.meta.put(key, value));
 
                 // meta comments are always re-written by JabRef and not stored in the file
                 dumpTextReadSoFarToString();
@@ -372,18 +640,19 @@ public class BibtexParser implements Parser {
             // "@comment"
             Optional<BibEntryType> typ = MetaDataParser.parseCustomEntryType(comment);
             if (typ.isPresent()) {
-                entryTypes.add(typ.get());
+                BibEntryType entryType = typ.get();
+                apply(parser -> parser.entryTypes.add(entryType));
             } else {
-                parserResult.addWarning(Localization.lang("Ill-formed entrytype comment in BIB file") + ": " + comment);
+                addWarning(Localization.lang("Ill-formed entrytype comment in BIB file") + ": " + comment);
             }
 
             // custom entry types are always re-written by JabRef and not stored in the file
             dumpTextReadSoFarToString();
         } else if (comment.startsWith(MetaData.BIBDESK_STATIC_FLAG)) {
             try {
-                parseBibDeskComment(comment, meta);
+                parseBibDeskComment(comment);
             } catch (ParseException ex) {
-                parserResult.addException(ex);
+                addException(ex);
             }
         }
     }
@@ -411,7 +680,7 @@ public class BibtexParser implements Parser {
     /**
      * Parses comment types found in BibDesk, to migrate BibDesk Static Groups to JabRef.
      */
-    private void parseBibDeskComment(String comment, Map<String, String> meta) throws ParseException {
+    private void parseBibDeskComment(String comment) throws ParseException {
         String xml = comment.substring(MetaData.BIBDESK_STATIC_FLAG.length() + 1, comment.length() - 1);
         try {
             // Build a document to handle the xml tags
@@ -419,8 +688,11 @@ public class BibtexParser implements Parser {
             doc.getDocumentElement().normalize();
 
             NodeList dictList = doc.getElementsByTagName("dict");
-            meta.putIfAbsent(MetaData.DATABASE_TYPE, "bibtex;");
-            bibDeskGroupTreeNode = GroupTreeNode.fromGroup(new ExplicitGroup(BIB_DESK_ROOT_GROUP_NAME, GroupHierarchyType.INDEPENDENT, importFormatPreferences.bibEntryPreferences().getKeywordSeparator()));
+            GroupTreeNode groupTreeNode = GroupTreeNode.fromGroup(new ExplicitGroup(BIB_DESK_ROOT_GROUP_NAME, GroupHierarchyType.INDEPENDENT, importFormatPreferences.bibEntryPreferences().getKeywordSeparator()));
+            apply(parser -> {
+                parser.meta.putIfAbsent(MetaData.DATABASE_TYPE, "bibtex;");
+                parser.bibDeskGroupTreeNode = groupTreeNode;
+            });
 
             // Since each static group has their own dict element, we iterate through them
             for (int i = 0; i < dictList.getLength(); i++) {
@@ -436,13 +708,15 @@ public class BibtexParser implements Parser {
                     if (keyList.item(j).getTextContent().matches("group name")) {
                         groupName = stringList.item(j).getTextContent();
                         var staticGroup = new ExplicitGroup(groupName, GroupHierarchyType.INDEPENDENT, importFormatPreferences.bibEntryPreferences().getKeywordSeparator());
-                        bibDeskGroupTreeNode.addSubgroup(staticGroup);
+                        groupTreeNode.addSubgroup(staticGroup);
                     } else if (keyList.item(j).getTextContent().matches("keys")) {
                         citationKeys = stringList.item(j).getTextContent(); // adds group entries
                     }
                 }
                 // Adds the group name and citation keys to the field so all the entries can be added in the groups once parsed
-                parsedBibdeskGroups.putIfAbsent(groupName, citationKeys);
+                String name = groupName;
+                String keys = citationKeys;
+                apply(parser -> parser.parsedBibdeskGroups.putIfAbsent(name, keys));
             }
         } catch (ParserConfigurationException | IOException | SAXException e) {
             throw new ParseException(e);
@@ -451,6 +725,10 @@ public class BibtexParser implements Parser {
 
     private void parseBibtexString() throws IOException {
         BibtexString bibtexString = parseString();
+        apply(parser -> parser.addBibtexString(bibtexString));
+    }
+
+    private void addBibtexString(BibtexString bibtexString) {
         try {
             database.addString(bibtexString);
         } catch (KeyCollisionException ex) {
@@ -509,12 +787,20 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
+        String text;
+        if (textReadWithPushback == null) {
+            text = new String(buffer, textStart, position - textStart);
+        } else {
+            text = textReadWithPushback.toString();
+            textReadWithPushback = pushedBackCharacters.isEmpty() ? null : new StringBuilder();
         }
+        textStart = position;
 
-        return entry.toString();
+        // EOF characters are not part of the text read
+        if (text.indexOf('\uFFFF') >= 0) {
+            return text.replace("\uFFFF", "");
+        }
+        return text;
     }
 
     /**
@@ -625,11 +911,23 @@ public class BibtexParser implements Parser {
         };
     }
 
-    private int read() throws IOException {
-        int character = pushbackReader.read();
+    private int read() {
+        int character;
+        int pushedBack = pushedBackCharacters.length();
+        if (pushedBack > 0) {
+            character = pushedBackCharacters.charAt(pushedBack - 1);
+            pushedBackCharacters.setLength(pushedBack - 1);
+        } else if (position < bufferLength) {
+            character = buffer[position++];
+        } else {
+            character = -1;
+            if (parsingItem) {
+                endOfInputInItem = true;
+            }
+        }
 
-        if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+        if ((textReadWithPushback != null) && !isEOFCharacter(character)) {
+            textReadWithPushback.append((char) character);
         }
         if (character == '\n') {
             line++;
@@ -637,13 +935,27 @@ public class BibtexParser implements Parser {
         return character;
     }
 
-    private void unread(int character) throws IOException {
+    private void unread(int character) {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+
+        // Common case: the character just read from the input is pushed back
+        if ((textReadWithPushback == null) && pushedBackCharacters.isEmpty()
+                && (position > 0) && (buffer[position - 1] == character)) {
+            position--;
+            textStart = Math.min(textStart, position);
+            return;
+        }
+
+        // The character differs from the input (or the input has been exhausted). From now on, the text read is recorded separately.
+        if (textReadWithPushback == null) {
+            textReadWithPushback = new StringBuilder(position - textStart + 16).append(buffer, textStart, position - textStart);
+        }
+        pushedBackCharacters.append((char) character);
+        int last = textReadWithPushback.length() - 1;
+        if ((last >= 0) && (textReadWithPushback.charAt(last) == character)) {
+            textReadWithPushback.setLength(last);
         }
     }
 
@@ -888,19 +1200,19 @@ public class BibtexParser implements Parser {
 
                         // Finished, now reverse newKey and remove whitespaces:
                         key = newKey.reverse();
-                        parserResult.addWarning(
+                        addWarning(
                                 Localization.lang("Line %0: Found corrupted citation key %1.", String.valueOf(line), key.toString()));
                     }
                 }
                 break;
 
             case ',':
-                parserResult.addWarning(
+                addWarning(
                         Localization.lang("Line %0: Found corrupted citation key %1 (contains whitespaces).", String.valueOf(line), key.toString()));
                 break;
 
             case '\n':
-                parserResult.addWarning(
+                addWarning(
                         Localization.lang("Line %0: Found corrupted citation key %1 (comma missing).", String.valueOf(line), key.toString()));
                 break;
 
@@ -1152,4 +1464,17 @@ public class BibtexParser implements Parser {
                     + " but received " + (char) character);
         }
     }
+
+    /**
+     * The result of parsing a chunk of the input
+     *
+     * @param changes          the changes to the parser result, in input order
+     * @param remainingText    the text after the last item of the chunk
+     * @param endOfInputInItem whether the end of the chunk was reached while parsing an item, i.e., the chunk did not end between two items
+     */
+    private record ParsedChunk(List<Consumer<BibtexParser>> changes, String remainingText, boolean endOfInputInItem) {
+        boolean endsAtEntryBoundary() {
+            return !endOfInputInItem && remainingText.isEmpty();
+        }
+    }
 }
@@ -26,4 +26,9 @@ public class FieldChecker implements EntryChecker {
         Optional<String> value = entry.getField(field);
         return value.map(s -> OptionalUtil.toList(checker.checkValue(s).map(message -> new IntegrityMessage(message, entry, field)))).orElseGet(List::of);
     }
+
+    @Override
+    public String toString() {
+        return checker.getClass().getSimpleName() + " (" + field.getName() + ")";
+    }
 }
@@ -1,8 +1,17 @@
 package org.jabref.logic.integrity;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
@@ -12,11 +21,18 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 
+/**
+ * Checks the entries of a library using all {@link FieldChecker}s and {@link EntryChecker}s.
+ * <p>
+ * The checkers have to be thread-safe, because the entries of a library are checked in parallel (see {@link #check(BooleanSupplier, BiConsumer)}).
+ * The time spent in each checker and the number of messages it reported are recorded (see {@link #getCheckerStatistics()}).
+ */
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
     private final FieldCheckers fieldCheckers;
     private final List<EntryChecker> entryCheckers;
+    private final Map<String, CheckerStatistics.Accumulator> statistics = new ConcurrentHashMap<>();
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
@@ -54,37 +70,108 @@ public class IntegrityCheck {
         }
     }
 
-    List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
+    public List<IntegrityMessage> check() {
+        return check(() -> false, (_, _) -> {
+        });
+    }
 
+    /**
+     * Checks all entries of the library in parallel, followed by the checks of the whole library.
+     * The messages are ordered by the position of their entry in the library, no matter in which order the entries were checked.
+     *
+     * @param isCanceled       polled before an entry is checked. In case it returns true, the remaining entries are skipped.
+     * @param progressConsumer called with the number of checked entries and the number of all entries after each entry
+     */
+    public List<IntegrityMessage> check(BooleanSupplier isCanceled, BiConsumer<Integer, Integer> progressConsumer) {
         BibDatabase database = bibDatabaseContext.getDatabase();
-
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
+        List<BibEntry> entries = List.copyOf(database.getEntries());
+        List<FieldChecker> allFieldCheckers = fieldCheckers.getAll();
+        AtomicInteger checkedEntries = new AtomicInteger();
+
+        List<IntegrityMessage> result = new ArrayList<>(entries.parallelStream()
+                                                               .map(entry -> {
+                                                                   if (isCanceled.getAsBoolean()) {
+                                                                       return List.<IntegrityMessage>of();
+                                                                   }
+                                                                   List<IntegrityMessage> messages = checkEntry(entry, allFieldCheckers);
+                                                                   progressConsumer.accept(checkedEntries.incrementAndGet(), entries.size());
+                                                                   return messages;
+                                                               })
+                                                               .flatMap(List::stream)
+                                                               .toList());
+        if (!isCanceled.getAsBoolean()) {
+            result.addAll(checkDatabase(database));
         }
-        result.addAll(checkDatabase(database));
-
         return result;
     }
 
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
-        List<IntegrityMessage> result = new ArrayList<>();
         if (entry == null) {
-            return result;
+            return new ArrayList<>();
         }
+        return checkEntry(entry, fieldCheckers.getAll());
+    }
+
+    private List<IntegrityMessage> checkEntry(BibEntry entry, List<FieldChecker> allFieldCheckers) {
+        List<IntegrityMessage> result = new ArrayList<>();
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
+        for (FieldChecker fieldChecker : allFieldCheckers) {
+            result.addAll(checkTimed(fieldChecker.toString(), () -> fieldChecker.check(entry)));
         }
 
         for (EntryChecker entryChecker : entryCheckers) {
-            result.addAll(entryChecker.check(entry));
+            result.addAll(checkTimed(entryChecker.getClass().getSimpleName(), () -> entryChecker.check(entry)));
         }
 
         return result;
     }
 
     public List<IntegrityMessage> checkDatabase(BibDatabase database) {
-        return new DoiDuplicationChecker().check(database);
+        DoiDuplicationChecker doiDuplicationChecker = new DoiDuplicationChecker();
+        return checkTimed(doiDuplicationChecker.getClass().getSimpleName(), () -> doiDuplicationChecker.check(database));
+    }
+
+    private List<IntegrityMessage> checkTimed(String checker, Supplier<List<IntegrityMessage>> check) {
+        long start = System.nanoTime();
+        List<IntegrityMessage> messages = check.get();
+        statistics.computeIfAbsent(checker, _ -> new CheckerStatistics.Accumulator())
+                  .add(System.nanoTime() - start, messages.size());
+        return messages;
+    }
+
+    /**
+     * @return the statistics of all checkers run so far, the checker having taken the most time first
+     */
+    public List<CheckerStatistics> getCheckerStatistics() {
+        return statistics.entrySet().stream()
+                         .map(entry -> entry.getValue().toStatistics(entry.getKey()))
+                         .sorted(Comparator.comparing(CheckerStatistics::duration).reversed()
+                                           .thenComparing(CheckerStatistics::checker))
+                         .toList();
+    }
+
+    /**
+     * @param checker  the name of the checker
+     * @param duration the time spent in the checker, summed over all threads
+     * @param runs     the number of times the checker was run
+     * @param messages the number of messages reported by the checker
+     */
+    public record CheckerStatistics(String checker, Duration duration, long runs, long messages) {
+
+        private static class Accumulator {
+            private final LongAdder nanos = new LongAdder();
+            private final LongAdder runs = new LongAdder();
+            private final LongAdder messages = new LongAdder();
+
+            void add(long elapsedNanos, int numberOfMessages) {
+                nanos.add(elapsedNanos);
+                runs.increment();
+                messages.add(numberOfMessages);
+            }
+
+            CheckerStatistics toStatistics(String checker) {
+                return new CheckerStatistics(checker, Duration.ofNanos(nanos.sum()), runs.sum(), messages.sum());
+            }
+        }
     }
 }
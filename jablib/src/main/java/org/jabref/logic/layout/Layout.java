@@ -87,6 +87,14 @@ public class Layout {
         }
     }
 
+    /**
+     * Checks whether the output for an entry depends on the entries rendered before, which is the case for layouts containing group blocks.
+     * Other layouts can render entries independently of each other.
+     */
+    public boolean dependsOnPreviousEntry() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::dependsOnPreviousEntry);
+    }
+
     public String getText() {
         return layoutEntries.stream().map(LayoutEntry::getText).collect(Collectors.joining("\n"));
     }
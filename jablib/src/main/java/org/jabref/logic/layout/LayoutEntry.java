@@ -199,6 +199,14 @@ class LayoutEntry {
         this.postFormatter = formatter;
     }
 
+    /**
+     * A group block is only output in case the group differs from the one of the previous entry
+     */
+    boolean dependsOnPreviousEntry() {
+        return (type == LayoutHelper.IS_GROUP_START)
+                || ((layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::dependsOnPreviousEntry));
+    }
+
     public String doLayout(BibEntry bibEntry, BibDatabase database) {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT:
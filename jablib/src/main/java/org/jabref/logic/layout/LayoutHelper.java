@@ -34,7 +34,8 @@ public class LayoutHelper {
     public static final int IS_FILENAME = 9;
     public static final int IS_FILEPATH = 10;
 
-    private static String currentGroup;
+    // The group of the previously rendered entry. It is kept per thread, thus renderings on different threads do not interfere.
+    private static final ThreadLocal<String> CURRENT_GROUP = new ThreadLocal<>();
 
     private final PushbackReader in;
     private final List<StringInt> parsedEntries = new ArrayList<>();
@@ -74,11 +75,11 @@ public class LayoutHelper {
     }
 
     public static String getCurrentGroup() {
-        return LayoutHelper.currentGroup;
+        return CURRENT_GROUP.get();
     }
 
     public static void setCurrentGroup(String newGroup) {
-        LayoutHelper.currentGroup = newGroup;
+        CURRENT_GROUP.set(newGroup);
     }
 
     private void doBracketedField(final int field) throws IOException {
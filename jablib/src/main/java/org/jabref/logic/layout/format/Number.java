@@ -5,10 +5,23 @@ import org.jabref.logic.layout.ParamLayoutFormatter;
 /**
  * Formatter that outputs a sequence number for the current entry. The sequence number is
  * tied to the entry's position in the order, not to the number of calls to this formatter.
+ * <p>
+ * The number is kept per thread, thus entries can be rendered in parallel. It is 1 unless set otherwise.
  */
 public class Number implements ParamLayoutFormatter {
 
-    public static int serialExportNumber;
+    private static final ThreadLocal<Integer> SERIAL_EXPORT_NUMBER = ThreadLocal.withInitial(() -> 1);
+
+    /**
+     * Sets the sequence number of the entries rendered by the current thread
+     */
+    public static void setSerialExportNumber(int serialExportNumber) {
+        SERIAL_EXPORT_NUMBER.set(serialExportNumber);
+    }
+
+    public static void resetSerialExportNumber() {
+        SERIAL_EXPORT_NUMBER.remove();
+    }
 
     @Override
     public void setArgument(String arg) {
@@ -17,6 +30,6 @@ public class Number implements ParamLayoutFormatter {
 
     @Override
     public String format(String fieldText) {
-        return String.valueOf(serialExportNumber);
+        return String.valueOf(SERIAL_EXPORT_NUMBER.get());
     }
 }
@@ -200,8 +200,10 @@ public class CSLCitationOOAdapter {
             // Sort entries based on their order of appearance in the document
             entries.sort(Comparator.comparingInt(entry -> markManager.getCitationNumber(entry.getCitationKey().orElse(""))));
 
-            for (BibEntry entry : entries) {
-                String bibliographyEntry = CitationStyleGenerator.generateBibliography(List.of(entry), style, HTML_OUTPUT_FORMAT, bibDatabaseContext, bibEntryTypesManager).getFirst();
+            List<String> bibliographyEntries = CitationStyleGenerator.generateBibliographies(entries, style, HTML_OUTPUT_FORMAT, bibDatabaseContext, bibEntryTypesManager);
+            for (int i = 0; i < entries.size(); i++) {
+                BibEntry entry = entries.get(i);
+                String bibliographyEntry = bibliographyEntries.get(i);
                 String citationKey = entry.getCitationKey().orElse("");
                 int currentNumber = markManager.getCitationNumber(citationKey);
                 String formattedBibliographyEntry = CSLFormatUtils.transformHTML(bibliographyEntry);
@@ -0,0 +1,30 @@
+package org.jabref.logic.search;
+
+import java.util.Collection;
+
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+
+/**
+ * Index over the fields of the entries of a library, answering searches on the fields.
+ */
+public interface BibFieldsIndex {
+    void updateOnStart(BackgroundTask<?> task);
+
+    void addToIndex(Collection<BibEntry> entries, BackgroundTask<?> task);
+
+    void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task);
+
+    void updateEntry(BibEntry entry, Field field);
+
+    SearchResults search(SearchQuery searchQuery);
+
+    boolean isMatched(BibEntry entry, SearchQuery searchQuery);
+
+    void close();
+
+    void closeAndWait();
+}
@@ -27,9 +27,18 @@ public class DatabaseSearcher {
                             TaskExecutor taskExecutor,
                             CliPreferences preferences,
                             PostgreServer postgreServer) throws IOException {
+        this(query, databaseContext, taskExecutor, preferences, postgreServer, SearchBackend.POSTGRES);
+    }
+
+    public DatabaseSearcher(SearchQuery query,
+                            BibDatabaseContext databaseContext,
+                            TaskExecutor taskExecutor,
+                            CliPreferences preferences,
+                            PostgreServer postgreServer,
+                            SearchBackend searchBackend) throws IOException {
         this.databaseContext = databaseContext;
         this.query = Objects.requireNonNull(query);
-        this.indexManager = new IndexManager(databaseContext, taskExecutor, preferences, postgreServer);
+        this.indexManager = new IndexManager(databaseContext, taskExecutor, preferences, postgreServer, searchBackend);
     }
 
     /**
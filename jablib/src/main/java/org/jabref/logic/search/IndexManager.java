@@ -16,10 +16,10 @@ import javafx.beans.property.BooleanProperty;
 import javafx.beans.value.ChangeListener;
 
 import org.jabref.logic.preferences.CliPreferences;
-import org.jabref.logic.search.indexing.BibFieldsIndexer;
 import org.jabref.logic.search.indexing.DefaultLinkedFilesIndexer;
+import org.jabref.logic.search.indexing.InMemoryBibFieldsIndex;
+import org.jabref.logic.search.indexing.PostgresBibFieldsIndex;
 import org.jabref.logic.search.indexing.ReadOnlyLinkedFilesIndexer;
-import org.jabref.logic.search.retrieval.BibFieldsSearcher;
 import org.jabref.logic.search.retrieval.LinkedFilesSearcher;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.Directories;
@@ -47,22 +47,35 @@ public class IndexManager {
     private final BibDatabaseContext databaseContext;
     private final BooleanProperty shouldIndexLinkedFiles;
     private final ChangeListener<Boolean> preferencesListener;
-    private final BibFieldsIndexer bibFieldsIndexer;
+    private final BibFieldsIndex bibFieldsIndex;
     private final LuceneIndexer linkedFilesIndexer;
-    private final BibFieldsSearcher bibFieldsSearcher;
     private final LinkedFilesSearcher linkedFilesSearcher;
 
     public IndexManager(BibDatabaseContext databaseContext,
                         TaskExecutor executor,
                         CliPreferences preferences,
                         PostgreServer postgreServer) {
+        this(databaseContext, executor, preferences, postgreServer, SearchBackend.POSTGRES);
+    }
+
+    /**
+     * @param postgreServer the server to index the fields in. Not used if the search backend is {@link SearchBackend#IN_MEMORY}.
+     */
+    public IndexManager(BibDatabaseContext databaseContext,
+                        TaskExecutor executor,
+                        CliPreferences preferences,
+                        PostgreServer postgreServer,
+                        SearchBackend searchBackend) {
         this.taskExecutor = executor;
         this.databaseContext = databaseContext;
         this.shouldIndexLinkedFiles = preferences.getFilePreferences().fulltextIndexLinkedFilesProperty();
         this.preferencesListener = (observable, oldValue, newValue) -> bindToPreferences(newValue);
         this.shouldIndexLinkedFiles.addListener(preferencesListener);
 
-        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection());
+        bibFieldsIndex = switch (searchBackend) {
+            case POSTGRES -> new PostgresBibFieldsIndex(preferences.getBibEntryPreferences(), databaseContext, postgreServer);
+            case IN_MEMORY -> new InMemoryBibFieldsIndex(preferences.getBibEntryPreferences(), databaseContext);
+        };
 
         LuceneIndexer indexer;
         try {
@@ -73,7 +86,6 @@ public class IndexManager {
         }
         linkedFilesIndexer = indexer;
 
-        this.bibFieldsSearcher = new BibFieldsSearcher(postgreServer.getConnection(), bibFieldsIndexer.getTable());
         this.linkedFilesSearcher = new LinkedFilesSearcher(databaseContext, linkedFilesIndexer, preferences.getFilePreferences());
         updateOnStart();
     }
@@ -96,7 +108,7 @@ public class IndexManager {
         new BackgroundTask<>() {
             @Override
             public Object call() {
-                bibFieldsIndexer.updateOnStart(this);
+                bibFieldsIndex.updateOnStart(this);
                 return null;
             }
         }.willBeRecoveredAutomatically(true)
@@ -118,7 +130,7 @@ public class IndexManager {
         new BackgroundTask<>() {
             @Override
             public Object call() {
-                bibFieldsIndexer.addToIndex(entries, this);
+                bibFieldsIndex.addToIndex(entries, this);
                 return null;
             }
         }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(entries)))
@@ -139,7 +151,7 @@ public class IndexManager {
         new BackgroundTask<>() {
             @Override
             public Object call() {
-                bibFieldsIndexer.removeFromIndex(entries, this);
+                bibFieldsIndex.removeFromIndex(entries, this);
                 return null;
             }
         }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexRemovedEvent(entries)))
@@ -160,7 +172,7 @@ public class IndexManager {
         new BackgroundTask<>() {
             @Override
             public Object call() {
-                bibFieldsIndexer.updateEntry(event.getBibEntry(), event.getField());
+                bibFieldsIndex.updateEntry(event.getBibEntry(), event.getField());
                 return null;
             }
         }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(List.of(event.getBibEntry()))))
@@ -190,14 +202,14 @@ public class IndexManager {
     }
 
     public void close() {
-        bibFieldsIndexer.close();
+        bibFieldsIndex.close();
         shouldIndexLinkedFiles.removeListener(preferencesListener);
         linkedFilesIndexer.close();
         databaseContext.getDatabase().postEvent(new IndexClosedEvent());
     }
 
     public void closeAndWait() {
-        bibFieldsIndexer.closeAndWait();
+        bibFieldsIndex.closeAndWait();
         shouldIndexLinkedFiles.removeListener(preferencesListener);
         linkedFilesIndexer.closeAndWait();
         databaseContext.getDatabase().postEvent(new IndexClosedEvent());
@@ -205,7 +217,7 @@ public class IndexManager {
 
     public SearchResults search(SearchQuery query) {
         List<Callable<SearchResults>> tasks = new ArrayList<>();
-        tasks.add(() -> bibFieldsSearcher.search(query));
+        tasks.add(() -> bibFieldsIndex.search(query));
 
         if (query.getSearchFlags().contains(SearchFlags.FULLTEXT)) {
             tasks.add(() -> linkedFilesSearcher.search(query));
@@ -229,7 +241,7 @@ public class IndexManager {
      * @implNote No need to check for full-text searches as this method only used by the search groups
      */
     public boolean isEntryMatched(BibEntry entry, SearchQuery query) {
-        return bibFieldsSearcher.isMatched(entry, query);
+        return bibFieldsIndex.isMatched(entry, query);
     }
 
     public static void clearOldSearchIndices() {
@@ -1,8 +1,15 @@
 package org.jabref.logic.search;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.sql.DataSource;
 
@@ -13,24 +20,66 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.search.PostgreConstants.BIB_FIELDS_SCHEME;
+import static org.jabref.model.search.PostgreConstants.LAST_OPENED;
+import static org.jabref.model.search.PostgreConstants.LIBRARY_FINGERPRINT;
+import static org.jabref.model.search.PostgreConstants.TABLE_NAME;
+import static org.jabref.model.search.PostgreConstants.VALID;
 
 public class PostgreServer {
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgreServer.class);
+
+    /**
+     * Stored indexes of libraries, which were not opened for this duration, are removed on start
+     */
+    private static final Duration UNUSED_INDEX_RETENTION = Duration.ofDays(30);
+
     private final EmbeddedPostgres embeddedPostgres;
     private final DataSource dataSource;
+    private final boolean persistent;
 
+    /**
+     * Starts a server storing its data in a temporary directory, which is removed on shutdown.
+     */
     public PostgreServer() {
-        EmbeddedPostgres embeddedPostgres;
-        try {
-            embeddedPostgres = EmbeddedPostgres.builder()
-                                               .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
-                                               .start();
-            LOGGER.info("Postgres server started, connection port: {}", embeddedPostgres.getPort());
-        } catch (IOException e) {
-            LOGGER.error("Could not start Postgres server", e);
-            this.embeddedPostgres = null;
-            this.dataSource = null;
-            return;
+        this(null);
+    }
+
+    /**
+     * Starts a server storing its data in the given directory, which is kept on shutdown.
+     * This enables re-using the bib fields index of a library after a restart.
+     * If the server cannot be started on the given directory (e.g., because it is used by another JabRef instance), a temporary directory is used.
+     *
+     * @param dataDirectory the directory to store the data in, or null to use a temporary directory
+     */
+    public PostgreServer(Path dataDirectory) {
+        EmbeddedPostgres embeddedPostgres = null;
+        if (dataDirectory != null) {
+            try {
+                Files.createDirectories(dataDirectory);
+                embeddedPostgres = EmbeddedPostgres.builder()
+                                                   .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
+                                                   .setDataDirectory(dataDirectory)
+                                                   .setCleanDataDirectory(false)
+                                                   .start();
+                LOGGER.info("Postgres server started on {}, connection port: {}", dataDirectory, embeddedPostgres.getPort());
+            } catch (IOException | IllegalStateException e) {
+                LOGGER.warn("Could not start Postgres server on {}, falling back to a temporary directory", dataDirectory, e);
+            }
+        }
+        this.persistent = embeddedPostgres != null;
+
+        if (embeddedPostgres == null) {
+            try {
+                embeddedPostgres = EmbeddedPostgres.builder()
+                                                   .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
+                                                   .start();
+                LOGGER.info("Postgres server started, connection port: {}", embeddedPostgres.getPort());
+            } catch (IOException e) {
+                LOGGER.error("Could not start Postgres server", e);
+                this.embeddedPostgres = null;
+                this.dataSource = null;
+                return;
+            }
         }
 
         this.embeddedPostgres = embeddedPostgres;
@@ -38,20 +87,94 @@ public class PostgreServer {
         addTrigramExtension();
         createScheme();
         addFunctions();
+        if (persistent) {
+            createLibraryStateTable();
+            removeUnusedIndexes(UNUSED_INDEX_RETENTION);
+        }
     }
 
     private void createScheme() {
         try (Connection connection = getConnection()) {
             if (connection != null) {
                 LOGGER.debug("Creating scheme for bib fields");
-                connection.createStatement().execute("DROP SCHEMA IF EXISTS " + BIB_FIELDS_SCHEME);
-                connection.createStatement().execute("CREATE SCHEMA " + BIB_FIELDS_SCHEME);
+                // The schema is kept if the server is started on a persistent data directory
+                connection.createStatement().execute("CREATE SCHEMA IF NOT EXISTS " + BIB_FIELDS_SCHEME);
             }
         } catch (SQLException e) {
             LOGGER.error("Could not create scheme for bib fields", e);
         }
     }
 
+    /**
+     * Creates the table keeping track of the stored index of each library.
+     * The stored indexes are re-used after a restart, and removed if their library was not opened for a while.
+     */
+    private void createLibraryStateTable() {
+        try (Connection connection = getConnection()) {
+            if (connection != null) {
+                LOGGER.debug("Creating library state table");
+                String libraryStateTable = PostgreConstants.getLibraryStateTableSchemaReference();
+                connection.createStatement().execute("""
+                        CREATE TABLE IF NOT EXISTS %s (
+                            %s TEXT PRIMARY KEY,
+                            %s TEXT NOT NULL,
+                            %s BOOLEAN NOT NULL
+                        )
+                        """.formatted(
+                        libraryStateTable,
+                        TABLE_NAME,
+                        LIBRARY_FINGERPRINT,
+                        VALID));
+                // Tables created by earlier versions do not track when the library was last opened
+                connection.createStatement().execute("""
+                        ALTER TABLE %s ADD COLUMN IF NOT EXISTS %s TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+                        """.formatted(libraryStateTable, LAST_OPENED));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Could not create library state table", e);
+        }
+    }
+
+    /**
+     * Removes the stored indexes of libraries, which were not opened within the given duration.
+     * Otherwise, the indexes of moved or deleted libraries would be kept forever.
+     */
+    void removeUnusedIndexes(Duration retention) {
+        try (Connection connection = getConnection()) {
+            if (connection == null) {
+                return;
+            }
+            String libraryStateTable = PostgreConstants.getLibraryStateTableSchemaReference();
+            List<String> unusedTables = new ArrayList<>();
+            try (ResultSet resultSet = connection.createStatement().executeQuery("""
+                    SELECT "%s" FROM %s WHERE "%s" < CURRENT_TIMESTAMP - INTERVAL '%d seconds'
+                    """.formatted(TABLE_NAME, libraryStateTable, LAST_OPENED, retention.toSeconds()))) {
+                while (resultSet.next()) {
+                    unusedTables.add(resultSet.getString(1));
+                }
+            }
+
+            try (PreparedStatement deleteState = connection.prepareStatement("""
+                    DELETE FROM %s WHERE "%s" = ?
+                    """.formatted(libraryStateTable, TABLE_NAME))) {
+                for (String mainTable : unusedTables) {
+                    LOGGER.debug("Removing unused stored index {}", mainTable);
+                    connection.createStatement().executeUpdate("DROP TABLE IF EXISTS %s, %s, %s".formatted(
+                            PostgreConstants.getMainTableSchemaReference(mainTable),
+                            PostgreConstants.getSplitTableSchemaReference(mainTable),
+                            PostgreConstants.getFingerprintTableSchemaReference(mainTable)));
+                    deleteState.setString(1, mainTable);
+                    deleteState.executeUpdate();
+                }
+            }
+            if (!unusedTables.isEmpty()) {
+                LOGGER.info("Removed {} stored indexes of libraries not opened within {} days", unusedTables.size(), retention.toDays());
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Could not remove unused stored indexes", e);
+        }
+    }
+
     private void addTrigramExtension() {
         try (Connection connection = getConnection()) {
             if (connection != null) {
@@ -87,6 +210,13 @@ public class PostgreServer {
         return null;
     }
 
+    /**
+     * @return true if the data of this server survives a restart
+     */
+    public boolean isPersistent() {
+        return persistent;
+    }
+
     public void shutdown() {
         if (embeddedPostgres != null) {
             try {
@@ -0,0 +1,27 @@
+package org.jabref.logic.search;
+
+import org.jabref.logic.l10n.Localization;
+
+/**
+ * The implementation used to search the fields of the entries. Full-text search of linked files is independent of this setting.
+ */
+public enum SearchBackend {
+    /**
+     * Fields are indexed in the embedded PostgreSQL server, and queries are converted to SQL
+     */
+    POSTGRES,
+
+    /**
+     * Fields are indexed in memory, and queries are compiled to predicates evaluated in the JVM
+     */
+    IN_MEMORY;
+
+    public String getDisplayName() {
+        return switch (this) {
+            case POSTGRES ->
+                    Localization.lang("PostgreSQL index");
+            case IN_MEMORY ->
+                    Localization.lang("In-memory index");
+        };
+    }
+}
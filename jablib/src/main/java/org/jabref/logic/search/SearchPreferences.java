@@ -25,6 +25,7 @@ public class SearchPreferences {
     private final DoubleProperty searchWindowDividerPosition;
     private final BooleanProperty keepSearchSting;
     private final ObjectProperty<SearchDisplayMode> searchDisplayMode;
+    private final ObjectProperty<SearchBackend> searchBackend;
 
     public SearchPreferences(SearchDisplayMode searchDisplayMode,
                              boolean isRegularExpression,
@@ -34,8 +35,9 @@ public class SearchPreferences {
                              boolean keepWindowOnTop,
                              double searchWindowHeight,
                              double searchWindowWidth,
-                             double searchWindowDividerPosition) {
-        this(searchDisplayMode, EnumSet.noneOf(SearchFlags.class), keepSearchString, keepWindowOnTop, searchWindowHeight, searchWindowWidth, searchWindowDividerPosition);
+                             double searchWindowDividerPosition,
+                             SearchBackend searchBackend) {
+        this(searchDisplayMode, EnumSet.noneOf(SearchFlags.class), keepSearchString, keepWindowOnTop, searchWindowHeight, searchWindowWidth, searchWindowDividerPosition, searchBackend);
         if (isRegularExpression) {
             searchFlags.add(SearchFlags.REGULAR_EXPRESSION);
         }
@@ -48,7 +50,7 @@ public class SearchPreferences {
     }
 
     @VisibleForTesting
-    public SearchPreferences(SearchDisplayMode searchDisplayMode, EnumSet<SearchFlags> searchFlags, boolean keepSearchString, boolean keepWindowOnTop, double searchWindowHeight, double searchWindowWidth, double searchWindowDividerPosition) {
+    public SearchPreferences(SearchDisplayMode searchDisplayMode, EnumSet<SearchFlags> searchFlags, boolean keepSearchString, boolean keepWindowOnTop, double searchWindowHeight, double searchWindowWidth, double searchWindowDividerPosition, SearchBackend searchBackend) {
         this.searchDisplayMode = new SimpleObjectProperty<>(searchDisplayMode);
         this.searchFlags = FXCollections.observableSet(searchFlags);
 
@@ -57,6 +59,7 @@ public class SearchPreferences {
         this.searchWindowWidth = new SimpleDoubleProperty(searchWindowWidth);
         this.searchWindowDividerPosition = new SimpleDoubleProperty(searchWindowDividerPosition);
         this.keepSearchSting = new SimpleBooleanProperty(keepSearchString);
+        this.searchBackend = new SimpleObjectProperty<>(searchBackend);
     }
 
     public EnumSet<SearchFlags> getSearchFlags() {
@@ -162,4 +165,16 @@ public class SearchPreferences {
     public void setKeepSearchString(boolean keepSearchString) {
         this.keepSearchSting.set(keepSearchString);
     }
+
+    public SearchBackend getSearchBackend() {
+        return searchBackend.get();
+    }
+
+    public ObjectProperty<SearchBackend> searchBackendProperty() {
+        return searchBackend;
+    }
+
+    public void setSearchBackend(SearchBackend searchBackend) {
+        this.searchBackend.set(searchBackend);
+    }
 }
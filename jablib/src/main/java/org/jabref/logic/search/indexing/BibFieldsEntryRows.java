@@ -0,0 +1,12 @@
+package org.jabref.logic.search.indexing;
+
+import java.util.List;
+
+/**
+ * All rows of the bib fields index belonging to one entry.
+ *
+ * @param fieldRows      the rows of the main table, one per field (including the entry type)
+ * @param splitValueRows the rows of the split values table, one per value of a multi-value field (e.g., authors, keywords)
+ */
+public record BibFieldsEntryRows(String entryId, List<BibFieldsRow> fieldRows, List<BibFieldsRow> splitValueRows) {
+}
@@ -2,46 +2,63 @@ package org.jabref.logic.search.indexing;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Map;
-import java.util.Optional;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryPreferences;
-import org.jabref.model.entry.KeywordList;
 import org.jabref.model.entry.field.Field;
-import org.jabref.model.entry.field.FieldProperty;
-import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.PostgreConstants;
 
 import io.github.thibaultmeyer.cuid.CUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static org.jabref.model.entry.field.InternalField.TYPE_HEADER;
+import static org.jabref.model.search.PostgreConstants.ENTRY_FINGERPRINT;
 import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
 import static org.jabref.model.search.PostgreConstants.FIELD_NAME;
 import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_LITERAL;
 import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_TRANSFORMED;
+import static org.jabref.model.search.PostgreConstants.LAST_OPENED;
+import static org.jabref.model.search.PostgreConstants.LIBRARY_FINGERPRINT;
 import static org.jabref.model.search.PostgreConstants.SPLIT_TABLE_SUFFIX;
+import static org.jabref.model.search.PostgreConstants.TABLE_NAME;
+import static org.jabref.model.search.PostgreConstants.VALID;
 
 public class BibFieldsIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsIndexer.class);
-    private static final LatexToUnicodeFormatter LATEX_TO_UNICODE_FORMATTER = new LatexToUnicodeFormatter();
-    private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
-    private static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
+
+    /**
+     * Collections of at least this size are indexed using {@link #bulkAddToIndex(Collection, BackgroundTask)}
+     */
+    private static final int BULK_LOAD_THRESHOLD = 100;
+
+    /**
+     * Number of entries written to the database per batch (and per transaction) during a bulk load
+     */
+    private static final int BULK_LOAD_BATCH_SIZE = 2_000;
+
+    /**
+     * Number of partitions computed concurrently during a bulk load. One core is left for the writer (and the database server).
+     */
+    private static final int BULK_LOAD_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
 
     private final BibDatabaseContext databaseContext;
+    private final PostgreServer postgreServer;
     private final Connection connection;
     private final String libraryName;
     private final String mainTable;
@@ -49,26 +66,46 @@ public class BibFieldsIndexer {
     private final String splitValuesTable;
     private final String schemaSplitValuesTableReference;
     private final Character keywordSeparator;
+    private final BibFieldsRowBuilder rowBuilder;
+    private final boolean persistent;
+    private final String schemaFingerprintTableReference;
+    private final String schemaLibraryStateTableReference;
 
-    public BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, Connection connection) {
+    /**
+     * The index of a saved library is kept when closing and re-used on the next start if the server keeps its data across restarts (see {@link PostgreServer#isPersistent()}).
+     * Only entries added, changed, or removed in the meantime are re-indexed then.
+     * Stored indexes of libraries, which were not opened for a while (e.g., because they were moved or deleted), are removed by the server on start.
+     * <p>
+     * Single updates use one connection of this indexer. Transactions spanning many statements (bulk loads, re-using and storing the index) open a separate connection each,
+     * so that concurrent single updates neither become part of these transactions nor run with auto commit disabled.
+     */
+    public BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, PostgreServer postgreServer) {
         this.databaseContext = databaseContext;
-        this.connection = connection;
+        this.postgreServer = postgreServer;
+        this.connection = postgreServer.getConnection();
         this.keywordSeparator = bibEntryPreferences.getKeywordSeparator();
+        this.rowBuilder = new BibFieldsRowBuilder(databaseContext.getDatabase(), keywordSeparator);
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("unsaved");
+        this.persistent = postgreServer.isPersistent() && databaseContext.getDatabasePath().isPresent();
 
-        this.mainTable = CUID.randomCUID2(12).toString();
+        this.mainTable = this.persistent
+                         ? IndexFingerprints.tableNameForLibrary(databaseContext.getDatabasePath().get())
+                         : CUID.randomCUID2(12).toString();
         this.splitValuesTable = mainTable + SPLIT_TABLE_SUFFIX;
 
         this.schemaMainTableReference = PostgreConstants.getMainTableSchemaReference(mainTable);
         this.schemaSplitValuesTableReference = PostgreConstants.getSplitTableSchemaReference(mainTable);
+        this.schemaFingerprintTableReference = PostgreConstants.getFingerprintTableSchemaReference(mainTable);
+        this.schemaLibraryStateTableReference = PostgreConstants.getLibraryStateTableSchemaReference();
         // TODO: Set-up should be in a background task
-        setup();
+        createTables();
     }
 
     /**
-     * Creates a table for the library in the database, and sets up indexes on the columns.
+     * Creates the tables for the library in the database.
+     * The secondary indexes are created by {@link #createIndexes()} after the initial bulk load, because maintaining them row by row is much slower than building them once.
      */
-    private void setup() {
+    private void createTables() {
         try {
             connection.createStatement().executeUpdate("""
                     CREATE TABLE IF NOT EXISTS %s (
@@ -100,10 +137,28 @@ public class BibFieldsIndexer {
                     FIELD_VALUE_LITERAL,
                     FIELD_VALUE_TRANSFORMED));
 
+            if (persistent) {
+                connection.createStatement().executeUpdate("""
+                        CREATE TABLE IF NOT EXISTS %s (
+                            %s TEXT PRIMARY KEY,
+                            %s TEXT NOT NULL
+                        )
+                        """.formatted(
+                        schemaFingerprintTableReference,
+                        ENTRY_ID,
+                        ENTRY_FINGERPRINT));
+            }
+
             LOGGER.debug("Created tables for library: {}", libraryName);
         } catch (SQLException e) {
             LOGGER.error("Could not create tables for library: {}", libraryName, e);
         }
+    }
+
+    /**
+     * Sets up indexes on the columns of the tables.
+     */
+    private void createIndexes() {
         try {
             // region btree index on id column
             connection.createStatement().executeUpdate("""
@@ -161,10 +216,193 @@ public class BibFieldsIndexer {
     }
 
     public void updateOnStart(BackgroundTask<?> task) {
-        addToIndex(databaseContext.getDatabase().getEntries(), task);
+        Collection<BibEntry> entriesToIndex = databaseContext.getDatabase().getEntries();
+        if (persistent) {
+            entriesToIndex = reuseStoredIndex(entriesToIndex);
+        }
+        bulkAddToIndex(entriesToIndex, task);
+        createIndexes();
+    }
+
+    /**
+     * Re-uses the index stored in a previous session. The rows of entries, which did not change since then, are re-keyed to the current entry ids.
+     * The rows of all other entries are removed.
+     * <p>
+     * The stored index is marked as invalid afterward. It is marked as valid again when the index is closed properly.
+     * Thus, after a crash, the library is re-indexed completely.
+     *
+     * @return the entries, which need to be indexed
+     */
+    private Collection<BibEntry> reuseStoredIndex(Collection<BibEntry> entries) {
+        long startTime = System.currentTimeMillis();
+        String libraryFingerprint = IndexFingerprints.ofLibrary(databaseContext.getDatabase(), keywordSeparator);
+        Collection<BibEntry> entriesToIndex = entries;
+        try (Connection transaction = openTransaction()) {
+            try {
+                if (isStoredIndexValid(transaction, libraryFingerprint)) {
+                    Set<String> reKeyedEntryIds = reKeyStoredRows(transaction, entries);
+                    entriesToIndex = entries.stream()
+                                            .filter(entry -> !reKeyedEntryIds.contains(entry.getId()))
+                                            .toList();
+                    LOGGER.debug("Re-using stored index for {} of {} entries of library {}", reKeyedEntryIds.size(), entries.size(), libraryName);
+                } else {
+                    clearStoredIndex(transaction);
+                }
+                // The fingerprints are stored again on close
+                transaction.createStatement().executeUpdate("TRUNCATE %s".formatted(schemaFingerprintTableReference));
+                storeLibraryState(transaction, libraryFingerprint, false);
+                transaction.commit();
+            } catch (SQLException e) {
+                rollback(transaction);
+                throw e;
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Could not re-use stored index for library: {}", libraryName, e);
+            clearStoredIndex(connection);
+            entriesToIndex = entries;
+        }
+        LOGGER.debug("Checked stored index of library {} in {} ms", libraryName, System.currentTimeMillis() - startTime);
+        return entriesToIndex;
+    }
+
+    private boolean isStoredIndexValid(Connection transaction, String libraryFingerprint) throws SQLException {
+        try (PreparedStatement preparedStatement = transaction.prepareStatement("""
+                SELECT "%s", "%s" FROM %s WHERE "%s" = ?
+                """.formatted(LIBRARY_FINGERPRINT, VALID, schemaLibraryStateTableReference, TABLE_NAME))) {
+            preparedStatement.setString(1, mainTable);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next()
+                        && resultSet.getBoolean(2)
+                        && libraryFingerprint.equals(resultSet.getString(1));
+            }
+        }
+    }
+
+    /**
+     * Matches the stored fingerprints with the fingerprints of the current entries, and replaces the entry ids of the previous session by the current ones.
+     * Rows of entries without a match are deleted.
+     *
+     * @return the ids of the current entries, which are already indexed
+     */
+    private Set<String> reKeyStoredRows(Connection transaction, Collection<BibEntry> entries) throws SQLException {
+        transaction.createStatement().executeUpdate("""
+                CREATE TEMP TABLE IF NOT EXISTS current_fingerprints ("%s" TEXT, "%s" TEXT)
+                """.formatted(ENTRY_ID, ENTRY_FINGERPRINT));
+        transaction.createStatement().executeUpdate("TRUNCATE current_fingerprints");
+        try (PreparedStatement preparedStatement = transaction.prepareStatement("""
+                INSERT INTO current_fingerprints ("%s", "%s") VALUES (?, ?)
+                """.formatted(ENTRY_ID, ENTRY_FINGERPRINT))) {
+            for (BibEntry entry : entries) {
+                preparedStatement.setString(1, entry.getId());
+                preparedStatement.setString(2, IndexFingerprints.ofEntry(entry, databaseContext.getDatabase()));
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+
+        // Identical entries have identical fingerprints. Thus, the n-th stored entry is matched with the n-th current entry having the same fingerprint.
+        transaction.createStatement().executeUpdate("DROP TABLE IF EXISTS id_mapping");
+        transaction.createStatement().executeUpdate("""
+                CREATE TEMP TABLE id_mapping AS
+                SELECT stored_entries."%1$s" AS old_id, current_entries."%1$s" AS new_id
+                FROM (SELECT "%1$s", "%2$s", row_number() OVER (PARTITION BY "%2$s" ORDER BY "%1$s") AS occurrence FROM %3$s) stored_entries
+                JOIN (SELECT "%1$s", "%2$s", row_number() OVER (PARTITION BY "%2$s" ORDER BY "%1$s") AS occurrence FROM current_fingerprints) current_entries
+                ON stored_entries."%2$s" = current_entries."%2$s" AND stored_entries.occurrence = current_entries.occurrence
+                """.formatted(ENTRY_ID, ENTRY_FINGERPRINT, schemaFingerprintTableReference));
+
+        for (String table : List.of(schemaMainTableReference, schemaSplitValuesTableReference)) {
+            transaction.createStatement().executeUpdate("""
+                    DELETE FROM %1$s WHERE NOT EXISTS (SELECT 1 FROM id_mapping WHERE id_mapping.old_id = %1$s."%2$s")
+                    """.formatted(table, ENTRY_ID));
+            // Ids of the previous session and of the current session overlap. To avoid primary key violations during the update,
+            // the new ids are written with a prefix first, which is stripped afterward.
+            transaction.createStatement().executeUpdate("""
+                    UPDATE %1$s SET "%2$s" = '~' || id_mapping.new_id FROM id_mapping WHERE id_mapping.old_id = %1$s."%2$s"
+                    """.formatted(table, ENTRY_ID));
+            transaction.createStatement().executeUpdate("""
+                    UPDATE %1$s SET "%2$s" = substr("%2$s", 2)
+                    """.formatted(table, ENTRY_ID));
+        }
+
+        Set<String> reKeyedEntryIds = new HashSet<>();
+        try (ResultSet resultSet = transaction.createStatement().executeQuery("SELECT new_id FROM id_mapping")) {
+            while (resultSet.next()) {
+                reKeyedEntryIds.add(resultSet.getString(1));
+            }
+        }
+        return reKeyedEntryIds;
+    }
+
+    private void clearStoredIndex(Connection databaseConnection) {
+        try {
+            databaseConnection.createStatement().executeUpdate("TRUNCATE %s, %s, %s".formatted(schemaMainTableReference, schemaSplitValuesTableReference, schemaFingerprintTableReference));
+        } catch (SQLException e) {
+            LOGGER.error("Could not clear stored index for library: {}", libraryName, e);
+        }
+    }
+
+    private void storeLibraryState(Connection transaction, String libraryFingerprint, boolean valid) throws SQLException {
+        try (PreparedStatement preparedStatement = transaction.prepareStatement("""
+                INSERT INTO %1$s ("%2$s", "%3$s", "%4$s", "%5$s") VALUES (?, ?, ?, CURRENT_TIMESTAMP)
+                ON CONFLICT ("%2$s") DO UPDATE SET "%3$s" = EXCLUDED."%3$s", "%4$s" = EXCLUDED."%4$s", "%5$s" = EXCLUDED."%5$s"
+                """.formatted(schemaLibraryStateTableReference, TABLE_NAME, LIBRARY_FINGERPRINT, VALID, LAST_OPENED))) {
+            preparedStatement.setString(1, mainTable);
+            preparedStatement.setString(2, libraryFingerprint);
+            preparedStatement.setBoolean(3, valid);
+            preparedStatement.executeUpdate();
+        }
+    }
+
+    /**
+     * Stores the fingerprints of the indexed entries, so that the index can be re-used on the next start.
+     *
+     * @implNote Only entries present in the index are stored. Thus, entries whose indexing did not finish before closing are indexed on the next start.
+     */
+    private void storeFingerprints() throws SQLException {
+        Set<String> indexedEntryIds = new HashSet<>();
+        try (ResultSet resultSet = connection.createStatement().executeQuery("""
+                SELECT DISTINCT "%s" FROM %s
+                """.formatted(ENTRY_ID, schemaMainTableReference))) {
+            while (resultSet.next()) {
+                indexedEntryIds.add(resultSet.getString(1));
+            }
+        }
+
+        try (Connection transaction = openTransaction();
+             PreparedStatement preparedStatement = transaction.prepareStatement("""
+                     INSERT INTO %s ("%s", "%s") VALUES (?, ?)
+                     """.formatted(schemaFingerprintTableReference, ENTRY_ID, ENTRY_FINGERPRINT))) {
+            try {
+                transaction.createStatement().executeUpdate("TRUNCATE %s".formatted(schemaFingerprintTableReference));
+                for (BibEntry entry : databaseContext.getDatabase().getEntries()) {
+                    if (indexedEntryIds.contains(entry.getId())) {
+                        preparedStatement.setString(1, entry.getId());
+                        preparedStatement.setString(2, IndexFingerprints.ofEntry(entry, databaseContext.getDatabase()));
+                        preparedStatement.addBatch();
+                    }
+                }
+                preparedStatement.executeBatch();
+                // Rows of entries removed from the library while the removal was still pending
+                for (String table : List.of(schemaMainTableReference, schemaSplitValuesTableReference)) {
+                    transaction.createStatement().executeUpdate("""
+                            DELETE FROM %1$s WHERE NOT EXISTS (SELECT 1 FROM %3$s WHERE %3$s."%2$s" = %1$s."%2$s")
+                            """.formatted(table, ENTRY_ID, schemaFingerprintTableReference));
+                }
+                storeLibraryState(transaction, IndexFingerprints.ofLibrary(databaseContext.getDatabase(), keywordSeparator), true);
+                transaction.commit();
+            } catch (SQLException e) {
+                rollback(transaction);
+                throw e;
+            }
+        }
     }
 
     public void addToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        if (entries.size() >= BULK_LOAD_THRESHOLD) {
+            bulkAddToIndex(entries, task);
+            return;
+        }
+
         if (entries.size() > 1) {
             task.showToUser(true);
             task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
@@ -185,8 +423,109 @@ public class BibFieldsIndexer {
         LOGGER.debug("Added {} entries to index in {} ms", entries.size(), System.currentTimeMillis() - startTime);
     }
 
-    private void addToIndex(BibEntry bibEntry) {
-        String insertFieldQuery = """
+    /**
+     * Adds many entries at once. In contrast to adding the entries one by one, the prepared statements are reused for all entries,
+     * and the rows are flushed in large batches, each batch inside an explicit transaction.
+     * <p>
+     * The rows of the entries (resolving, LaTeX to Unicode conversion, splitting of multi-value fields) are computed by worker threads
+     * for partitions of the entry list. The calling thread is the single writer, which streams the computed partitions in order into the database.
+     *
+     * @implNote The batches are written on a separate connection. Thus, single updates executed concurrently are not part of the transaction of the current batch.
+     */
+    private void bulkAddToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        if (entries.size() > 1) {
+            task.showToUser(true);
+            task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
+        }
+        long startTime = System.currentTimeMillis();
+        LOGGER.debug("Bulk adding {} entries to index", entries.size());
+
+        List<BibEntry> entryList = List.copyOf(entries);
+        Deque<Future<List<BibFieldsEntryRows>>> pendingPartitions = new ArrayDeque<>();
+        int nextPartitionStart = 0;
+        int indexed = 0;
+
+        try (Connection transaction = openTransaction();
+             PreparedStatement preparedStatement = transaction.prepareStatement(getInsertFieldQuery());
+             PreparedStatement preparedStatementSplitValues = transaction.prepareStatement(getInsertIntoSplitTableQuery())) {
+            try {
+                while (indexed < entryList.size()) {
+                    // Keep all workers busy, but do not compute more partitions in advance than the writer can consume
+                    while ((pendingPartitions.size() < BULK_LOAD_PARALLELISM) && (nextPartitionStart < entryList.size())) {
+                        List<BibEntry> partition = entryList.subList(nextPartitionStart, Math.min(nextPartitionStart + BULK_LOAD_BATCH_SIZE, entryList.size()));
+                        pendingPartitions.add(HeadlessExecutorService.INSTANCE.execute(() -> computeRows(partition, task)));
+                        nextPartitionStart += partition.size();
+                    }
+                    if (task.isCancelled()) {
+                        LOGGER.debug("Indexing canceled");
+                        break;
+                    }
+
+                    List<BibFieldsEntryRows> partitionRows = pendingPartitions.poll().get();
+                    for (BibFieldsEntryRows entryRows : partitionRows) {
+                        addBatches(preparedStatement, entryRows.fieldRows());
+                        addBatches(preparedStatementSplitValues, entryRows.splitValueRows());
+                    }
+                    flush(transaction, preparedStatement, preparedStatementSplitValues);
+
+                    indexed += partitionRows.size();
+                    task.updateProgress(indexed, entryList.size());
+                    task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", indexed, entryList.size()));
+                }
+            } catch (SQLException | ExecutionException | InterruptedException e) {
+                rollback(transaction);
+                throw e;
+            }
+        } catch (SQLException | ExecutionException e) {
+            LOGGER.error("Could not add entries to the index.", e);
+        } catch (InterruptedException e) {
+            LOGGER.debug("Indexing interrupted", e);
+            Thread.currentThread().interrupt();
+        } finally {
+            pendingPartitions.forEach(future -> future.cancel(true));
+        }
+        LOGGER.debug("Bulk added {} entries to index in {} ms", indexed, System.currentTimeMillis() - startTime);
+    }
+
+    private List<BibFieldsEntryRows> computeRows(List<BibEntry> partition, BackgroundTask<?> task) {
+        List<BibFieldsEntryRows> rows = new ArrayList<>(partition.size());
+        for (BibEntry entry : partition) {
+            if (task.isCancelled()) {
+                break;
+            }
+            rows.add(rowBuilder.build(entry));
+        }
+        return rows;
+    }
+
+    private static void flush(Connection transaction, PreparedStatement preparedStatement, PreparedStatement preparedStatementSplitValues) throws SQLException {
+        preparedStatement.executeBatch();
+        preparedStatementSplitValues.executeBatch();
+        transaction.commit();
+    }
+
+    /**
+     * Opens a separate connection with auto commit disabled. The connection of this indexer is kept in auto commit mode for single updates.
+     */
+    private Connection openTransaction() throws SQLException {
+        Connection transaction = postgreServer.getConnection();
+        if (transaction == null) {
+            throw new SQLException("Could not open a connection to the Postgres server");
+        }
+        transaction.setAutoCommit(false);
+        return transaction;
+    }
+
+    private static void rollback(Connection transaction) {
+        try {
+            transaction.rollback();
+        } catch (SQLException e) {
+            LOGGER.error("Could not roll back the transaction.", e);
+        }
+    }
+
+    private String getInsertFieldQuery() {
+        return """
                 INSERT INTO %s ("%s", "%s", "%s", "%s")
                 VALUES (?, ?, ?, ?)
                 """.formatted(
@@ -195,8 +534,10 @@ public class BibFieldsIndexer {
                 FIELD_NAME,
                 FIELD_VALUE_LITERAL,
                 FIELD_VALUE_TRANSFORMED);
+    }
 
-        String insertIntoSplitTable = """
+    private String getInsertIntoSplitTableQuery() {
+        return """
                 INSERT INTO %s ("%s", "%s", "%s", "%s")
                 VALUES (?, ?, ?, ?)
                 """.formatted(
@@ -205,52 +546,14 @@ public class BibFieldsIndexer {
                 FIELD_NAME,
                 FIELD_VALUE_LITERAL,
                 FIELD_VALUE_TRANSFORMED);
+    }
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery);
-             PreparedStatement preparedStatementSplitValues = connection.prepareStatement(insertIntoSplitTable)) {
-            String entryId = bibEntry.getId();
-            for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
-                Field field = fieldPair.getKey();
-                String value = fieldPair.getValue();
-
-                // If a field exists, there also exists a resolved field latex free.
-                // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
-                // To uncover these flaws, we add the "assert" statement.
-                // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
-                // Skip indexing of date-related fields separately to ensure proper handling later in the process.
-                if (!DATE_FIELDS.contains(field)) {
-                    Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
-                    assert resolvedFieldLatexFree.isPresent();
-                    addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree.orElse(""));
-                }
-                // region Handling of known multi-value fields
-                // split and convert to Unicode
-                if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                    addAuthors(value, preparedStatementSplitValues, entryId, field);
-                } else if (field == StandardField.KEYWORDS) {
-                    addKeywords(value, preparedStatementSplitValues, entryId, field, keywordSeparator);
-                } else if (field == StandardField.GROUPS) {
-                    addGroups(value, preparedStatementSplitValues, entryId, field);
-                } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                    addEntryLinks(bibEntry, field, preparedStatementSplitValues, entryId);
-                } else if (field == StandardField.FILE) {
-                    // No handling of File, because due to relative paths, we think, there won't be any exact match operation
-                    // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
-                    // The use case to search for file names seems pretty seldom, therefore we omit it.
-                } else {
-                    // No other multi-value fields are known
-                    // No action needed -> main table has the value
-                }
-                // endregion
-            }
-            // ensure all date-related fields are indexed.
-            for (Field dateField : DATE_FIELDS) {
-                Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
-            }
-            // add entry type
-            addBatch(preparedStatement, entryId, TYPE_HEADER, bibEntry.getType().getName());
-
+    private void addToIndex(BibEntry bibEntry) {
+        BibFieldsEntryRows entryRows = rowBuilder.build(bibEntry);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getInsertFieldQuery());
+             PreparedStatement preparedStatementSplitValues = connection.prepareStatement(getInsertIntoSplitTableQuery())) {
+            addBatches(preparedStatement, entryRows.fieldRows());
+            addBatches(preparedStatementSplitValues, entryRows.splitValueRows());
             preparedStatement.executeBatch();
             preparedStatementSplitValues.executeBatch();
         } catch (SQLException e) {
@@ -300,15 +603,7 @@ public class BibFieldsIndexer {
     }
 
     private void insertField(BibEntry entry, Field field) {
-        String insertFieldQuery = """
-                INSERT INTO %s ("%s", "%s", "%s", "%s")
-                VALUES (?, ?, ?, ?)
-                """.formatted(
-                schemaMainTableReference,
-                ENTRY_ID,
-                FIELD_NAME,
-                FIELD_VALUE_LITERAL,
-                FIELD_VALUE_TRANSFORMED);
+        String insertFieldQuery = getInsertFieldQuery();
 
         // Inserts or updates date-related fields (e.g., date, year, month, day) into the index.
         // If a conflict occurs (e.g., the same ENTRY_ID and FIELD_NAME already exist),
@@ -328,13 +623,9 @@ public class BibFieldsIndexer {
                 FIELD_VALUE_LITERAL, FIELD_VALUE_LITERAL,
                 FIELD_VALUE_TRANSFORMED, FIELD_VALUE_TRANSFORMED);
 
-        String entryId = entry.getId();
-        if (DATE_FIELDS.contains(field)) {
+        if (BibFieldsRowBuilder.DATE_FIELDS.contains(field)) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(insertDateFieldQuery)) {
-                for (Field dateField : DATE_FIELDS) {
-                    Optional<String> resolvedDateValue = entry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                    resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
-                }
+                addBatches(preparedStatement, rowBuilder.buildDateRows(entry));
                 preparedStatement.executeBatch();
             } catch (SQLException e) {
                 LOGGER.error("Could not add an entry to the index.", e);
@@ -342,40 +633,16 @@ public class BibFieldsIndexer {
         } else {
             try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery)) {
                 String value = entry.getField(field).orElse("");
-
-                Optional<String> resolvedFieldLatexFree = entry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
-                assert resolvedFieldLatexFree.isPresent();
-                addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree.orElse(""));
+                addBatch(preparedStatement, rowBuilder.buildFieldRow(entry, field, value));
                 preparedStatement.executeBatch();
             } catch (SQLException e) {
                 LOGGER.error("Could not add an entry to the index.", e);
             }
         }
 
-        String insertIntoSplitTable = """
-                INSERT INTO %s ("%s", "%s", "%s", "%s")
-                VALUES (?, ?, ?, ?)
-                """.formatted(
-                schemaSplitValuesTableReference,
-                ENTRY_ID,
-                FIELD_NAME,
-                FIELD_VALUE_LITERAL,
-                FIELD_VALUE_TRANSFORMED);
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(insertIntoSplitTable)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getInsertIntoSplitTableQuery())) {
             String value = entry.getField(field).orElse("");
-
-            if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                addAuthors(value, preparedStatement, entryId, field);
-            } else if (field == StandardField.KEYWORDS) {
-                addKeywords(value, preparedStatement, entryId, field, keywordSeparator);
-            } else if (field == StandardField.GROUPS) {
-                addGroups(value, preparedStatement, entryId, field);
-            } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                addEntryLinks(entry, field, preparedStatement, entryId);
-            } else if (field == StandardField.FILE) {
-                // No handling of File, because due to relative paths, we think, there won't be any exact match operation
-            }
+            addBatches(preparedStatement, rowBuilder.buildSplitValueRows(entry, field, value));
             preparedStatement.executeBatch();
         } catch (SQLException e) {
             LOGGER.error("Could not add an entry to the index.", e);
@@ -407,6 +674,16 @@ public class BibFieldsIndexer {
     }
 
     private void closeIndex() {
+        if (persistent) {
+            try {
+                LOGGER.debug("Storing index and closing connection to Postgres server for library: {}", libraryName);
+                storeFingerprints();
+                connection.close();
+                return;
+            } catch (SQLException e) {
+                LOGGER.error("Could not store index for library: {}", libraryName, e);
+            }
+        }
         try {
             LOGGER.debug("Closing connection to Postgres server for library: {}", libraryName);
             connection.createStatement().executeUpdate("""
@@ -425,53 +702,21 @@ public class BibFieldsIndexer {
         return mainTable;
     }
 
-    private void addEntryLinks(BibEntry bibEntry, Field field, PreparedStatement preparedStatementSplitValues, String entryId) {
-        bibEntry.getEntryLinkList(field, databaseContext.getDatabase()).stream()
-            .distinct()
-            .forEach(link -> addBatch(preparedStatementSplitValues, entryId, field, link.getKey()));
-    }
-
-    private static void addGroups(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
-        // We could use KeywordList, but we are afraid that group names could have ">" in their name, and then they would not be handled correctly
-        Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
-              .distinct()
-              .forEach(group -> addBatch(preparedStatementSplitValues, entryId, field, group));
-    }
-
-    private static void addKeywords(String keywordsString, PreparedStatement preparedStatementSplitValues, String entryId, Field field, Character keywordSeparator) {
-        KeywordList keywordList = KeywordList.parse(keywordsString, keywordSeparator);
-        keywordList.stream().flatMap(keyword -> keyword.flatten().stream()).forEach(keyword -> {
-            String value = keyword.toString();
-            addBatch(preparedStatementSplitValues, entryId, field, value);
-        });
-    }
-
-    private static void addAuthors(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
-        AuthorList.parse(value).getAuthors().forEach(author -> {
-            // Author object does not support literal values
-            // We use the method giving us the most complete information for the literal value;
-            String literal = author.getGivenFamily(false);
-            String transformed = author.latexFree().getGivenFamily(false);
-            addBatch(preparedStatementSplitValues, entryId, field, literal, transformed);
-        });
-    }
-
-    private static void addBatch(PreparedStatement preparedStatement, String entryId, Field field, String value) {
-        addBatch(preparedStatement, entryId, field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
+    private static void addBatches(PreparedStatement preparedStatement, List<BibFieldsRow> rows) {
+        for (BibFieldsRow row : rows) {
+            addBatch(preparedStatement, row);
+        }
     }
 
-    /**
-     * The values are passed as they should be inserted into the database table
-     */
-    private static void addBatch(PreparedStatement preparedStatement, String entryId, Field field, String value, String normalized) {
+    private static void addBatch(PreparedStatement preparedStatement, BibFieldsRow row) {
         try {
-            preparedStatement.setString(1, entryId);
-            preparedStatement.setString(2, field.getName());
-            preparedStatement.setString(3, value);
-            preparedStatement.setString(4, normalized);
+            preparedStatement.setString(1, row.entryId());
+            preparedStatement.setString(2, row.field().getName());
+            preparedStatement.setString(3, row.value());
+            preparedStatement.setString(4, row.normalized());
             preparedStatement.addBatch();
         } catch (SQLException e) {
-            LOGGER.error("Could not add field {} having value {} of entry {} to the index.", field.getName(), value, entryId, e);
+            LOGGER.error("Could not add field {} having value {} of entry {} to the index.", row.field().getName(), row.value(), row.entryId(), e);
         }
     }
 }
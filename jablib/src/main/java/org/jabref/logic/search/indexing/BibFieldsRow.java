@@ -0,0 +1,12 @@
+package org.jabref.logic.search.indexing;
+
+import org.jabref.model.entry.field.Field;
+
+/**
+ * A row of the bib fields index. The values are stored as they should be inserted into the database table.
+ *
+ * @param value      the value as-is
+ * @param normalized the value transformed for better querying
+ */
+public record BibFieldsRow(String entryId, Field field, String value, String normalized) {
+}
@@ -0,0 +1,149 @@
+package org.jabref.logic.search.indexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.KeywordList;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+
+import static org.jabref.model.entry.field.InternalField.TYPE_HEADER;
+
+/**
+ * Computes the rows of the bib fields index for entries. No database access is involved.
+ * Thus, the rows can be computed concurrently, and used by other search backends.
+ */
+public class BibFieldsRowBuilder {
+    public static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
+
+    private static final LatexToUnicodeFormatter LATEX_TO_UNICODE_FORMATTER = new LatexToUnicodeFormatter();
+    private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
+
+    private final BibDatabase database;
+    private final Character keywordSeparator;
+
+    public BibFieldsRowBuilder(BibDatabase database, Character keywordSeparator) {
+        this.database = database;
+        this.keywordSeparator = keywordSeparator;
+    }
+
+    public BibFieldsEntryRows build(BibEntry bibEntry) {
+        String entryId = bibEntry.getId();
+        List<BibFieldsRow> fieldRows = new ArrayList<>();
+        List<BibFieldsRow> splitValueRows = new ArrayList<>();
+        for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
+            Field field = fieldPair.getKey();
+            String value = fieldPair.getValue();
+
+            // Skip indexing of date-related fields separately to ensure proper handling later in the process.
+            if (!DATE_FIELDS.contains(field)) {
+                fieldRows.add(buildFieldRow(bibEntry, field, value));
+            }
+            addSplitValues(bibEntry, field, value, splitValueRows);
+        }
+        // ensure all date-related fields are indexed.
+        fieldRows.addAll(buildDateRows(bibEntry));
+        // add entry type
+        fieldRows.add(row(entryId, TYPE_HEADER, bibEntry.getType().getName()));
+        return new BibFieldsEntryRows(entryId, fieldRows, splitValueRows);
+    }
+
+    /**
+     * Builds the main table row of a field, which is not a date field
+     */
+    public BibFieldsRow buildFieldRow(BibEntry bibEntry, Field field, String value) {
+        // If a field exists, there also exists a resolved field latex free.
+        // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
+        // To uncover these flaws, we add the "assert" statement.
+        // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
+        Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, database);
+        assert resolvedFieldLatexFree.isPresent();
+        return new BibFieldsRow(bibEntry.getId(), field, value, resolvedFieldLatexFree.orElse(""));
+    }
+
+    /**
+     * Builds the main table rows of all date-related fields. Their values are resolved, e.g., a year is derived from the date field.
+     */
+    public List<BibFieldsRow> buildDateRows(BibEntry bibEntry) {
+        List<BibFieldsRow> rows = new ArrayList<>();
+        for (Field dateField : DATE_FIELDS) {
+            Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, database);
+            resolvedDateValue.ifPresent(dateValue -> rows.add(row(bibEntry.getId(), dateField, dateValue)));
+        }
+        return rows;
+    }
+
+    public List<BibFieldsRow> buildSplitValueRows(BibEntry bibEntry, Field field, String value) {
+        List<BibFieldsRow> rows = new ArrayList<>();
+        addSplitValues(bibEntry, field, value, rows);
+        return rows;
+    }
+
+    private void addSplitValues(BibEntry bibEntry, Field field, String value, List<BibFieldsRow> rows) {
+        String entryId = bibEntry.getId();
+        // region Handling of known multi-value fields
+        // split and convert to Unicode
+        if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
+            addAuthors(value, rows, entryId, field);
+        } else if (field == StandardField.KEYWORDS) {
+            addKeywords(value, rows, entryId, field, keywordSeparator);
+        } else if (field == StandardField.GROUPS) {
+            addGroups(value, rows, entryId, field);
+        } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+            addEntryLinks(bibEntry, field, rows, entryId);
+        } else if (field == StandardField.FILE) {
+            // No handling of File, because due to relative paths, we think, there won't be any exact match operation
+            // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
+            // The use case to search for file names seems pretty seldom, therefore we omit it.
+        } else {
+            // No other multi-value fields are known
+            // No action needed -> main table has the value
+        }
+        // endregion
+    }
+
+    private void addEntryLinks(BibEntry bibEntry, Field field, List<BibFieldsRow> rows, String entryId) {
+        bibEntry.getEntryLinkList(field, database).stream()
+                .distinct()
+                .forEach(link -> rows.add(row(entryId, field, link.getKey())));
+    }
+
+    private static void addGroups(String value, List<BibFieldsRow> rows, String entryId, Field field) {
+        // We could use KeywordList, but we are afraid that group names could have ">" in their name, and then they would not be handled correctly
+        Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
+              .distinct()
+              .forEach(group -> rows.add(row(entryId, field, group)));
+    }
+
+    private static void addKeywords(String keywordsString, List<BibFieldsRow> rows, String entryId, Field field, Character keywordSeparator) {
+        KeywordList keywordList = KeywordList.parse(keywordsString, keywordSeparator);
+        keywordList.stream().flatMap(keyword -> keyword.flatten().stream()).forEach(keyword -> {
+            String value = keyword.toString();
+            rows.add(row(entryId, field, value));
+        });
+    }
+
+    private static void addAuthors(String value, List<BibFieldsRow> rows, String entryId, Field field) {
+        AuthorList.parse(value).getAuthors().forEach(author -> {
+            // Author object does not support literal values
+            // We use the method giving us the most complete information for the literal value;
+            String literal = author.getGivenFamily(false);
+            String transformed = author.latexFree().getGivenFamily(false);
+            rows.add(new BibFieldsRow(entryId, field, literal, transformed));
+        });
+    }
+
+    private static BibFieldsRow row(String entryId, Field field, String value) {
+        return new BibFieldsRow(entryId, field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
+    }
+}
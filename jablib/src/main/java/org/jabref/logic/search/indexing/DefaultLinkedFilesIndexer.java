@@ -3,7 +3,10 @@ package org.jabref.logic.search.indexing;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -11,6 +14,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -29,6 +34,8 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.search.LinkedFilesConstants;
 
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
 import org.apache.commons.io.FileUtils;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.IndexWriter;
@@ -48,6 +55,7 @@ import org.slf4j.LoggerFactory;
 public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultLinkedFilesIndexer.class);
     private static final DocumentReader DOCUMENT_READER = new DocumentReader();
+    private static final int EXTRACTION_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
     private static int NUMBER_OF_UNSAVED_LIBRARIES = 1;
 
     private final BibDatabaseContext databaseContext;
@@ -57,7 +65,7 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private final IndexWriter indexWriter;
     private final SearcherManager searcherManager;
     private Path indexDirectoryPath;
-    private Map<String, Long> indexedFiles;
+    private Map<String, IndexedFile> indexedFiles;
 
     public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences) throws IOException {
         this.databaseContext = databaseContext;
@@ -83,20 +91,19 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         Map<String, Pair<Long, Path>> currentFiles = getLinkedFilesFromEntries(databaseContext.getEntries());
 
         Set<String> filesToRemove = new HashSet<>();
-        for (Map.Entry<String, Long> entry : indexedFiles.entrySet()) {
+        Map<String, Pair<Long, Path>> filesToAdd = new HashMap<>();
+        for (Map.Entry<String, IndexedFile> entry : indexedFiles.entrySet()) {
             String fileLink = entry.getKey();
-            long modification = entry.getValue();
+            long modification = entry.getValue().modifiedTime();
             if (!currentFiles.containsKey(fileLink)) {
                 LOGGER.debug("File {} has been removed from the library. Will be removed from the index", fileLink);
                 filesToRemove.add(fileLink);
             } else if (currentFiles.get(fileLink).getKey() > modification) {
-                LOGGER.debug("File {} has been modified since last indexing. Will be removed from the index.", fileLink);
-                filesToRemove.add(fileLink);
+                LOGGER.debug("File {} has been modified since last indexing. Will be updated in the index.", fileLink);
+                filesToAdd.put(fileLink, currentFiles.get(fileLink));
             }
         }
-        removeFromIndex(filesToRemove);
 
-        Map<String, Pair<Long, Path>> filesToAdd = new HashMap<>();
         for (Map.Entry<String, Pair<Long, Path>> entry : currentFiles.entrySet()) {
             String fileLink = entry.getKey();
             if (!indexedFiles.containsKey(fileLink)) {
@@ -104,7 +111,9 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
                 filesToAdd.put(fileLink, entry.getValue());
             }
         }
-        addToIndex(filesToAdd, task);
+        // Files are added before the removed ones are deleted, so that the pages of moved files can be re-used
+        indexFiles(filesToAdd, task);
+        removeFromIndex(filesToRemove);
     }
 
     @Override
@@ -113,52 +122,138 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     }
 
     private void addToIndex(Set<LinkedFile> linkedFiles, BackgroundTask<?> task) {
-        Map<String, Pair<Long, Path>> filesToAdd = new HashMap<>();
-        for (LinkedFile linkedFile : linkedFiles) {
-            Pair<Long, Path> fileInfo = getLinkedFileInfo(linkedFile);
-            if (fileInfo != null) {
-                filesToAdd.put(linkedFile.getLink(), fileInfo);
-            }
-        }
-        addToIndex(filesToAdd, task);
+        addToIndex(resolveLinkedFiles(linkedFiles), task);
     }
 
     private void addToIndex(Map<String, Pair<Long, Path>> linkedFiles, BackgroundTask<?> task) {
-        for (String fileLink : linkedFiles.keySet()) {
+        linkedFiles.keySet().removeIf(fileLink -> {
             if (indexedFiles.containsKey(fileLink)) {
                 LOGGER.debug("File {} is already indexed.", fileLink);
-                linkedFiles.remove(fileLink);
+                return true;
             }
-        }
+            return false;
+        });
+        indexFiles(linkedFiles, task);
+    }
+
+    /**
+     * Adds the given files to the index, replacing already indexed pages of the same links.
+     * <p>
+     * The PDFs are read concurrently, but only the calling thread writes to the index.
+     * A file whose content is already indexed (e.g., a moved file, or a file with a touched modification time) is not parsed again; its stored pages are copied instead.
+     */
+    private void indexFiles(Map<String, Pair<Long, Path>> linkedFiles, BackgroundTask<?> task) {
         if (linkedFiles.isEmpty()) {
             return;
         }
 
         LOGGER.debug("Adding {} files to index", linkedFiles.size());
-        int i = 1;
-        for (Map.Entry<String, Pair<Long, Path>> entry : linkedFiles.entrySet()) {
-            if (task.isCancelled()) {
-                LOGGER.debug("Adding files to index canceled");
-                return;
+        Map<String, String> indexedLinksByContentHash = new HashMap<>();
+        indexedFiles.forEach((fileLink, indexedFile) -> {
+            if (indexedFile.contentHash() != null) {
+                indexedLinksByContentHash.putIfAbsent(indexedFile.contentHash(), fileLink);
+            }
+        });
+
+        IndexSearcher searcher;
+        try {
+            searcherManager.maybeRefreshBlocking();
+            searcher = searcherManager.acquire();
+        } catch (IOException e) {
+            LOGGER.warn("Could not open the index for reading.", e);
+            return;
+        }
+
+        List<Map.Entry<String, Pair<Long, Path>>> files = List.copyOf(linkedFiles.entrySet());
+        Deque<Future<FilePages>> pendingFiles = new ArrayDeque<>();
+        int nextFile = 0;
+        int indexed = 0;
+        try {
+            while (indexed < files.size()) {
+                // Keep all workers busy, but do not read more files in advance than the writer can consume
+                while ((pendingFiles.size() < EXTRACTION_PARALLELISM) && (nextFile < files.size())) {
+                    Map.Entry<String, Pair<Long, Path>> file = files.get(nextFile++);
+                    pendingFiles.add(HeadlessExecutorService.INSTANCE.execute(() ->
+                            readPages(file.getKey(), file.getValue().getKey(), file.getValue().getValue(), indexedLinksByContentHash, searcher)));
+                }
+                if (task.isCancelled()) {
+                    LOGGER.debug("Adding files to index canceled");
+                    return;
+                }
+
+                FilePages filePages = pendingFiles.poll().get();
+                addToIndex(filePages);
+                indexed++;
+                task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", files.size(), libraryName, indexed));
+                task.updateProgress(indexed, files.size());
+                task.updateMessage(Localization.lang("Indexing %0", FileUtil.shortenFileName(filePages.resolvedPath().getFileName().toString(), 68)));
+                task.showToUser(true);
+            }
+            LOGGER.debug("Added {} files to index", files.size());
+        } catch (ExecutionException e) {
+            LOGGER.warn("Could not add files to the index.", e);
+        } catch (InterruptedException e) {
+            LOGGER.debug("Adding files to index interrupted", e);
+            Thread.currentThread().interrupt();
+        } finally {
+            pendingFiles.forEach(future -> future.cancel(true));
+            try {
+                searcherManager.release(searcher);
+            } catch (IOException e) {
+                LOGGER.warn("Could not release index searcher.", e);
             }
-            addToIndex(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue());
-            task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", linkedFiles.size(), libraryName, i));
-            task.updateProgress(i, linkedFiles.size());
-            task.updateMessage(Localization.lang("Indexing %0", FileUtil.shortenFileName(entry.getValue().getValue().getFileName().toString(), 68)));
-            task.showToUser(true);
-            i++;
         }
-        LOGGER.debug("Added {} files to index", linkedFiles.size());
     }
 
-    private void addToIndex(String fileLink, long modifiedTime, Path resolvedPath) {
+    private FilePages readPages(String fileLink, long modifiedTime, Path resolvedPath, Map<String, String> indexedLinksByContentHash, IndexSearcher searcher) {
+        String contentHash = getContentHash(resolvedPath);
+        if (contentHash != null) {
+            IndexedFile indexedFile = indexedFiles.get(fileLink);
+            String indexedLink = ((indexedFile != null) && contentHash.equals(indexedFile.contentHash()))
+                                 ? fileLink
+                                 : indexedLinksByContentHash.get(contentHash);
+            if (indexedLink != null) {
+                List<Document> storedPages = getStoredPages(searcher, indexedLink);
+                if (!storedPages.isEmpty()) {
+                    LOGGER.debug("Content of file {} is already indexed for {}. Re-using the indexed pages.", fileLink, indexedLink);
+                    return new FilePages(fileLink, modifiedTime, resolvedPath, contentHash, DOCUMENT_READER.copyPages(storedPages, fileLink, modifiedTime, contentHash));
+                }
+            }
+        }
         LOGGER.debug("Adding file {} to the index.", fileLink);
-        List<Document> pages = DOCUMENT_READER.readPdfContents(fileLink, resolvedPath);
+        return new FilePages(fileLink, modifiedTime, resolvedPath, contentHash, DOCUMENT_READER.readPdfContents(fileLink, resolvedPath, contentHash));
+    }
+
+    private void addToIndex(FilePages filePages) {
+        try {
+            indexWriter.updateDocuments(new Term(LinkedFilesConstants.PATH.toString(), filePages.fileLink()), filePages.pages());
+            indexedFiles.put(filePages.fileLink(), new IndexedFile(filePages.modifiedTime(), filePages.contentHash()));
+        } catch (IOException e) {
+            LOGGER.warn("Could not add the document {} to the index.", filePages.fileLink(), e);
+        }
+    }
+
+    private List<Document> getStoredPages(IndexSearcher searcher, String fileLink) {
+        List<Document> storedPages = new ArrayList<>();
+        try {
+            TopDocs pages = searcher.search(new TermQuery(new Term(LinkedFilesConstants.PATH.toString(), fileLink)), Integer.MAX_VALUE);
+            StoredFields storedFields = searcher.storedFields();
+            for (ScoreDoc scoreDoc : pages.scoreDocs) {
+                storedPages.add(storedFields.document(scoreDoc.doc));
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the indexed pages of file {}.", fileLink, e);
+            storedPages.clear();
+        }
+        return storedPages;
+    }
+
+    private static String getContentHash(Path resolvedPath) {
         try {
-            indexWriter.addDocuments(pages);
-            indexedFiles.put(fileLink, modifiedTime);
+            return MoreFiles.asByteSource(resolvedPath).hash(Hashing.sha256()).toString();
         } catch (IOException e) {
-            LOGGER.warn("Could not add the document {} to the index.", fileLink, e);
+            LOGGER.warn("Could not compute the content hash of file {}.", resolvedPath, e);
+            return null;
         }
     }
 
@@ -233,9 +328,9 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         addToIndex(getLinkedFilesFromEntries(databaseContext.getEntries()), task);
     }
 
-    private Map<String, Long> getLinkedFilesFromIndex() {
+    private Map<String, IndexedFile> getLinkedFilesFromIndex() {
         LOGGER.debug("Getting all linked files from index.");
-        Map<String, Long> linkedFiles = new HashMap<>();
+        Map<String, IndexedFile> linkedFiles = new ConcurrentHashMap<>();
         try {
             TermQuery query = new TermQuery(new Term(LinkedFilesConstants.PAGE_NUMBER.toString(), "1"));
             searcherManager.maybeRefresh();
@@ -247,7 +342,7 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
                 var pathField = doc.getField(LinkedFilesConstants.PATH.toString());
                 var modifiedField = doc.getField(LinkedFilesConstants.MODIFIED.toString());
                 if (pathField != null && modifiedField != null) {
-                    linkedFiles.put(pathField.stringValue(), Long.valueOf(modifiedField.stringValue()));
+                    linkedFiles.put(pathField.stringValue(), new IndexedFile(Long.parseLong(modifiedField.stringValue()), doc.get(LinkedFilesConstants.CONTENT_HASH.toString())));
                 }
             }
             searcherManager.release(searcher);
@@ -258,16 +353,27 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     }
 
     private Map<String, Pair<Long, Path>> getLinkedFilesFromEntries(Collection<BibEntry> entries) {
-        Map<String, Pair<Long, Path>> linkedFiles = new HashMap<>();
+        Map<String, LinkedFile> linkedFiles = new HashMap<>();
         for (BibEntry entry : entries) {
             for (LinkedFile linkedFile : entry.getFiles()) {
-                Pair<Long, Path> fileInfo = getLinkedFileInfo(linkedFile);
-                if (fileInfo != null) {
-                    linkedFiles.put(linkedFile.getLink(), fileInfo);
-                }
+                linkedFiles.put(linkedFile.getLink(), linkedFile);
             }
         }
-        return linkedFiles;
+        return resolveLinkedFiles(linkedFiles.values());
+    }
+
+    /**
+     * Resolves the paths and modification times of the given files. Resolving is I/O bound (especially on network drives), thus it is done concurrently.
+     */
+    private Map<String, Pair<Long, Path>> resolveLinkedFiles(Collection<LinkedFile> linkedFiles) {
+        Map<String, Pair<Long, Path>> resolvedFiles = new ConcurrentHashMap<>();
+        linkedFiles.parallelStream().forEach(linkedFile -> {
+            Pair<Long, Path> fileInfo = getLinkedFileInfo(linkedFile);
+            if (fileInfo != null) {
+                resolvedFiles.put(linkedFile.getLink(), fileInfo);
+            }
+        });
+        return resolvedFiles;
     }
 
     private Pair<Long, Path> getLinkedFileInfo(LinkedFile linkedFile) {
@@ -338,4 +444,13 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
             LOGGER.error("Error while closing linked files index", e);
         }
     }
+
+    /**
+     * Modification time and content hash of a file as stored in the index
+     */
+    private record IndexedFile(long modifiedTime, String contentHash) {
+    }
+
+    private record FilePages(String fileLink, long modifiedTime, Path resolvedPath, String contentHash, List<Document> pages) {
+    }
 }
@@ -25,6 +25,7 @@ import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.search.LinkedFilesConstants.ANNOTATIONS;
 import static org.jabref.model.search.LinkedFilesConstants.CONTENT;
+import static org.jabref.model.search.LinkedFilesConstants.CONTENT_HASH;
 import static org.jabref.model.search.LinkedFilesConstants.MODIFIED;
 import static org.jabref.model.search.LinkedFilesConstants.PAGE_NUMBER;
 import static org.jabref.model.search.LinkedFilesConstants.PATH;
@@ -38,7 +39,7 @@ public final class DocumentReader {
     private static final Pattern HYPHEN_LINEBREAK_PATTERN = Pattern.compile("\\-\n");
     private static final Pattern LINEBREAK_WITHOUT_PERIOD_PATTERN = Pattern.compile("([^\\\\.])\\n");
 
-    public List<Document> readPdfContents(String fileLink, Path resolvedPdfPath) {
+    public List<Document> readPdfContents(String fileLink, Path resolvedPdfPath, String contentHash) {
         List<Document> pages = new ArrayList<>();
         try (PDDocument pdfDocument = Loader.loadPDF(resolvedPdfPath.toFile())) {
             int numberOfPages = pdfDocument.getNumberOfPages();
@@ -46,7 +47,7 @@ public final class DocumentReader {
             for (int pageNumber = 1; pageNumber <= numberOfPages; pageNumber++) {
                 Document newDocument = new Document();
                 addIdentifiers(newDocument, fileLink);
-                addMetaData(newDocument, resolvedPdfPath, pageNumber);
+                addMetaData(newDocument, resolvedPdfPath, pageNumber, contentHash);
                 addContentIfNotEmpty(pdfDocument, newDocument, resolvedPdfPath, pageNumber);
 
                 pages.add(newDocument);
@@ -58,7 +59,32 @@ public final class DocumentReader {
         if (pages.isEmpty()) {
             Document newDocument = new Document();
             addIdentifiers(newDocument, fileLink);
-            addMetaData(newDocument, resolvedPdfPath, 1);
+            addMetaData(newDocument, resolvedPdfPath, 1, contentHash);
+            pages.add(newDocument);
+        }
+        return pages;
+    }
+
+    /**
+     * Creates the pages of a file from the stored pages of a file with the same content, e.g., if the file has been moved or only its modification time has changed.
+     * This avoids parsing the PDF again.
+     */
+    public List<Document> copyPages(List<Document> storedPages, String fileLink, long modifiedTime, String contentHash) {
+        List<Document> pages = new ArrayList<>(storedPages.size());
+        for (Document storedPage : storedPages) {
+            Document newDocument = new Document();
+            addIdentifiers(newDocument, fileLink);
+            addStringField(newDocument, MODIFIED.toString(), String.valueOf(modifiedTime));
+            addStringField(newDocument, PAGE_NUMBER.toString(), storedPage.get(PAGE_NUMBER.toString()));
+            addStringField(newDocument, CONTENT_HASH.toString(), contentHash);
+            String content = storedPage.get(CONTENT.toString());
+            if (content != null) {
+                newDocument.add(new TextField(CONTENT.toString(), content, Field.Store.YES));
+            }
+            String annotations = storedPage.get(ANNOTATIONS.toString());
+            if (annotations != null) {
+                newDocument.add(new TextField(ANNOTATIONS.toString(), annotations, Field.Store.YES));
+            }
             pages.add(newDocument);
         }
         return pages;
@@ -80,7 +106,7 @@ public final class DocumentReader {
         return LINEBREAK_WITHOUT_PERIOD_PATTERN.matcher(mergedHyphenNewlines).replaceAll("$1 ");
     }
 
-    private void addMetaData(Document newDocument, Path resolvedPdfPath, int pageNumber) {
+    private void addMetaData(Document newDocument, Path resolvedPdfPath, int pageNumber, String contentHash) {
         try {
             long modifiedTime = Files.getLastModifiedTime(resolvedPdfPath).to(TimeUnit.SECONDS);
             addStringField(newDocument, MODIFIED.toString(), String.valueOf(modifiedTime));
@@ -88,6 +114,7 @@ public final class DocumentReader {
             LOGGER.error("Could not read timestamp for {}", resolvedPdfPath, e);
         }
         addStringField(newDocument, PAGE_NUMBER.toString(), String.valueOf(pageNumber));
+        addStringField(newDocument, CONTENT_HASH.toString(), contentHash);
     }
 
     private void addContentIfNotEmpty(PDDocument pdfDocument, Document newDocument, Path resolvedPath, int pageNumber) {
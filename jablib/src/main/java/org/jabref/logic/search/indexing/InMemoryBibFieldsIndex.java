@@ -0,0 +1,130 @@
+package org.jabref.logic.search.indexing;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.PatternSyntaxException;
+
+import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.search.BibFieldsIndex;
+import org.jabref.logic.search.query.SearchQueryConversion;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResult;
+import org.jabref.model.search.query.SearchResults;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the rows of the bib fields index in memory, and evaluates search queries compiled to predicates.
+ * In contrast to {@link PostgresBibFieldsIndex}, checking whether a single entry matches does not require a database round-trip.
+ */
+public class InMemoryBibFieldsIndex implements BibFieldsIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryBibFieldsIndex.class);
+
+    /**
+     * Group membership and highlighting check many entries against the same few queries. Thus, a few compiled queries are kept.
+     */
+    private static final int COMPILED_QUERIES_CACHE_SIZE = 64;
+
+    private final BibDatabaseContext databaseContext;
+    private final BibFieldsRowBuilder rowBuilder;
+    private final String libraryName;
+    private final Map<String, BibFieldsEntryRows> rowsByEntryId = new ConcurrentHashMap<>();
+    private final Map<SearchQuery, Predicate<BibFieldsEntryRows>> compiledQueries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SearchQuery, Predicate<BibFieldsEntryRows>> eldest) {
+            return size() > COMPILED_QUERIES_CACHE_SIZE;
+        }
+    });
+
+    public InMemoryBibFieldsIndex(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext) {
+        this.databaseContext = databaseContext;
+        this.rowBuilder = new BibFieldsRowBuilder(databaseContext.getDatabase(), bibEntryPreferences.getKeywordSeparator());
+        this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("unsaved");
+    }
+
+    @Override
+    public void updateOnStart(BackgroundTask<?> task) {
+        addToIndex(databaseContext.getDatabase().getEntries(), task);
+    }
+
+    @Override
+    public void addToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        if (entries.size() > 1) {
+            task.showToUser(true);
+            task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
+        }
+        long startTime = System.currentTimeMillis();
+        List.copyOf(entries).parallelStream()
+            .filter(entry -> !task.isCancelled())
+            .forEach(entry -> rowsByEntryId.put(entry.getId(), rowBuilder.build(entry)));
+        task.updateProgress(entries.size(), entries.size());
+        task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", entries.size(), entries.size()));
+        LOGGER.debug("Added {} entries to in-memory index in {} ms", entries.size(), System.currentTimeMillis() - startTime);
+    }
+
+    @Override
+    public void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        entries.forEach(entry -> rowsByEntryId.remove(entry.getId()));
+    }
+
+    @Override
+    public void updateEntry(BibEntry entry, Field field) {
+        // Building the rows of a single entry is cheap. Thus, we do not update the rows of the changed field only.
+        rowsByEntryId.put(entry.getId(), rowBuilder.build(entry));
+    }
+
+    @Override
+    public SearchResults search(SearchQuery searchQuery) {
+        SearchResults searchResults = new SearchResults();
+        if (!searchQuery.isValid()) {
+            return searchResults;
+        }
+        Predicate<BibFieldsEntryRows> predicate = compile(searchQuery);
+        rowsByEntryId.values().parallelStream()
+                     .filter(predicate)
+                     .forEach(rows -> searchResults.addSearchResult(rows.entryId(), new SearchResult()));
+        return searchResults;
+    }
+
+    @Override
+    public boolean isMatched(BibEntry entry, SearchQuery searchQuery) {
+        if (!searchQuery.isValid()) {
+            return false;
+        }
+        BibFieldsEntryRows rows = rowsByEntryId.get(entry.getId());
+        return (rows != null) && compile(searchQuery).test(rows);
+    }
+
+    private Predicate<BibFieldsEntryRows> compile(SearchQuery searchQuery) {
+        return compiledQueries.computeIfAbsent(searchQuery, query -> {
+            try {
+                return SearchQueryConversion.searchToPredicate(query);
+            } catch (PatternSyntaxException e) {
+                LOGGER.debug("Invalid regular expression in search query {}", query, e);
+                return rows -> false;
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        rowsByEntryId.clear();
+        compiledQueries.clear();
+    }
+
+    @Override
+    public void closeAndWait() {
+        close();
+    }
+}
@@ -0,0 +1,72 @@
+package org.jabref.logic.search.indexing;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.search.PostgreConstants;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Computes the fingerprints used to decide whether a persisted bib fields index can be re-used after a restart.
+ * <p>
+ * The fingerprint of an entry covers everything the indexed rows of the entry are computed from (type, fields, and the fields of the cross-referenced entry).
+ * The fingerprint of the library covers everything influencing all entries at once (strings, keyword separator, index version).
+ * Entry ids are not part of the fingerprints, because they are generated anew on each start.
+ */
+public final class IndexFingerprints {
+
+    private static final Comparator<Map.Entry<Field, String>> FIELD_ORDER = Comparator.comparing(fieldPair -> fieldPair.getKey().getName());
+
+    private IndexFingerprints() {
+    }
+
+    public static String ofEntry(BibEntry entry, BibDatabase database) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        putEntry(hasher, entry);
+        database.getReferencedEntry(entry).ifPresent(parent -> {
+            hasher.putChar('\u0001');
+            putEntry(hasher, parent);
+        });
+        return hasher.hash().toString();
+    }
+
+    public static String ofLibrary(BibDatabase database, Character keywordSeparator) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putString(PostgreConstants.VERSION.toString(), StandardCharsets.UTF_8);
+        hasher.putChar(keywordSeparator);
+        database.getStringValues().stream()
+                .sorted(Comparator.comparing(BibtexString::getName))
+                .forEach(string -> hasher.putString(string.getName(), StandardCharsets.UTF_8)
+                                         .putChar('\u0000')
+                                         .putString(string.getContent(), StandardCharsets.UTF_8)
+                                         .putChar('\u0000'));
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Returns a name for the tables of the library stored at the given path, which is stable across restarts
+     */
+    public static String tableNameForLibrary(Path databasePath) {
+        return PostgreConstants.PERSISTENT_TABLE_PREFIX + Hashing.murmur3_128()
+                                                                 .hashString(databasePath.toAbsolutePath().normalize().toString(), StandardCharsets.UTF_8)
+                                                                 .toString();
+    }
+
+    private static void putEntry(Hasher hasher, BibEntry entry) {
+        hasher.putString(entry.getType().getName(), StandardCharsets.UTF_8).putChar('\u0000');
+        entry.getFieldMap().entrySet().stream()
+             .sorted(FIELD_ORDER)
+             .forEach(fieldPair -> hasher.putString(fieldPair.getKey().getName(), StandardCharsets.UTF_8)
+                                         .putChar('\u0000')
+                                         .putString(fieldPair.getValue(), StandardCharsets.UTF_8)
+                                         .putChar('\u0000'));
+    }
+}
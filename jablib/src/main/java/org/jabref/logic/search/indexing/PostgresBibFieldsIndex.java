@@ -0,0 +1,67 @@
+package org.jabref.logic.search.indexing;
+
+import java.util.Collection;
+
+import org.jabref.logic.search.BibFieldsIndex;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.retrieval.BibFieldsSearcher;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+
+/**
+ * Indexes the fields in the embedded PostgreSQL server using {@link BibFieldsIndexer} and searches using {@link BibFieldsSearcher}.
+ */
+public class PostgresBibFieldsIndex implements BibFieldsIndex {
+    private final BibFieldsIndexer indexer;
+    private final BibFieldsSearcher searcher;
+
+    public PostgresBibFieldsIndex(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, PostgreServer postgreServer) {
+        this.indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer);
+        this.searcher = new BibFieldsSearcher(postgreServer.getConnection(), indexer.getTable());
+    }
+
+    @Override
+    public void updateOnStart(BackgroundTask<?> task) {
+        indexer.updateOnStart(task);
+    }
+
+    @Override
+    public void addToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        indexer.addToIndex(entries, task);
+    }
+
+    @Override
+    public void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        indexer.removeFromIndex(entries, task);
+    }
+
+    @Override
+    public void updateEntry(BibEntry entry, Field field) {
+        indexer.updateEntry(entry, field);
+    }
+
+    @Override
+    public SearchResults search(SearchQuery searchQuery) {
+        return searcher.search(searchQuery);
+    }
+
+    @Override
+    public boolean isMatched(BibEntry entry, SearchQuery searchQuery) {
+        return searcher.isMatched(entry, searchQuery);
+    }
+
+    @Override
+    public void close() {
+        indexer.close();
+    }
+
+    @Override
+    public void closeAndWait() {
+        indexer.closeAndWait();
+    }
+}
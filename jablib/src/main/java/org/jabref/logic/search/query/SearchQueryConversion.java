@@ -1,7 +1,12 @@
 package org.jabref.logic.search.query;
 
 import java.util.List;
+import java.util.function.Predicate;
 
+import org.jabref.logic.search.indexing.BibFieldsEntryRows;
+import org.jabref.logic.search.indexing.BibFieldsRowBuilder;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchQueryNode;
 import org.jabref.model.search.query.SqlQueryNode;
@@ -18,6 +23,21 @@ public class SearchQueryConversion {
         return new SearchToSqlVisitor(table, searchQuery.getSearchFlags()).visit(searchQuery.getContext());
     }
 
+    public static Predicate<BibFieldsEntryRows> searchToPredicate(SearchQuery searchQuery) {
+        LOGGER.debug("Converting search expression to predicate: {}", searchQuery.getSearchExpression());
+        return new SearchToPredicateVisitor(searchQuery.getSearchFlags()).visit(searchQuery.getContext());
+    }
+
+    /**
+     * Compiles the search query to a predicate directly testing entries of the given database. No search index is required.
+     * Intended for checking entries once; for repeated searches, use an index.
+     */
+    public static Predicate<BibEntry> searchToEntryPredicate(SearchQuery searchQuery, BibDatabase database, Character keywordSeparator) {
+        Predicate<BibFieldsEntryRows> predicate = searchToPredicate(searchQuery);
+        BibFieldsRowBuilder rowBuilder = new BibFieldsRowBuilder(database, keywordSeparator);
+        return entry -> predicate.test(rowBuilder.build(entry));
+    }
+
     public static String flagsToSearchExpression(SearchQuery searchQuery) {
         LOGGER.debug("Converting search flags to search expression: {}, flags {}", searchQuery.getSearchExpression(), searchQuery.getSearchFlags());
         return new SearchFlagsToExpressionVisitor(searchQuery.getSearchFlags()).visit(searchQuery.getContext());
@@ -0,0 +1,213 @@
+package org.jabref.logic.search.query;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.jabref.logic.search.indexing.BibFieldsEntryRows;
+import org.jabref.logic.search.indexing.BibFieldsRow;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import org.apache.commons.lang3.StringUtils;
+
+import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
+import static org.jabref.model.search.SearchFlags.CASE_INSENSITIVE;
+import static org.jabref.model.search.SearchFlags.CASE_SENSITIVE;
+import static org.jabref.model.search.SearchFlags.EXACT_MATCH;
+import static org.jabref.model.search.SearchFlags.INEXACT_MATCH;
+import static org.jabref.model.search.SearchFlags.NEGATION;
+import static org.jabref.model.search.SearchFlags.REGULAR_EXPRESSION;
+
+/**
+ * Compiles a search query into a predicate over the rows of the bib fields index of an entry (see {@link org.jabref.logic.search.indexing.BibFieldsRowBuilder}).
+ * The semantics are the same as the SQL query created by {@link SearchToSqlVisitor}, but the evaluation happens in memory.
+ * <p>
+ * An invalid regular expression causes a {@link java.util.regex.PatternSyntaxException}.
+ */
+public class SearchToPredicateVisitor extends SearchBaseVisitor<Predicate<BibFieldsEntryRows>> {
+
+    private static final String GROUPS_FIELD = StandardField.GROUPS.getName();
+
+    private final EnumSet<SearchFlags> searchBarFlags;
+
+    public SearchToPredicateVisitor(EnumSet<SearchFlags> searchBarFlags) {
+        this.searchBarFlags = searchBarFlags;
+    }
+
+    @Override
+    public Predicate<BibFieldsEntryRows> visitStart(SearchParser.StartContext ctx) {
+        if (ctx.andExpression() == null) {
+            return entry -> false;
+        }
+        return visit(ctx.andExpression());
+    }
+
+    @Override
+    public Predicate<BibFieldsEntryRows> visitImplicitAndExpression(SearchParser.ImplicitAndExpressionContext ctx) {
+        List<Predicate<BibFieldsEntryRows>> children = ctx.expression().stream().map(this::visit).toList();
+        if (children.size() == 1) {
+            return children.getFirst();
+        }
+        return entry -> {
+            for (Predicate<BibFieldsEntryRows> child : children) {
+                if (!child.test(entry)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    @Override
+    public Predicate<BibFieldsEntryRows> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        return visit(ctx.andExpression());
+    }
+
+    @Override
+    public Predicate<BibFieldsEntryRows> visitNegatedExpression(SearchParser.NegatedExpressionContext ctx) {
+        return visit(ctx.expression()).negate();
+    }
+
+    @Override
+    public Predicate<BibFieldsEntryRows> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        Predicate<BibFieldsEntryRows> left = visit(ctx.left);
+        Predicate<BibFieldsEntryRows> right = visit(ctx.right);
+        return ctx.bin_op.getType() == SearchParser.AND ? left.and(right) : left.or(right);
+    }
+
+    @Override
+    public Predicate<BibFieldsEntryRows> visitComparisonExpression(SearchParser.ComparisonExpressionContext ctx) {
+        return visit(ctx.comparison());
+    }
+
+    @Override
+    public Predicate<BibFieldsEntryRows> visitComparison(SearchParser.ComparisonContext ctx) {
+        EnumSet<SearchFlags> searchFlags = EnumSet.noneOf(SearchFlags.class);
+        String term = SearchQueryConversion.unescapeSearchValue(ctx.searchValue());
+
+        // unfielded expression
+        if (ctx.FIELD() == null) {
+            // apply search bar flags to unfielded expressions
+            boolean isCaseSensitive = searchBarFlags.contains(CASE_SENSITIVE);
+            if (searchBarFlags.contains(REGULAR_EXPRESSION)) {
+                setFlags(searchFlags, REGULAR_EXPRESSION, isCaseSensitive, false);
+            } else {
+                setFlags(searchFlags, INEXACT_MATCH, isCaseSensitive, false);
+            }
+            return getFieldPredicate("any", term, searchFlags);
+        }
+
+        // fielded expression
+        String field = ctx.FIELD().getText();
+        int operator = ctx.operator().getStart().getType();
+
+        if (operator == SearchParser.EQUAL || operator == SearchParser.CONTAINS) {
+            setFlags(searchFlags, INEXACT_MATCH, false, false);
+        } else if (operator == SearchParser.CEQUAL) {
+            setFlags(searchFlags, INEXACT_MATCH, true, false);
+        } else if (operator == SearchParser.EEQUAL || operator == SearchParser.MATCHES) {
+            setFlags(searchFlags, EXACT_MATCH, false, false);
+        } else if (operator == SearchParser.CEEQUAL) {
+            setFlags(searchFlags, EXACT_MATCH, true, false);
+        } else if (operator == SearchParser.REQUAL) {
+            setFlags(searchFlags, REGULAR_EXPRESSION, false, false);
+        } else if (operator == SearchParser.CREEQUAL) {
+            setFlags(searchFlags, REGULAR_EXPRESSION, true, false);
+        } else if (operator == SearchParser.NEQUAL) {
+            setFlags(searchFlags, INEXACT_MATCH, false, true);
+        } else if (operator == SearchParser.NCEQUAL) {
+            setFlags(searchFlags, INEXACT_MATCH, true, true);
+        } else if (operator == SearchParser.NEEQUAL) {
+            setFlags(searchFlags, EXACT_MATCH, false, true);
+        } else if (operator == SearchParser.NCEEQUAL) {
+            setFlags(searchFlags, EXACT_MATCH, true, true);
+        } else if (operator == SearchParser.NREQUAL) {
+            setFlags(searchFlags, REGULAR_EXPRESSION, false, true);
+        } else if (operator == SearchParser.NCREEQUAL) {
+            setFlags(searchFlags, REGULAR_EXPRESSION, true, true);
+        }
+
+        // field = "" -> should find entries where the field is empty
+        // field != "" -> should find entries where the field is not empty
+        if (term.isEmpty()) {
+            if (searchFlags.contains(NEGATION)) {
+                searchFlags.remove(NEGATION);
+            } else {
+                searchFlags.add(NEGATION);
+            }
+        }
+
+        return getFieldPredicate(field.toLowerCase(Locale.ROOT), term, searchFlags);
+    }
+
+    private Predicate<BibFieldsEntryRows> getFieldPredicate(String field, String term, EnumSet<SearchFlags> searchFlags) {
+        // Pseudo-fields
+        field = switch (field) {
+            case "key" -> InternalField.KEY_FIELD.getName();
+            case "anykeyword" -> StandardField.KEYWORDS.getName();
+            case "anyfield" -> "any";
+            default -> field;
+        };
+
+        if (ENTRY_ID.toString().equals(field)) {
+            return entry -> entry.entryId().equals(term);
+        }
+
+        Predicate<String> valueMatcher = getValueMatcher(term, searchFlags);
+        Predicate<BibFieldsRow> rowMatcher = row -> valueMatcher.test(row.value()) || valueMatcher.test(row.normalized());
+        Predicate<BibFieldsRow> fieldMatcher;
+        if ("any".equals(field)) {
+            // https://github.com/JabRef/jabref/issues/7996
+            fieldMatcher = row -> !GROUPS_FIELD.equals(row.field().getName());
+        } else {
+            String fieldName = field;
+            fieldMatcher = row -> fieldName.equals(row.field().getName());
+        }
+        Predicate<BibFieldsRow> matcher = fieldMatcher.and(rowMatcher);
+
+        // Split values are only considered for exact matches
+        boolean considerSplitValues = searchFlags.contains(EXACT_MATCH);
+        Predicate<BibFieldsEntryRows> predicate = entry -> anyMatch(entry.fieldRows(), matcher)
+                || (considerSplitValues && anyMatch(entry.splitValueRows(), matcher));
+
+        return searchFlags.contains(NEGATION) ? predicate.negate() : predicate;
+    }
+
+    private static Predicate<String> getValueMatcher(String term, EnumSet<SearchFlags> searchFlags) {
+        boolean caseSensitive = searchFlags.contains(CASE_SENSITIVE);
+        if (searchFlags.contains(REGULAR_EXPRESSION)) {
+            Pattern pattern = caseSensitive
+                              ? Pattern.compile(term)
+                              : Pattern.compile(term, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+            return value -> pattern.matcher(value).find();
+        } else if (searchFlags.contains(EXACT_MATCH)) {
+            return caseSensitive ? term::equals : term::equalsIgnoreCase;
+        } else {
+            return caseSensitive ? value -> value.contains(term) : value -> StringUtils.containsIgnoreCase(value, term);
+        }
+    }
+
+    private static boolean anyMatch(List<BibFieldsRow> rows, Predicate<BibFieldsRow> matcher) {
+        for (BibFieldsRow row : rows) {
+            if (matcher.test(row)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void setFlags(EnumSet<SearchFlags> flags, SearchFlags matchType, boolean caseSensitive, boolean negation) {
+        flags.add(matchType);
+
+        flags.add(caseSensitive ? CASE_SENSITIVE : CASE_INSENSITIVE);
+        if (negation) {
+            flags.add(NEGATION);
+        }
+    }
+}
@@ -7,13 +7,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -43,6 +41,12 @@ public abstract class DBMSProcessor {
 
     protected DatabaseConnectionProperties connectionProperties;
 
+    /**
+     * @see #getSharedEntriesSummary()
+     */
+    public record EntriesSummary(long entryCount, long versionSum, long maxSharedID) {
+    }
+
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
         this.connectionProperties = dbmsConnection.getProperties();
@@ -297,147 +301,130 @@ public abstract class DBMSProcessor {
      * @throws SQLException in case of error
      */
     public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
+        List<OfflineLockException> refusedUpdates = updateEntries(List.of(localBibEntry));
+        if (!refusedUpdates.isEmpty()) {
+            throw refusedUpdates.getFirst();
+        }
+    }
+
+    /**
+     * Updates the given entries on shared database in one transaction. The statements of all entries are sent in batches,
+     * thus the number of round trips does not depend on the number of entries and fields.
+     * <p>
+     * An entry is only updated if its local version is not older than the shared one or if both are equal.
+     *
+     * @param localBibEntries {@link BibEntry} affected by changes
+     * @return the refused updates of entries changed on shared database in the meantime
+     * @throws SQLException in case of error. The transaction is rolled back then, thus none of the entries is updated.
+     */
+    public List<OfflineLockException> updateEntries(List<BibEntry> localBibEntries) throws SQLException {
+        List<OfflineLockException> refusedUpdates = new ArrayList<>();
+        List<Integer> sharedIDs = localBibEntries.stream()
+                                                 .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                                                 .toList();
+        Map<Integer, BibEntry> sharedEntries = partitionAndGetSharedEntries(sharedIDs).stream()
+                                                                                      .collect(Collectors.toMap(entry -> entry.getSharedBibEntryData().getSharedID(), entry -> entry));
+
+        String deleteFieldQuery = "DELETE FROM " +
+                escape_Table("FIELD") +
+                " WHERE " +
+                escape("NAME") +
+                " = ? AND " +
+                escape("ENTRY_SHARED_ID") +
+                " = ?";
+        String updateFieldQuery = "UPDATE " +
+                escape_Table("FIELD") +
+                " SET " +
+                escape("VALUE") +
+                " = ? WHERE " +
+                escape("NAME") +
+                " = ? AND " +
+                escape("ENTRY_SHARED_ID") +
+                " = ?";
+        String insertFieldQuery = "INSERT INTO " +
+                escape_Table("FIELD") +
+                "(" +
+                escape("ENTRY_SHARED_ID") +
+                ", " +
+                escape("NAME") +
+                ", " +
+                escape("VALUE") +
+                ") VALUES(?, ?, ?)";
+        String updateEntryTypeQuery = "UPDATE " +
+                escape_Table("ENTRY") +
+                " SET " +
+                escape("TYPE") +
+                " = ?, " +
+                escape("VERSION") +
+                " = " +
+                escape("VERSION") +
+                " + 1 WHERE " +
+                escape("SHARED_ID") +
+                " = ?";
+
         connection.setAutoCommit(false); // disable auto commit due to transaction
 
-        try {
-            Optional<BibEntry> sharedEntryOptional = getSharedEntry(localBibEntry.getSharedBibEntryData().getSharedID());
+        try (PreparedStatement deleteFieldStatement = connection.prepareStatement(deleteFieldQuery);
+             PreparedStatement updateFieldStatement = connection.prepareStatement(updateFieldQuery);
+             PreparedStatement insertFieldStatement = connection.prepareStatement(insertFieldQuery);
+             PreparedStatement updateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery)) {
+            for (BibEntry localBibEntry : localBibEntries) {
+                int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+                BibEntry sharedBibEntry = sharedEntries.get(sharedID);
+                if (sharedBibEntry == null) {
+                    continue;
+                }
 
-            if (sharedEntryOptional.isEmpty()) {
-                return;
-            }
+                // update only if local version is higher or the entries are equal
+                if ((localBibEntry.getSharedBibEntryData().getVersion() < sharedBibEntry.getSharedBibEntryData().getVersion())
+                        && !localBibEntry.equals(sharedBibEntry)) {
+                    refusedUpdates.add(new OfflineLockException(localBibEntry, sharedBibEntry));
+                    continue;
+                }
+
+                // remove shared fields which do not exist locally
+                for (Field field : sharedBibEntry.getFields()) {
+                    if (!localBibEntry.hasField(field)) {
+                        deleteFieldStatement.setString(1, field.getName());
+                        deleteFieldStatement.setInt(2, sharedID);
+                        deleteFieldStatement.addBatch();
+                    }
+                }
 
-            BibEntry sharedBibEntry = sharedEntryOptional.get();
-
-            // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
-
-            // update only if local version is higher or the entries are equal
-            if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
-                                                                                     .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
-                insertOrUpdateFields(localBibEntry);
-
-                // updating entry type
-                String updateEntryTypeQuery = "UPDATE " +
-                        escape_Table("ENTRY") +
-                        " SET " +
-                        escape("TYPE") +
-                        " = ?, " +
-                        escape("VERSION") +
-                        " = " +
-                        escape("VERSION") +
-                        " + 1 WHERE " +
-                        escape("SHARED_ID") +
-                        " = ?";
-
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery)) {
-                    preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
-                    preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
+                // insert new fields and update changed ones
+                for (Field field : localBibEntry.getFields()) {
+                    String value = localBibEntry.getField(field).orElse(null);
+                    Optional<String> sharedValue = sharedBibEntry.getField(field);
+                    if (sharedValue.isEmpty()) {
+                        insertFieldStatement.setInt(1, sharedID);
+                        insertFieldStatement.setString(2, field.getName());
+                        insertFieldStatement.setString(3, value);
+                        insertFieldStatement.addBatch();
+                    } else if (!sharedValue.get().equals(value)) {
+                        updateFieldStatement.setString(1, value);
+                        updateFieldStatement.setString(2, field.getName());
+                        updateFieldStatement.setInt(3, sharedID);
+                        updateFieldStatement.addBatch();
+                    }
                 }
 
-                connection.commit(); // apply all changes in current transaction
-            } else {
-                throw new OfflineLockException(localBibEntry, sharedBibEntry);
+                updateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
+                updateEntryTypeStatement.setInt(2, sharedID);
+                updateEntryTypeStatement.addBatch();
             }
+
+            deleteFieldStatement.executeBatch();
+            updateFieldStatement.executeBatch();
+            insertFieldStatement.executeBatch();
+            updateEntryTypeStatement.executeBatch();
+            connection.commit(); // apply all changes in current transaction
         } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
             connection.rollback(); // undo changes made in current transaction
+            throw e;
         } finally {
             connection.setAutoCommit(true); // enable auto commit mode again
         }
-    }
-
-    /**
-     * Helping method. Removes shared fields which do not exist locally
-     */
-    private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
-        Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
-        nullFields.removeAll(localBibEntry.getFields());
-        for (Field nullField : nullFields) {
-            String deleteFieldQuery = "DELETE FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery)) {
-                preparedDeleteFieldStatement.setString(1, nullField.getName());
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
-            }
-        }
-    }
-
-    /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an
-     * update is performed.
-     */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
-            }
-
-            String selectFieldQuery = "SELECT * FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery)) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        String updateFieldQuery = "UPDATE " +
-                                escape_Table("FIELD") +
-                                " SET " +
-                                escape("VALUE") +
-                                " = ? WHERE " +
-                                escape("NAME") +
-                                " = ? AND " +
-                                escape("ENTRY_SHARED_ID") +
-                                " = ?";
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery)) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        String insertFieldQuery = "INSERT INTO " +
-                                escape_Table("FIELD") +
-                                "(" +
-                                escape("ENTRY_SHARED_ID") +
-                                ", " +
-                                escape("NAME") +
-                                ", " +
-                                escape("VALUE") +
-                                ") VALUES(?, ?, ?)";
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery)) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
-                }
-            }
-        }
+        return refusedUpdates;
     }
 
     /**
@@ -595,6 +582,31 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Summarizes the ENTRY table by the number of entries, the sum of their versions, and the highest shared ID.
+     * Each insertion, update, or removal of an entry changes this summary, because shared IDs and versions only grow.
+     * Thus, {@link #getSharedIDVersionMapping()} only needs to be fetched if the summary changed.
+     *
+     * @return the summary, or an empty optional in case of an error
+     */
+    public Optional<EntriesSummary> getSharedEntriesSummary() {
+        String summaryQuery = "SELECT COUNT(*), COALESCE(SUM(" +
+                escape("VERSION") +
+                "), 0), COALESCE(MAX(" +
+                escape("SHARED_ID") +
+                "), 0) FROM " +
+                escape_Table("ENTRY");
+
+        try (ResultSet summaryResultSet = connection.createStatement().executeQuery(summaryQuery)) {
+            if (summaryResultSet.next()) {
+                return Optional.of(new EntriesSummary(summaryResultSet.getLong(1), summaryResultSet.getLong(2), summaryResultSet.getLong(3)));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+        return Optional.empty();
+    }
+
     /**
      * Fetches and returns all shared meta data.
      */
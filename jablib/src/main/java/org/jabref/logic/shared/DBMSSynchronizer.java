@@ -2,12 +2,16 @@ package org.jabref.logic.shared;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TimerTask;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtex.FieldPreferences;
@@ -20,6 +24,7 @@ import org.jabref.logic.shared.event.ConnectionLostEvent;
 import org.jabref.logic.shared.event.SharedEntriesNotPresentEvent;
 import org.jabref.logic.shared.event.UpdateRefusedEvent;
 import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesAddedEvent;
@@ -40,6 +45,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Synchronizes the shared or local databases with their opposite side. Local changes are pushed by {@link EntriesEvent}
  * using Google's Guava EventBus.
+ * <p>
+ * Local field changes are collected and pushed together after the flush interval (see {@link #setFlushInterval(Duration)}).
+ * By default, each change is pushed immediately.
  */
 public class DBMSSynchronizer implements DatabaseSynchronizer {
 
@@ -58,6 +66,15 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final FileUpdateMonitor fileMonitor;
     private Optional<BibEntry> lastEntryChanged;
 
+    private Duration flushInterval = Duration.ZERO;
+    // Local entries with changes not pushed yet. The entries are compared by identity, because their content changes.
+    private final Set<BibEntry> pendingEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean flushScheduled;
+
+    // The state of the shared entries the local database was synchronized with last
+    private Optional<DBMSProcessor.EntriesSummary> synchronizedEntriesSummary = Optional.empty();
+    private Set<Integer> synchronizedSharedIDs = Set.of();
+
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             FieldPreferences fieldPreferences,
                             GlobalCitationKeyPatterns globalCiteKeyPattern, FileUpdateMonitor fileMonitor) {
@@ -98,16 +115,52 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
         if (isPresentLocalBibEntry(bibEntry) && isEventSourceAccepted(event) && checkCurrentConnection() && !event.isFilteredOut()) {
-            synchronizeLocalMetaData();
-            pullWithLastEntry();
-            synchronizeSharedEntry(bibEntry);
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+            addPendingEntry(bibEntry);
         } else {
             // Set new BibEntry that has been changed last
             lastEntryChanged = Optional.of(bibEntry);
         }
     }
 
+    private synchronized void addPendingEntry(BibEntry bibEntry) {
+        pendingEntries.add(bibEntry);
+        if (flushInterval.isZero()) {
+            flushPendingEntries();
+        } else {
+            scheduleFlush();
+        }
+    }
+
+    private synchronized void scheduleFlush() {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            HeadlessExecutorService.INSTANCE.submit(new TimerTask() {
+                @Override
+                public void run() {
+                    flushPendingEntries();
+                }
+            }, flushInterval.toMillis());
+        }
+    }
+
+    /**
+     * Pushes all pending local changes in one batch and pulls the shared changes afterward.
+     */
+    public synchronized void flushPendingEntries() {
+        flushScheduled = false;
+        if (pendingEntries.isEmpty() || !checkCurrentConnection()) {
+            return;
+        }
+        synchronizeLocalMetaData();
+        lastEntryChanged.ifPresent(pendingEntries::add);
+        lastEntryChanged = Optional.empty();
+
+        List<BibEntry> entries = pendingEntries.stream().filter(this::isPresentLocalBibEntry).toList();
+        pendingEntries.clear();
+        synchronizeSharedEntries(entries);
+        synchronizeLocalDatabase(); // Pull changes for the case that there were some
+    }
+
     /**
      * Listening method. Deletes the given list of {@link BibEntry} from shared database.
      */
@@ -175,42 +228,54 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
+        // Push pending local changes first. Otherwise, newer shared changes would overwrite them.
+        flushPendingEntries();
+
         List<BibEntry> localEntries = bibDatabase.getEntries();
+        // The summary is fetched first. Thus, shared changes made while synchronizing lead to another synchronization next time.
+        Optional<DBMSProcessor.EntriesSummary> sharedEntriesSummary = dbmsProcessor.getSharedEntriesSummary();
+        if (sharedEntriesSummary.isPresent() && sharedEntriesSummary.equals(synchronizedEntriesSummary) && isSynchronized(localEntries)) {
+            // Neither the shared entries nor the local entries changed since the last synchronization
+            return;
+        }
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = localEntries.stream()
+                                                                          .collect(Collectors.groupingBy(entry -> entry.getSharedBibEntryData().getSharedID()));
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
-        // compare versions and update local entry if needed
+        List<Integer> entriesToUpdateInLocalDatabase = new ArrayList<>();
+        // compare versions to find the local entries to update
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
-            }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
+            List<BibEntry> matchingLocalEntries = localEntriesBySharedID.getOrDefault(idVersionEntry.getKey(), List.of());
+            if (matchingLocalEntries.isEmpty()) {
                 entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (matchingLocalEntries.stream().anyMatch(localEntry -> idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion())) {
+                entriesToUpdateInLocalDatabase.add(idVersionEntry.getKey());
+            }
+        }
+
+        for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(entriesToUpdateInLocalDatabase)) {
+            int sharedVersion = sharedEntry.getSharedBibEntryData().getVersion();
+            for (BibEntry localEntry : localEntriesBySharedID.getOrDefault(sharedEntry.getSharedBibEntryData().getSharedID(), List.of())) {
+                if (sharedVersion <= localEntry.getSharedBibEntryData().getVersion()) {
+                    continue;
+                }
+                // update fields
+                localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+                localEntry.getSharedBibEntryData().setVersion(sharedVersion);
+                sharedEntry.getFieldMap().forEach(
+                        // copy remote values to local entry
+                        (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+                );
+
+                // locally remove not existing fields
+                localEntry.getFields().stream()
+                          .filter(field -> !sharedEntry.hasField(field))
+                          .forEach(
+                                  field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                          );
             }
         }
 
@@ -218,6 +283,17 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             // in case entries should be added into the local database, insert them
             bibDatabase.insertEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
         }
+
+        synchronizedEntriesSummary = sharedEntriesSummary;
+        synchronizedSharedIDs = Set.copyOf(idVersionMap.keySet());
+    }
+
+    /**
+     * Checks whether the local entries are exactly the shared entries of the last synchronization
+     */
+    private boolean isSynchronized(List<BibEntry> localEntries) {
+        return (localEntries.size() == synchronizedSharedIDs.size())
+                && localEntries.stream().allMatch(entry -> synchronizedSharedIDs.contains(entry.getSharedBibEntryData().getSharedID()));
     }
 
     /**
@@ -243,16 +319,33 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      */
     @Override
     public void synchronizeSharedEntry(BibEntry bibEntry) {
-        if (!checkCurrentConnection()) {
+        synchronizeSharedEntries(List.of(bibEntry));
+    }
+
+    /**
+     * Synchronizes the shared BibEntries with the local ones in one batch.
+     */
+    private void synchronizeSharedEntries(List<BibEntry> bibEntries) {
+        if (bibEntries.isEmpty() || !checkCurrentConnection()) {
             return;
         }
+        // perform possibly existing save actions
+        bibEntries.forEach(bibEntry -> BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences));
+        updateSharedEntries(bibEntries);
+    }
+
+    private synchronized void updateSharedEntries(List<BibEntry> bibEntries) {
         try {
-            BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences); // perform possibly existing save actions
-            dbmsProcessor.updateEntry(bibEntry);
-        } catch (OfflineLockException exception) {
-            eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+            for (OfflineLockException exception : dbmsProcessor.updateEntries(bibEntries)) {
+                eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+            }
         } catch (SQLException e) {
-            LOGGER.error("SQL Error", e);
+            // The whole batch was rolled back. Keep the changes, so that the next flush pushes them again.
+            LOGGER.error("Could not push {} changed entries to the shared database, retrying with the next synchronization", bibEntries.size(), e);
+            pendingEntries.addAll(bibEntries);
+            if (!flushInterval.isZero()) {
+                scheduleFlush();
+            }
         }
     }
 
@@ -295,17 +388,12 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         if (!checkCurrentConnection()) {
             return;
         }
-        for (BibEntry bibEntry : bibDatabase.getEntries()) {
-            try {
-                // synchronize only if changes were present
-                if (!BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences).isEmpty()) {
-                    dbmsProcessor.updateEntry(bibEntry);
-                }
-            } catch (OfflineLockException exception) {
-                eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
-            } catch (SQLException e) {
-                LOGGER.error("SQL Error: ", e);
-            }
+        // synchronize only if changes were present
+        List<BibEntry> changedEntries = bibDatabase.getEntries().stream()
+                                                   .filter(bibEntry -> !BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences).isEmpty())
+                                                   .toList();
+        if (!changedEntries.isEmpty()) {
+            updateSharedEntries(changedEntries);
         }
     }
 
@@ -391,6 +479,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     @Override
     public void closeSharedDatabase() {
         // Submit remaining entry changes
+        flushPendingEntries();
         pullLastEntryChanges();
         try {
             dbmsProcessor.stopNotificationListener();
@@ -418,6 +507,13 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         return dbmsProcessor.getDBMSConnectionProperties();
     }
 
+    /**
+     * Sets the time local field changes are collected before they are pushed together. Zero pushes each change immediately.
+     */
+    public synchronized void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = Objects.requireNonNull(flushInterval);
+    }
+
     public void setMetaData(MetaData metaData) {
         this.metaData = metaData;
     }
@@ -2,6 +2,7 @@ package org.jabref.logic.shared.prefs;
 
 import java.io.UnsupportedEncodingException;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.prefs.BackingStoreException;
 import java.util.prefs.Preferences;
@@ -33,6 +34,9 @@ public class SharedDatabasePreferences {
     private static final String SHARED_DATABASE_SERVER_TIMEZONE = "sharedDatabaseServerTimezone";
     private static final String SHARED_DATABASE_EXPERT_MODE = "sharedDatabaseExpertMode";
     private static final String SHARED_DATABASE_JDBC_URL = "sharedDatabaseJdbcUrl";
+    private static final String SHARED_DATABASE_FLUSH_INTERVAL = "sharedDatabaseFlushInterval";
+
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000;
 
     // This {@link Preferences} is used only for things which should not appear in real JabRefPreferences due to security reasons.
     private final Preferences internalPrefs;
@@ -161,6 +165,17 @@ public class SharedDatabasePreferences {
         return getOptionalValue(SHARED_DATABASE_JDBC_URL);
     }
 
+    /**
+     * The time local changes are collected before they are pushed to the shared database together
+     */
+    public Duration getFlushInterval() {
+        return Duration.ofMillis(Math.max(0, internalPrefs.getLong(SHARED_DATABASE_FLUSH_INTERVAL, DEFAULT_FLUSH_INTERVAL_MILLIS)));
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        internalPrefs.putLong(SHARED_DATABASE_FLUSH_INTERVAL, flushInterval.toMillis());
+    }
+
     public void clear() throws BackingStoreException {
         internalPrefs.clear();
     }
@@ -36,11 +36,11 @@ import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,9 +65,15 @@ public class BibDatabase {
     // Not included in equals, because it is not relevant for the content of the database
     private final EventBus eventBus = new EventBus();
 
+    // The same instance is passed to every entry, thus an entry inserted again relays its changes only once
+    private final Consumer<FieldChangedEvent> entryChangeRelay = this::relayEntryChangeEvent;
+
     // Reverse index for citation links
     private final Map<String, Set<BibEntry>> citationIndex = new ConcurrentHashMap<>();
 
+    // Citation key to the entries having this key, in the order of the entries in the database. The lists are replaced, not modified.
+    private final Map<String, List<BibEntry>> entriesByCitationKey = new ConcurrentHashMap<>();
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -144,7 +150,10 @@ public class BibDatabase {
      * Returns the entry with the given citation key.
      */
     public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+        if (key == null) {
+            return entries.stream().filter(entry -> !entry.hasCitationKey()).findFirst();
+        }
+        return entriesByCitationKey.getOrDefault(key, List.of()).stream().findFirst();
     }
 
     /**
@@ -154,16 +163,7 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
-        }
-        return result;
+        return new ArrayList<>(entriesByCitationKey.getOrDefault(key, List.of()));
     }
 
     public synchronized void insertEntry(BibEntry entry) {
@@ -191,7 +191,7 @@ public class BibDatabase {
     public synchronized void insertEntries(List<BibEntry> newEntries, EntriesEventSource eventSource) {
         Objects.requireNonNull(newEntries);
         for (BibEntry entry : newEntries) {
-            entry.registerListener(this);
+            entry.addChangeRelay(entryChangeRelay);
         }
         if (newEntries.isEmpty()) {
             eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
@@ -202,6 +202,7 @@ public class BibDatabase {
         newEntries.forEach(entry -> {
                     entriesId.put(entry.getId(), entry);
                     indexEntry(entry);
+                    entry.getCitationKey().ifPresent(key -> addToCitationKeyIndex(key, entry, true));
                 }
         );
     }
@@ -251,6 +252,7 @@ public class BibDatabase {
         toBeDeleted.forEach(entry -> {
             entriesId.remove(entry.getId());
             removeEntryFromIndex(entry);
+            entry.getCitationKey().ifPresent(key -> removeFromCitationKeyIndex(key, entry));
         });
 
         entries.setAll(newEntries);
@@ -301,6 +303,35 @@ public class BibDatabase {
         });
     }
 
+    /**
+     * @param append whether the entry is the last entry of the database. Otherwise, the entry is placed according to its id (see {@link #indexOf(BibEntry)}).
+     */
+    private void addToCitationKeyIndex(String key, BibEntry entry, boolean append) {
+        entriesByCitationKey.compute(key, (_, entriesForKey) -> {
+            if (entriesForKey == null) {
+                return List.of(entry);
+            }
+            List<BibEntry> newEntriesForKey = new ArrayList<>(entriesForKey);
+            int index = newEntriesForKey.size();
+            if (!append) {
+                while ((index > 0) && (newEntriesForKey.get(index - 1).getId().compareTo(entry.getId()) > 0)) {
+                    index--;
+                }
+            }
+            newEntriesForKey.add(index, entry);
+            return newEntriesForKey;
+        });
+    }
+
+    private void removeFromCitationKeyIndex(String key, BibEntry entry) {
+        entriesByCitationKey.computeIfPresent(key, (_, entriesForKey) -> {
+            List<BibEntry> newEntriesForKey = new ArrayList<>(entriesForKey);
+            // Entries are compared by identity, because equal entries may be contained multiple times
+            newEntriesForKey.removeIf(entryForKey -> entryForKey == entry);
+            return newEntriesForKey.isEmpty() ? null : newEntriesForKey;
+        });
+    }
+
     /**
      * Returns the database's preamble.
      * If the preamble text consists only of whitespace, then also an empty optional is returned.
@@ -623,11 +654,27 @@ public class BibDatabase {
         }
     }
 
-    @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        if (event.getField().equals(InternalField.KEY_FIELD)) {
+            updateCitationKeyIndex(event);
+        }
         eventBus.post(event);
     }
 
+    private void updateCitationKeyIndex(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        // Removed entries are not unregistered, thus their changes are still received
+        if (entriesId.get(entry.getId()) != entry) {
+            return;
+        }
+        if (event.getOldValue() != null) {
+            removeFromCitationKeyIndex(event.getOldValue(), entry);
+        }
+        if (event.getNewValue() != null) {
+            addToCitationKeyIndex(event.getNewValue(), entry, false);
+        }
+    }
+
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(StandardField.CROSSREF).flatMap(this::getEntryByCitationKey);
     }
@@ -662,10 +709,7 @@ public class BibDatabase {
      * Returns the number of occurrences of the given citation key in this database.
      */
     public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+        return entriesByCitationKey.getOrDefault(key, List.of()).size();
     }
 
     /**
@@ -16,6 +16,7 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -101,28 +102,49 @@ public class BibEntry implements Cloneable {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
     private final SharedBibEntryData sharedBibEntryData;
 
+    /*
+     * Large libraries hold hundreds of thousands of entries. Thus, the caches, the event bus, and the observables below are
+     * created on first use only. Most entries are never shown in the entry editor or have listeners registered.
+     */
+
     /**
      * Map to store the words in every field
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private volatile Map<Field, Set<String>> fieldsAsWords;
 
     /**
      * Cache that stores latex free versions of fields.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile Map<Field, String> latexFreeFields;
 
     /**
      * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private volatile MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
 
-    private final EventBus eventBus = new EventBus();
+    private volatile EventBus eventBus;
+
+    /**
+     * Receive the changes of this entry on behalf of the databases containing it.
+     * In contrast to the listeners registered at {@link #registerListener(Object)}, they do not require an event bus per entry.
+     */
+    private volatile List<Consumer<FieldChangedEvent>> changeRelays = List.of();
 
     private String id;
 
-    private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
+    private EntryType type = DEFAULT_TYPE;
+
+    /**
+     * Observable view on {@link #type}. If present, it holds the current type.
+     */
+    private volatile ObjectProperty<EntryType> typeProperty;
 
-    private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    private Map<Field, String> fields = new ConcurrentHashMap<>();
+
+    /**
+     * Observable view on {@link #fields}. If present, all modifications go through it to notify its listeners.
+     */
+    private volatile ObservableMap<Field, String> fieldsObservable;
 
     /**
      * The part before the start of the entry
@@ -134,6 +156,11 @@ public class BibEntry implements Cloneable {
      */
     private String parsedSerialization = "";
 
+    /**
+     * Stores the text "rendering" of the entry written by the last save. Is <code>null</code> if the entry was not saved or changed afterward.
+     */
+    private String savedSerialization;
+
     /**
      * Marks whether the complete serialization, which was read from file, should be used.
      * <p>
@@ -331,7 +358,7 @@ public class BibEntry implements Cloneable {
 
     private Optional<String> genericGetResolvedFieldOrAlias(Field field, @Nullable BibDatabase database, BiFunction<BibEntry, Field, Optional<String>> getFieldOrAlias) {
         if ((InternalField.TYPE_HEADER == field) || (InternalField.OBSOLETE_TYPE_HEADER == field)) {
-            return Optional.of(type.get().getDisplayName());
+            return Optional.of(getType().getDisplayName());
         }
 
         if (InternalField.KEY_FIELD == field) {
@@ -344,8 +371,8 @@ public class BibEntry implements Cloneable {
         if (result.isEmpty() && (database != null)) {
             Optional<BibEntry> referred = database.getReferencedEntry(this);
             if (referred.isPresent()) {
-                EntryType sourceEntry = referred.get().type.get();
-                EntryType targetEntry = type.get();
+                EntryType sourceEntry = referred.get().getType();
+                EntryType targetEntry = getType();
                 Optional<Field> sourceField = getSourceField(field, targetEntry, sourceEntry);
 
                 if (sourceField.isPresent()) {
@@ -381,9 +408,10 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
+        savedSerialization = null;
     }
 
     /**
@@ -422,11 +450,22 @@ public class BibEntry implements Cloneable {
      * Returns this entry's type.
      */
     public EntryType getType() {
-        return type.getValue();
+        ObjectProperty<EntryType> property = typeProperty;
+        return property == null ? type : property.get();
     }
 
     public ObjectProperty<EntryType> typeProperty() {
-        return type;
+        ObjectProperty<EntryType> property = typeProperty;
+        if (property == null) {
+            synchronized (this) {
+                property = typeProperty;
+                if (property == null) {
+                    property = new SimpleObjectProperty<>(type);
+                    typeProperty = property;
+                }
+            }
+        }
+        return property;
     }
 
     /**
@@ -443,16 +482,21 @@ public class BibEntry implements Cloneable {
     public Optional<FieldChange> setType(EntryType newType, EntriesEventSource eventSource) {
         Objects.requireNonNull(newType);
 
-        EntryType oldType = type.get();
+        EntryType oldType = getType();
         if (newType.equals(oldType)) {
             return Optional.empty();
         }
 
         changed = true;
-        this.type.setValue(newType);
+        savedSerialization = null;
+        this.type = newType;
+        ObjectProperty<EntryType> property = typeProperty;
+        if (property != null) {
+            property.setValue(newType);
+        }
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -482,15 +526,15 @@ public class BibEntry implements Cloneable {
             // the key field should not be converted
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
-            return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
-            return Optional.ofNullable(latexFreeFields.get(field));
+            return Optional.of(getType().getDisplayName());
+        } else if (getLatexFreeFields().containsKey(field)) {
+            return Optional.ofNullable(getLatexFreeFields().get(field));
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
                 // TODO: Do we need FieldFactory.isLaTeXField(field) here to filter?
                 String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
+                getLatexFreeFields().put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
                 return Optional.empty();
@@ -634,15 +678,16 @@ public class BibEntry implements Cloneable {
 
         boolean isNewField = oldValue == null;
         changed = true;
+        savedSerialization = null;
 
         invalidateFieldCache(field);
-        fields.put(field, value.intern());
+        getModifiableFields().put(field, value.intern());
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -680,12 +725,13 @@ public class BibEntry implements Cloneable {
         }
 
         changed = true;
+        savedSerialization = null;
 
         invalidateFieldCache(field);
-        fields.remove(field);
+        getModifiableFields().remove(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -710,10 +756,11 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public Object clone() {
-        BibEntry clone = new BibEntry(type.getValue());
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        BibEntry clone = new BibEntry(getType());
+        clone.fields = new ConcurrentHashMap<>(fields);
         clone.commentsBeforeEntry = commentsBeforeEntry;
         clone.parsedSerialization = parsedSerialization;
+        clone.savedSerialization = savedSerialization;
         clone.changed = changed;
         return clone;
     }
@@ -791,6 +838,22 @@ public class BibEntry implements Cloneable {
     public void setParsedSerialization(String parsedSerialization) {
         changed = false;
         this.parsedSerialization = parsedSerialization;
+        this.savedSerialization = null;
+    }
+
+    /**
+     * @return the serialization written by the last save, if the entry did not change afterward
+     */
+    public Optional<String> getSavedSerialization() {
+        return Optional.ofNullable(savedSerialization);
+    }
+
+    /**
+     * Keeps the serialization written by a save. As long as the entry does not change, it is written again as saved.
+     */
+    public void setSavedSerialization(String savedSerialization) {
+        changed = false;
+        this.savedSerialization = savedSerialization;
     }
 
     public void setCommentsBeforeEntry(String parsedComments) {
@@ -910,7 +973,7 @@ public class BibEntry implements Cloneable {
     }
 
     public Map<Field, String> getFieldMap() {
-        return fields;
+        return getModifiableFields();
     }
 
     public SharedBibEntryData getSharedBibEntryData() {
@@ -937,7 +1000,7 @@ public class BibEntry implements Cloneable {
             return false;
         }
         BibEntry entry = (BibEntry) o;
-        return Objects.equals(type.getValue(), entry.type.getValue())
+        return Objects.equals(getType(), entry.getType())
                 && Objects.equals(fields, entry.fields)
                 && Objects.equals(commentsBeforeEntry, entry.commentsBeforeEntry);
     }
@@ -955,16 +1018,44 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(type.getValue(), fields, commentsBeforeEntry);
+        return Objects.hash(getType(), fields, commentsBeforeEntry);
     }
 
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        EventBus bus = eventBus;
+        if (bus == null) {
+            synchronized (this) {
+                bus = eventBus;
+                if (bus == null) {
+                    bus = new EventBus();
+                    eventBus = bus;
+                }
+            }
+        }
+        bus.register(object);
+    }
+
+    /**
+     * Passes each change of this entry to the given relay. Adding the same relay again has no effect.
+     * Used by {@link BibDatabase} to relay the changes of its entries without an event bus per entry.
+     */
+    public synchronized void addChangeRelay(Consumer<FieldChangedEvent> relay) {
+        if (changeRelays.contains(relay)) {
+            return;
+        }
+        List<Consumer<FieldChangedEvent>> relays = new ArrayList<>(changeRelays);
+        relays.add(relay);
+        changeRelays = List.copyOf(relays);
     }
 
     public void unregisterListener(Object object) {
+        EventBus bus = eventBus;
+        if (bus == null) {
+            LOGGER.debug("Problem unregistering: no listener registered at entry {}", id);
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            bus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
@@ -981,7 +1072,8 @@ public class BibEntry implements Cloneable {
      * A copy is made of the parameter
      */
     public BibEntry withFields(Map<Field, String> content) {
-        this.fields = FXCollections.observableMap(new HashMap<>(content));
+        this.fields = new HashMap<>(content);
+        this.fieldsObservable = null;
         this.setChanged(false);
         return this;
     }
@@ -1021,6 +1113,7 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
+        Map<Field, Set<String>> fieldsAsWords = getFieldsAsWords();
         Set<String> storedList = fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
@@ -1037,6 +1130,7 @@ public class BibEntry implements Cloneable {
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
+        MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = getFieldsAsKeywords();
         if (field instanceof StandardField standardField) {
             Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
             if (storedList.isPresent()) {
@@ -1059,14 +1153,70 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
+        Map<Field, String> latexFreeFields = this.latexFreeFields;
+        if (latexFreeFields != null) {
+            latexFreeFields.remove(field);
+        }
+        Map<Field, Set<String>> fieldsAsWords = this.fieldsAsWords;
+        if (fieldsAsWords != null) {
+            fieldsAsWords.remove(field);
+        }
 
-        if (field instanceof StandardField standardField) {
+        MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = this.fieldsAsKeywords;
+        if ((fieldsAsKeywords != null) && (field instanceof StandardField standardField)) {
             fieldsAsKeywords.remove(standardField);
         }
     }
 
+    /*
+     * The caches are created on first use. If two threads create a cache concurrently, one of the caches is lost, which only causes a recomputation.
+     */
+
+    private Map<Field, String> getLatexFreeFields() {
+        Map<Field, String> cache = latexFreeFields;
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>();
+            latexFreeFields = cache;
+        }
+        return cache;
+    }
+
+    private Map<Field, Set<String>> getFieldsAsWords() {
+        Map<Field, Set<String>> cache = fieldsAsWords;
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>();
+            fieldsAsWords = cache;
+        }
+        return cache;
+    }
+
+    private MultiKeyMap<StandardField, Character, KeywordList> getFieldsAsKeywords() {
+        MultiKeyMap<StandardField, Character, KeywordList> cache = fieldsAsKeywords;
+        if (cache == null) {
+            cache = new MultiKeyMap<>(StandardField.class);
+            fieldsAsKeywords = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the map to modify the fields. As soon as the fields are observed, modifications are routed through the observable map to notify the listeners.
+     */
+    private Map<Field, String> getModifiableFields() {
+        ObservableMap<Field, String> observable = fieldsObservable;
+        return observable == null ? fields : observable;
+    }
+
+    private void postEvent(FieldChangedEvent event) {
+        for (Consumer<FieldChangedEvent> relay : changeRelays) {
+            relay.accept(event);
+        }
+        EventBus bus = eventBus;
+        if (bus != null) {
+            bus.post(event);
+        }
+    }
+
     // region files
     public Optional<FieldChange> setFiles(List<LinkedFile> files) {
         Optional<String> oldValue = this.getField(StandardField.FILE);
@@ -1162,9 +1312,9 @@ public class BibEntry implements Cloneable {
 
     public OptionalBinding<String> getFieldBinding(Field field) {
         if ((field == InternalField.TYPE_HEADER) || (field == InternalField.OBSOLETE_TYPE_HEADER)) {
-            return EasyBind.wrapNullable(type).mapOpt(EntryType::getDisplayName);
+            return EasyBind.wrapNullable(typeProperty()).mapOpt(EntryType::getDisplayName);
         }
-        return EasyBind.valueAt(fields, field);
+        return EasyBind.valueAt(getFieldsObservable(), field);
     }
 
     public OptionalBinding<String> getCiteKeyBinding() {
@@ -1172,14 +1322,24 @@ public class BibEntry implements Cloneable {
     }
 
     public ObservableMap<Field, String> getFieldsObservable() {
-        return fields;
+        ObservableMap<Field, String> observable = fieldsObservable;
+        if (observable == null) {
+            synchronized (this) {
+                observable = fieldsObservable;
+                if (observable == null) {
+                    observable = FXCollections.observableMap(fields);
+                    fieldsObservable = observable;
+                }
+            }
+        }
+        return observable;
     }
 
     /**
      * Returns a list of observables that represent the data of the entry.
      */
     public Observable[] getObservables() {
-        return new Observable[] {fields, type};
+        return new Observable[] {getFieldsObservable(), typeProperty()};
     }
 
     /**
@@ -13,12 +13,13 @@ public enum LinkedFilesConstants {
      * 2. Lucene codec changes (see module-info.java Lucene section)
      * Incrementing triggers reindexing.
      */
-    VERSION("4"),
+    VERSION("5"),
     PATH("path"),
     CONTENT("content"),
     ANNOTATIONS("annotations"),
     PAGE_NUMBER("pageNumber"),
-    MODIFIED("modified");
+    MODIFIED("modified"),
+    CONTENT_HASH("contentHash");
 
     public static final Analyzer LINKED_FILES_ANALYZER = new EnglishAnalyzer();
     public static final List<String> PDF_FIELDS = List.of(CONTENT.toString(), ANNOTATIONS.toString());
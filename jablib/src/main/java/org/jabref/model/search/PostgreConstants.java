@@ -3,8 +3,22 @@ package org.jabref.model.search;
 import java.util.List;
 
 public enum PostgreConstants {
+    /**
+     * Version number of the persisted bib fields index.
+     * Increment when the table layout or the computation of the stored values changes.
+     * Incrementing triggers reindexing.
+     */
+    VERSION("1"),
     BIB_FIELDS_SCHEME("bib_fields"),
     SPLIT_TABLE_SUFFIX("_split_values"),
+    FINGERPRINT_TABLE_SUFFIX("_fingerprints"),
+    PERSISTENT_TABLE_PREFIX("lib_"),
+    LIBRARY_STATE_TABLE("library_state"),
+    TABLE_NAME("table_name"),
+    LIBRARY_FINGERPRINT("library_fingerprint"),
+    VALID("valid"),
+    LAST_OPENED("last_opened"),
+    ENTRY_FINGERPRINT("fingerprint"),
     ENTRY_ID("entryid"),
     FIELD_NAME("field_name"),
     FIELD_VALUE_LITERAL("field_value_literal"), // contains the value as-is
@@ -71,6 +85,18 @@ public enum PostgreConstants {
         return BIB_FIELDS_SCHEME + ".\"" + mainTable + SPLIT_TABLE_SUFFIX + "\"";
     }
 
+    /**
+     * Generates the schema reference for the fingerprint table, which stores a fingerprint of each indexed entry.
+     * It is used to re-use a persisted index of a library after a restart.
+     */
+    public static String getFingerprintTableSchemaReference(String mainTable) {
+        return BIB_FIELDS_SCHEME + ".\"" + mainTable + FINGERPRINT_TABLE_SUFFIX + "\"";
+    }
+
+    public static String getLibraryStateTableSchemaReference() {
+        return BIB_FIELDS_SCHEME + ".\"" + LIBRARY_STATE_TABLE + "\"";
+    }
+
     @Override
     public String toString() {
         return value;
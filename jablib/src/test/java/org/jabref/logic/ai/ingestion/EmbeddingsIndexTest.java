@@ -0,0 +1,122 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmbeddingsIndexTest {
+
+    private static final int DIMENSION = 16;
+
+    @Test
+    void searchReturnsMostSimilarFirst() {
+        EmbeddingsIndex index = new EmbeddingsIndex(new MVStore.Builder().open());
+        index.add("x", "a.pdf", new float[] {1, 0});
+        index.add("y", "a.pdf", new float[] {0, 2});
+        index.add("xy", "b.pdf", new float[] {1, 1});
+
+        assertEquals(List.of("x", "xy"), getIds(index.search(new float[] {3, 1}, 2, -1, null)));
+    }
+
+    @Test
+    void searchAppliesFileFilterAndMinimumSimilarity() {
+        EmbeddingsIndex index = new EmbeddingsIndex(new MVStore.Builder().open());
+        index.add("x", "a.pdf", new float[] {1, 0});
+        index.add("y", "a.pdf", new float[] {0, 2});
+        index.add("xy", "b.pdf", new float[] {1, 1});
+
+        assertEquals(List.of("x"), getIds(index.search(new float[] {3, 1}, 10, 0.5, "a.pdf"::equals)));
+    }
+
+    @Test
+    void removedEmbeddingIsNotFound() {
+        EmbeddingsIndex index = new EmbeddingsIndex(new MVStore.Builder().open());
+        index.add("x", "a.pdf", new float[] {1, 0});
+        index.add("y", "a.pdf", new float[] {0, 2});
+        index.remove("x");
+
+        assertEquals(List.of("y"), getIds(index.search(new float[] {1, 0}, 10, -1, null)));
+    }
+
+    @Test
+    void clusteredSearchFindsMostOfExactResults() {
+        EmbeddingsIndex index = new EmbeddingsIndex(new MVStore.Builder().open(), 100);
+        Random random = new Random(42);
+        addClusteredEmbeddings(index, random, 2000);
+
+        int found = 0;
+        int expected = 0;
+        for (int i = 0; i < 50; i++) {
+            float[] query = randomVector(random);
+            Set<String> exact = new HashSet<>(getIds(index.searchExactly(query, 10, -1, null)));
+            expected += exact.size();
+            found += (int) getIds(index.search(query, 10, -1, null)).stream().filter(exact::contains).count();
+        }
+
+        assertTrue(index.isClustered());
+        assertTrue(found >= 0.9 * expected, "Recall " + ((double) found / expected));
+    }
+
+    @Test
+    void clusteredSearchWithRestrictiveFileFilterFindsAllMatches() {
+        EmbeddingsIndex index = new EmbeddingsIndex(new MVStore.Builder().open(), 100);
+        Random random = new Random(42);
+        addClusteredEmbeddings(index, random, 1000);
+        index.add("rare1", "rare.pdf", randomVector(random));
+        index.add("rare2", "rare.pdf", randomVector(random));
+
+        assertEquals(Set.of("rare1", "rare2"), new HashSet<>(getIds(index.search(randomVector(random), 5, -1, "rare.pdf"::equals))));
+    }
+
+    @Test
+    void clusteringIsPersisted(@TempDir Path tempDir) {
+        Path file = tempDir.resolve("embeddings.mv");
+        Random random = new Random(42);
+        try (MVStore mvStore = MVStore.open(file.toString())) {
+            EmbeddingsIndex index = new EmbeddingsIndex(mvStore, 100);
+            addClusteredEmbeddings(index, random, 500);
+            index.search(randomVector(random), 1, -1, null);
+            mvStore.commit();
+        }
+
+        try (MVStore mvStore = MVStore.open(file.toString())) {
+            assertTrue(new EmbeddingsIndex(mvStore, 100).isClustered());
+        }
+    }
+
+    private static void addClusteredEmbeddings(EmbeddingsIndex index, Random random, int count) {
+        float[][] centers = new float[20][];
+        for (int i = 0; i < centers.length; i++) {
+            centers[i] = randomVector(random);
+        }
+        for (int i = 0; i < count; i++) {
+            float[] center = centers[random.nextInt(centers.length)];
+            float[] vector = new float[DIMENSION];
+            for (int d = 0; d < DIMENSION; d++) {
+                vector[d] = center[d] + (float) (0.3 * random.nextGaussian());
+            }
+            index.add("id" + i, "file" + (i % 10) + ".pdf", vector);
+        }
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int d = 0; d < DIMENSION; d++) {
+            vector[d] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static List<String> getIds(List<EmbeddingsIndex.SearchHit> hits) {
+        return hits.stream().map(EmbeddingsIndex.SearchHit::id).toList();
+    }
+}
@@ -1,6 +1,7 @@
 package org.jabref.logic.citationstyle;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jabref.logic.l10n.Localization;
@@ -117,6 +118,25 @@ class CitationStyleGeneratorTest {
         assertEquals(expected, citation);
     }
 
+    @Test
+    void bibliographiesMatchSeparateBibliographies() {
+        List<BibEntry> entries = IntStream.range(0, 40)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                  .withCitationKey("key" + i)
+                                                  .withField(StandardField.AUTHOR, "Author" + i + ", Firstname")
+                                                  .withField(StandardField.TITLE, "Title " + i)
+                                                  .withField(StandardField.YEAR, "2020"))
+                                          .toList();
+        BibDatabaseContext context = new BibDatabaseContext(new BibDatabase(entries));
+        context.setMode(BibDatabaseMode.BIBLATEX);
+
+        List<String> expected = entries.stream()
+                                       .map(entry -> CitationStyleGenerator.generateBibliography(List.of(entry), DEFAULT_STYLE, TEXT_OUTPUT_FORMAT, context, ENTRY_TYPES_MANAGER).getFirst())
+                                       .toList();
+
+        assertEquals(expected, CitationStyleGenerator.generateBibliographies(entries, DEFAULT_STYLE, TEXT_OUTPUT_FORMAT, context, ENTRY_TYPES_MANAGER));
+    }
+
     /**
      * Fails due to citeproc-java ({@link CitationStyleGenerator#generateCitation(List, String, CitationStyleOutputFormat, BibDatabaseContext, BibEntryTypesManager) generateCitation}) returning an empty citation.
      * Alphanumeric citations are thus, currently manually generated by formatting (see {@link org.jabref.logic.openoffice.oocsltext.CSLFormatUtils#generateAlphanumericCitation(List, BibDatabaseContext) generateAlphaNumericCitation}).
@@ -0,0 +1,119 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateFinderTest {
+
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+    private final DuplicateFinder duplicateFinder = new DuplicateFinder(entryTypesManager);
+
+    private final BibEntry article = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Single Author")
+            .withField(StandardField.TITLE, "A serious paper about something")
+            .withField(StandardField.YEAR, "2017");
+    private final BibEntry unrelatedArticle = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Completely Different")
+            .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+            .withField(StandardField.YEAR, "1992");
+
+    @Test
+    void findsEntriesWithSameDoi() {
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Some title")
+                .withField(StandardField.DOI, "10.1234/example");
+        BibEntry second = new BibEntry(StandardEntryType.InProceedings)
+                .withField(StandardField.TITLE, "Completely different title")
+                .withField(StandardField.DOI, "10.1234/example");
+
+        assertEquals(List.of(new DuplicateFinder.DuplicatePair(first, second)),
+                duplicateFinder.findDuplicates(List.of(first, unrelatedArticle, second), BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void findsEntriesWithDoiDifferingInCaseAndUrlPrefix() {
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Some title")
+                .withField(StandardField.DOI, "10.1234/Example");
+        BibEntry second = new BibEntry(StandardEntryType.InProceedings)
+                .withField(StandardField.TITLE, "Completely different title")
+                .withField(StandardField.DOI, "https://doi.org/10.1234/example");
+
+        assertEquals(List.of(new DuplicateFinder.DuplicatePair(first, second)),
+                duplicateFinder.findDuplicates(List.of(first, unrelatedArticle, second), BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void cancelledSearchReturnsNoDuplicates() {
+        assertEquals(List.of(), duplicateFinder.findDuplicates(List.of(article, (BibEntry) article.clone()), BibDatabaseMode.BIBTEX, () -> true));
+    }
+
+    @Test
+    void findsEntriesWithSimilarTitle() {
+        BibEntry similarArticle = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something else")
+                .withField(StandardField.YEAR, "2017");
+
+        assertEquals(List.of(new DuplicateFinder.DuplicatePair(article, similarArticle)),
+                duplicateFinder.findDuplicates(List.of(article, unrelatedArticle, similarArticle), BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void doesNotFindUnrelatedEntries() {
+        assertEquals(List.of(), duplicateFinder.findDuplicates(List.of(article, unrelatedArticle), BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void pairsAreOrderedByPositionOfEntries() {
+        BibEntry copyOfUnrelatedArticle = (BibEntry) unrelatedArticle.clone();
+        BibEntry copyOfArticle = (BibEntry) article.clone();
+
+        assertEquals(List.of(
+                        new DuplicateFinder.DuplicatePair(article, copyOfArticle),
+                        new DuplicateFinder.DuplicatePair(unrelatedArticle, copyOfUnrelatedArticle)),
+                duplicateFinder.findDuplicates(List.of(article, unrelatedArticle, copyOfUnrelatedArticle, copyOfArticle), BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void findsSameDuplicatesAsComparingAllPairs() {
+        List<BibEntry> entries = List.of(
+                article,
+                unrelatedArticle,
+                ((BibEntry) article.clone()).withField(StandardField.PAGES, "1--10"),
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "Another Author")
+                        .withField(StandardField.TITLE, "A serious paper")
+                        .withField(StandardField.YEAR, "2017"),
+                new BibEntry(StandardEntryType.Book)
+                        .withField(StandardField.AUTHOR, "Single Author")
+                        .withField(StandardField.TITLE, "A serious paper about something")
+                        .withField(StandardField.YEAR, "2017"),
+                new BibEntry(StandardEntryType.Misc)
+                        .withField(StandardField.NOTE, "Neither title nor author"),
+                new BibEntry(StandardEntryType.Misc)
+                        .withField(StandardField.NOTE, "Neither title nor author"));
+
+        DuplicateCheck duplicateCheck = new DuplicateCheck(entryTypesManager);
+        List<DuplicateFinder.DuplicatePair> expected = new ArrayList<>();
+        for (int i = 0; i < (entries.size() - 1); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (duplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    expected.add(new DuplicateFinder.DuplicatePair(entries.get(i), entries.get(j)));
+                }
+            }
+        }
+
+        assertEquals(expected, duplicateFinder.findDuplicates(entries, BibDatabaseMode.BIBTEX));
+    }
+}
@@ -12,6 +12,7 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.citationkeypattern.AbstractCitationKeyPatterns;
@@ -57,6 +58,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -1091,4 +1093,117 @@ class BibtexDatabaseWriterTest {
         // returns tu original entry, not to the last saved one
         assertEquals(bibtexEntry, stringWriter.toString());
     }
+
+    @Test
+    void saveReturnsToLastSavedEntryWhenEntryIsFlaggedUnchangedAfterSave() throws IOException {
+        // @formatter:off
+        String bibtexEntry = "@Article{test," + OS.NEWLINE +
+                "  Author                   = {Foo Bar}," + OS.NEWLINE +
+                "  Journal                  = {International Journal of Something}," + OS.NEWLINE +
+                "  Note                     = {some note}," + OS.NEWLINE +
+                "  Number                   = {1}," + OS.NEWLINE +
+                "}" + OS.NEWLINE;
+        // @formatter:on
+
+        // read in bibtex string
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        ParserResult firstParse = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor()).parse(Reader.of(bibtexEntry));
+        Collection<BibEntry> entries = firstParse.getDatabase().getEntries();
+        BibEntry entry = entries.iterator().next();
+
+        // modify entry
+        entry.setField(StandardField.AUTHOR, "BlaBla");
+
+        BibDatabaseContext context = new BibDatabaseContext(firstParse.getDatabase(), firstParse.getMetaData());
+
+        databaseWriter.savePartOfDatabase(context, firstParse.getDatabase().getEntries());
+        String savedEntry = stringWriter.toString();
+
+        entry.setChanged(false);
+
+        // write a second time
+        stringWriter = new StringWriter();
+        bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
+        databaseWriter = new BibtexDatabaseWriter(
+                bibWriter,
+                saveConfiguration,
+                fieldPreferences,
+                citationKeyPatternPreferences,
+                entryTypesManager);
+        databaseWriter.savePartOfDatabase(context, firstParse.getDatabase().getEntries());
+
+        // returns to the last saved entry, not to the original one
+        assertEquals(savedEntry, stringWriter.toString());
+    }
+
+    @Test
+    void saveActionsAreAppliedAgainToEntryChangedAfterSave() throws IOException {
+        metaData.setSaveActions(new FieldFormatterCleanups(true, List.of(new FieldFormatterCleanup(StandardField.TITLE, new LowerCaseFormatter()))));
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "First Title");
+        database.insertEntry(entry);
+        databaseWriter.saveDatabase(bibtexContext);
+
+        entry.setField(StandardField.TITLE, "Second Title");
+        initializeDatabaseWriter();
+        databaseWriter.saveDatabase(bibtexContext);
+
+        assertEquals(Optional.of("second title"), entry.getTitle());
+    }
+
+    @Test
+    void changedSaveActionsAreAppliedToAllEntries() throws IOException {
+        metaData.setSaveActions(new FieldFormatterCleanups(true, List.of(new FieldFormatterCleanup(StandardField.TITLE, new LowerCaseFormatter()))));
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Some Title");
+        database.insertEntry(entry);
+        databaseWriter.saveDatabase(bibtexContext);
+
+        metaData.setSaveActions(new FieldFormatterCleanups(true, List.of(new FieldFormatterCleanup(StandardField.TITLE, new UpperCaseFormatter()))));
+        initializeDatabaseWriter();
+        databaseWriter.saveDatabase(bibtexContext);
+
+        assertEquals(Optional.of("SOME TITLE"), entry.getTitle());
+    }
+
+    @Test
+    void secondSaveWritesSameOutput() throws IOException {
+        metaData.setSaveActions(new FieldFormatterCleanups(true, List.of(new FieldFormatterCleanup(StandardField.TITLE, new LowerCaseFormatter()))));
+        database.insertEntry(new BibEntry(StandardEntryType.Article).withCitationKey("first").withField(StandardField.TITLE, "Some Title"));
+        database.insertEntry(new BibEntry(StandardEntryType.Book).withCitationKey("second").withField(StandardField.TITLE, "Other Title"));
+        databaseWriter.saveDatabase(bibtexContext);
+        String firstOutput = stringWriter.toString();
+
+        stringWriter = new StringWriter();
+        bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
+        initializeDatabaseWriter();
+        databaseWriter.saveDatabase(bibtexContext);
+
+        assertEquals(firstOutput, stringWriter.toString());
+    }
+
+    @Test
+    void savedEntryIsNotSerializedAgainUntilChanged() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Mr. author")
+                .withChanged(true);
+        database.insertEntry(entry);
+        databaseWriter.savePartOfDatabase(bibtexContext, List.of(entry));
+        String firstOutput = stringWriter.toString();
+
+        assertFalse(entry.hasChanged());
+
+        stringWriter = new StringWriter();
+        bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
+        initializeDatabaseWriter();
+        databaseWriter.savePartOfDatabase(bibtexContext, List.of(entry));
+
+        assertEquals(firstOutput, stringWriter.toString());
+
+        entry.setField(StandardField.AUTHOR, "Ms. author");
+        stringWriter = new StringWriter();
+        bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
+        initializeDatabaseWriter();
+        databaseWriter.savePartOfDatabase(bibtexContext, List.of(entry));
+
+        assertEquals(firstOutput.replace("Mr. author", "Ms. author"), stringWriter.toString());
+    }
 }
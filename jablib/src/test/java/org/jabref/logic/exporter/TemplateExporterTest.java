@@ -0,0 +1,92 @@
+package org.jabref.logic.exporter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.metadata.SelfContainedSaveOrder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class TemplateExporterTest {
+
+    private static final SelfContainedSaveOrder TITLE_SAVE_ORDER = new SelfContainedSaveOrder(SaveOrder.OrderType.SPECIFIED, List.of(new SaveOrder.SortCriterion(StandardField.TITLE, false)));
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void entriesRenderedInParallelKeepOrderAndNumbers() throws Exception {
+        List<BibEntry> entries = IntStream.range(0, 1000)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Title %04d".formatted(i)))
+                                          .toList();
+        List<String> expected = IntStream.range(0, 1000)
+                                         .mapToObj(i -> "%d Title %04d".formatted(i + 1, i))
+                                         .toList();
+
+        Path file = export("\\format[Number]{\\title} \\title\n", entries);
+
+        assertEquals(expected, Files.readAllLines(file));
+    }
+
+    @Test
+    void sharedFormatterEscapesEveryEntryRenderedInParallel() throws Exception {
+        List<BibEntry> entries = IntStream.range(0, 1000)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Title, a-b %04d".formatted(i)))
+                                          .toList();
+        List<String> expected = IntStream.range(0, 1000)
+                                         .mapToObj("Title&#44; a&#45;b %04d"::formatted)
+                                         .toList();
+
+        Path file = export("\\format[XMLChars]{\\title}\n", entries);
+
+        assertEquals(expected, Files.readAllLines(file));
+    }
+
+    @Test
+    void groupIsOnlyOutputForFirstEntryOfGroup() throws Exception {
+        List<BibEntry> entries = IntStream.range(0, 300)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                  .withField(StandardField.TITLE, "Title %03d".formatted(i))
+                                                  .withField(StandardField.YEAR, i < 150 ? "2020" : "2021"))
+                                          .toList();
+
+        Path file = export("\\begingroup{year}\\year\n\\endgroup{year}\\title\n", entries);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(302, lines.size());
+        assertEquals(List.of("2020", "Title 000"), lines.subList(0, 2));
+        assertEquals(List.of("Title 149", "2021", "Title 150"), lines.subList(150, 153));
+    }
+
+    private Path export(String layout, List<BibEntry> entries) throws Exception {
+        Path layoutFile = tempDir.resolve("test.layout");
+        Files.writeString(layoutFile, layout);
+        TemplateExporter exporter = new TemplateExporter(
+                "Test",
+                "test",
+                layoutFile.toString(),
+                null,
+                StandardFileType.TXT,
+                mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                TITLE_SAVE_ORDER);
+        exporter.setCustomExport(true);
+
+        Path file = tempDir.resolve("export.txt");
+        exporter.export(new BibDatabaseContext(), file, entries);
+        return file;
+    }
+}
@@ -0,0 +1,141 @@
+package org.jabref.logic.groups;
+
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.AllEntriesGroup;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.WordKeywordGroup;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.search.matchers.SearchMatcher;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipIndexTest {
+
+    private BibDatabase database;
+    private BibDatabaseContext databaseContext;
+    private GroupTreeNode root;
+    private BibEntry first;
+    private BibEntry second;
+
+    @BeforeEach
+    void setUp() {
+        first = new BibEntry().withField(StandardField.KEYWORDS, "java, search");
+        second = new BibEntry().withField(StandardField.KEYWORDS, "python");
+        database = new BibDatabase(List.of(first, second));
+        root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        MetaData metaData = new MetaData();
+        metaData.setGroups(root);
+        databaseContext = new BibDatabaseContext(database, metaData);
+    }
+
+    @Test
+    void getMatchesReturnsMembers() {
+        GroupTreeNode java = root.addSubgroup(keywordGroup("java", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(List.of(first), GroupMembershipIndex.of(databaseContext).getMatches(java));
+    }
+
+    @Test
+    void changedEntryIsUpdated() {
+        GroupTreeNode java = root.addSubgroup(keywordGroup("java", GroupHierarchyType.INDEPENDENT));
+        GroupMembershipIndex.of(databaseContext).getMatches(java);
+
+        second.setField(StandardField.KEYWORDS, "python, java");
+        first.clearField(StandardField.KEYWORDS);
+
+        assertEquals(List.of(second), GroupMembershipIndex.of(databaseContext).getMatches(java));
+    }
+
+    @Test
+    void addedAndRemovedEntriesAreUpdated() {
+        GroupTreeNode java = root.addSubgroup(keywordGroup("java", GroupHierarchyType.INDEPENDENT));
+        GroupMembershipIndex.of(databaseContext).getMatches(java);
+
+        BibEntry third = new BibEntry().withField(StandardField.KEYWORDS, "java");
+        database.insertEntry(third);
+        database.removeEntry(first);
+
+        assertEquals(List.of(third), GroupMembershipIndex.of(databaseContext).getMatches(java));
+    }
+
+    @Test
+    void getMatchesKeepsOrderOfLibraryWhenSlotIsReused() {
+        GroupTreeNode java = root.addSubgroup(keywordGroup("java", GroupHierarchyType.INDEPENDENT));
+        GroupMembershipIndex.of(databaseContext).getMatches(java);
+
+        database.removeEntry(first);
+        BibEntry third = new BibEntry().withField(StandardField.KEYWORDS, "java");
+        database.insertEntry(third);
+        second.setField(StandardField.KEYWORDS, "java");
+
+        assertEquals(List.of(second, third), GroupMembershipIndex.of(databaseContext).getMatches(java));
+    }
+
+    @Test
+    void matcherFollowsChangedEntries() {
+        GroupTreeNode java = root.addSubgroup(keywordGroup("java", GroupHierarchyType.INDEPENDENT));
+        SearchMatcher matcher = GroupMembershipIndex.of(databaseContext).getMatcher(java);
+
+        assertTrue(matcher.isMatch(first));
+        assertFalse(matcher.isMatch(second));
+
+        first.setField(StandardField.KEYWORDS, "search");
+
+        assertFalse(matcher.isMatch(first));
+    }
+
+    @Test
+    void getMatchingIdsReturnsIdsOfMembers() {
+        GroupTreeNode java = root.addSubgroup(keywordGroup("java", GroupHierarchyType.INDEPENDENT));
+        GroupMembershipIndex index = GroupMembershipIndex.of(databaseContext);
+        index.getMatchingIds(java);
+
+        second.setField(StandardField.KEYWORDS, "java");
+
+        assertEquals(List.of(first.getId(), second.getId()), index.getMatchingIds(java));
+    }
+
+    @Test
+    void matcherOfRemovedGroupFollowsChangedEntries() {
+        GroupTreeNode java = root.addSubgroup(keywordGroup("java", GroupHierarchyType.INDEPENDENT));
+        SearchMatcher matcher = GroupMembershipIndex.of(databaseContext).getMatcher(java);
+
+        java.removeFromParent();
+        first.setField(StandardField.KEYWORDS, "search");
+        second.setField(StandardField.KEYWORDS, "java");
+
+        assertFalse(matcher.isMatch(first));
+        assertTrue(matcher.isMatch(second));
+    }
+
+    @Test
+    void refiningAndIncludingGroupsMatchLikeGroupTree() {
+        GroupTreeNode java = root.addSubgroup(keywordGroup("java", GroupHierarchyType.INDEPENDENT));
+        GroupTreeNode search = java.addSubgroup(keywordGroup("search", GroupHierarchyType.REFINING));
+        GroupTreeNode including = root.addSubgroup(keywordGroup("none", GroupHierarchyType.INCLUDING));
+        including.addSubgroup(keywordGroup("python", GroupHierarchyType.INDEPENDENT));
+        second.setField(StandardField.KEYWORDS, "search, python");
+
+        GroupMembershipIndex index = GroupMembershipIndex.of(databaseContext);
+
+        assertEquals(search.findMatches(database), index.getMatches(search));
+        assertEquals(List.of(first), index.getMatches(search));
+        assertEquals(including.findMatches(database), index.getMatches(including));
+        assertEquals(List.of(second), index.getMatches(including));
+    }
+
+    private static WordKeywordGroup keywordGroup(String keyword, GroupHierarchyType context) {
+        return new WordKeywordGroup(keyword, context, StandardField.KEYWORDS, keyword, false, ',', false);
+    }
+}
@@ -3,6 +3,8 @@ package org.jabref.logic.importer.fileformat;
 import java.io.IOException;
 import java.io.Reader;
 import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -65,6 +67,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -339,6 +342,69 @@ class BibtexParserTest {
         assertEquals(secondEntry, parsedEntries.get(1).getParsedSerialization());
     }
 
+    @Test
+    void parseSetsParsedSerializationForInputLargerThanInitialBuffer() throws IOException {
+        StringBuilder bibtex = new StringBuilder();
+        List<String> serializations = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String entry = "@article{key" + i + "," + OS.NEWLINE
+                    + "  title = {A rather long title to fill the buffer " + i + "}," + OS.NEWLINE
+                    + "}" + OS.NEWLINE;
+            serializations.add(entry);
+            bibtex.append(entry);
+        }
+
+        List<BibEntry> parsedEntries = parser.parse(Reader.of(bibtex.toString())).getDatabase().getEntries();
+
+        assertEquals(serializations, parsedEntries.stream().map(BibEntry::getParsedSerialization).toList());
+    }
+
+    @Test
+    void parseRecognizesCorruptedKeyAndContinuesWithNextEntry() throws IOException {
+        ParserResult result = parser.parse(Reader.of("@article{corrupted key   title = {Title}}" + OS.NEWLINE + "@article{next, title = {Next}}"));
+
+        assertEquals(Optional.of("next"), result.getDatabase().getEntries().getLast().getCitationKey());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"complex.bib", "testjabref.bib", "bibWithUserComments.bib", "bibWithMixedContent.bib", "crossref.bib", "jabref-authors.bib", "unknownMetaData.bib"})
+    void parseInParallelReturnsSameResultAsParse(String fileName) throws IOException {
+        String bibtex = Files.readString(Path.of("src/test/resources/testbib", fileName), StandardCharsets.UTF_8);
+
+        assertSameResultWhenParsingInParallel(bibtex);
+    }
+
+    @Test
+    void parseInParallelReturnsSameResultAsParseForMalformedEntries() throws IOException {
+        StringBuilder bibtex = new StringBuilder("@string{journal = {Journal}}" + OS.NEWLINE);
+        for (int i = 0; i < 100; i++) {
+            bibtex.append("@article{key").append(i).append(", journal = journal, title = {Title ").append(i).append('}');
+            // entries with unbalanced braces swallow the following entries
+            bibtex.append(i % 30 == 0 ? "" : "}").append(OS.NEWLINE).append(OS.NEWLINE);
+        }
+        bibtex.append("epilog");
+
+        assertSameResultWhenParsingInParallel(bibtex.toString());
+    }
+
+    private void assertSameResultWhenParsingInParallel(String bibtex) throws IOException {
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(Reader.of(bibtex));
+        // A minimal chunk size ensures that the input is split into multiple chunks
+        ParserResult actual = new BibtexParser(importFormatPreferences).parseInParallel(Reader.of(bibtex), 1);
+
+        BibDatabase expectedDatabase = expected.getDatabase();
+        BibDatabase actualDatabase = actual.getDatabase();
+        assertEquals(expectedDatabase.getEntries(), actualDatabase.getEntries());
+        assertEquals(expectedDatabase.getEntries().stream().map(BibEntry::getParsedSerialization).toList(),
+                actualDatabase.getEntries().stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(Set.copyOf(expectedDatabase.getStringValues()), Set.copyOf(actualDatabase.getStringValues()));
+        assertEquals(expectedDatabase.getPreamble(), actualDatabase.getPreamble());
+        assertEquals(expectedDatabase.getEpilog(), actualDatabase.getEpilog());
+        assertEquals(expected.warnings(), actual.warnings());
+        assertEquals(expected.getMetaData(), actual.getMetaData());
+        assertEquals(expected.getEntryTypes(), actual.getEntryTypes());
+    }
+
     @Test
     void parseRecognizesMultipleEntriesOnSameLine() throws IOException {
         ParserResult result = parser
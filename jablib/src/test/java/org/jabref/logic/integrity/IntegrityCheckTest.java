@@ -146,6 +146,46 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void checkReportsMessagesInOrderOfEntries() {
+        BibDatabase bibDatabase = new BibDatabase();
+        for (int i = 0; i < 100; i++) {
+            bibDatabase.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.TITLE, "title with &amp; " + i)
+                    .withField(StandardField.YEAR, "year " + i));
+        }
+        IntegrityCheck integrityCheck = new IntegrityCheck(new BibDatabaseContext(bibDatabase),
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+
+        List<IntegrityMessage> expected = bibDatabase.getEntries().stream()
+                                                     .flatMap(entry -> integrityCheck.checkEntry(entry).stream())
+                                                     .toList();
+
+        assertEquals(expected, integrityCheck.check());
+    }
+
+    @Test
+    void checkRecordsStatisticsOfCheckers() {
+        IntegrityCheck integrityCheck = new IntegrityCheck(createContext(StandardField.YEAR, "year"),
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+
+        integrityCheck.check();
+
+        IntegrityCheck.CheckerStatistics yearChecker = integrityCheck.getCheckerStatistics().stream()
+                                                                     .filter(statistics -> "YearChecker (year)".equals(statistics.checker()))
+                                                                     .findFirst()
+                                                                     .orElseThrow();
+        assertEquals(1, yearChecker.runs());
+        assertEquals(1, yearChecker.messages());
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
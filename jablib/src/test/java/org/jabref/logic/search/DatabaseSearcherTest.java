@@ -71,6 +71,16 @@ public class DatabaseSearcherTest {
         assertEquals(expectedMatches, matches);
     }
 
+    @ParameterizedTest
+    @MethodSource("databaseSearcher")
+    void inMemoryDatabaseSearcher(List<BibEntry> expectedMatches, SearchQuery query, List<BibEntry> entries) throws IOException {
+        for (BibEntry entry : entries) {
+            databaseContext.getDatabase().insertEntry(entry);
+        }
+        List<BibEntry> matches = new DatabaseSearcher(query, databaseContext, TASK_EXECUTOR, preferences, postgreServer, SearchBackend.IN_MEMORY).getMatches();
+        assertEquals(expectedMatches, matches);
+    }
+
     private static Stream<Arguments> databaseSearcher() {
         BibEntry emptyEntry = new BibEntry();
 
@@ -0,0 +1,83 @@
+package org.jabref.logic.search;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.PostgreConstants;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostgreServerTest {
+
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    private PostgreServer postgreServer;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        postgreServer = new PostgreServer(tempDir.resolve("index"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postgreServer.shutdown();
+    }
+
+    @Test
+    void indexOfLibraryNotOpenedRecentlyIsRemoved() throws SQLException {
+        String unusedTable = indexLibrary("unused.bib");
+        String usedTable = indexLibrary("used.bib");
+        try (Connection connection = postgreServer.getConnection()) {
+            connection.createStatement().executeUpdate("""
+                    UPDATE %s SET "%s" = CURRENT_TIMESTAMP - INTERVAL '60 days' WHERE "%s" = '%s'
+                    """.formatted(PostgreConstants.getLibraryStateTableSchemaReference(), PostgreConstants.LAST_OPENED, PostgreConstants.TABLE_NAME, unusedTable));
+        }
+
+        postgreServer.removeUnusedIndexes(Duration.ofDays(30));
+
+        assertFalse(tableExists(unusedTable));
+        assertFalse(tableExists(unusedTable + PostgreConstants.SPLIT_TABLE_SUFFIX));
+        assertFalse(tableExists(unusedTable + PostgreConstants.FINGERPRINT_TABLE_SUFFIX));
+        assertTrue(tableExists(usedTable));
+    }
+
+    private String indexLibrary(String fileName) {
+        BibDatabaseContext databaseContext = new BibDatabaseContext();
+        databaseContext.setDatabasePath(tempDir.resolve(fileName));
+        databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.TITLE, "Title"));
+        BibFieldsIndexer indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer);
+        indexer.updateOnStart(BackgroundTask.wrap(() -> { }));
+        indexer.closeAndWait();
+        return indexer.getTable();
+    }
+
+    private boolean tableExists(String table) throws SQLException {
+        try (Connection connection = postgreServer.getConnection();
+             ResultSet resultSet = connection.createStatement().executeQuery("""
+                     SELECT to_regclass('%s') IS NOT NULL
+                     """.formatted(PostgreConstants.getMainTableSchemaReference(table)))) {
+            resultSet.next();
+            return resultSet.getBoolean(1);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.jabref.logic.search.indexing;
+
+import java.nio.file.Path;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class IndexFingerprintsTest {
+
+    private final BibDatabase database = new BibDatabase();
+
+    @Test
+    void entryFingerprintIgnoresEntryId() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Title");
+        BibEntry copy = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Title");
+
+        assertEquals(IndexFingerprints.ofEntry(entry, database), IndexFingerprints.ofEntry(copy, database));
+    }
+
+    @Test
+    void entryFingerprintIgnoresFieldOrder() {
+        BibEntry entry = new BibEntry()
+                .withField(StandardField.TITLE, "Title")
+                .withField(StandardField.AUTHOR, "Author");
+        BibEntry reordered = new BibEntry()
+                .withField(StandardField.AUTHOR, "Author")
+                .withField(StandardField.TITLE, "Title");
+
+        assertEquals(IndexFingerprints.ofEntry(entry, database), IndexFingerprints.ofEntry(reordered, database));
+    }
+
+    @Test
+    void entryFingerprintChangesWithFieldValue() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Title");
+        BibEntry changed = new BibEntry().withField(StandardField.TITLE, "Other title");
+
+        assertNotEquals(IndexFingerprints.ofEntry(entry, database), IndexFingerprints.ofEntry(changed, database));
+    }
+
+    @Test
+    void entryFingerprintChangesWithEntryType() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Title");
+        BibEntry changed = new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "Title");
+
+        assertNotEquals(IndexFingerprints.ofEntry(entry, database), IndexFingerprints.ofEntry(changed, database));
+    }
+
+    @Test
+    void entryFingerprintChangesWithCrossReferencedEntry() {
+        BibEntry parent = new BibEntry().withCitationKey("parent").withField(StandardField.BOOKTITLE, "Book");
+        BibEntry child = new BibEntry().withField(StandardField.CROSSREF, "parent");
+        database.insertEntries(parent, child);
+        String fingerprint = IndexFingerprints.ofEntry(child, database);
+
+        parent.setField(StandardField.BOOKTITLE, "Other book");
+
+        assertNotEquals(fingerprint, IndexFingerprints.ofEntry(child, database));
+    }
+
+    @Test
+    void libraryFingerprintChangesWithStrings() {
+        String fingerprint = IndexFingerprints.ofLibrary(database, ',');
+
+        database.addString(new BibtexString("name", "content"));
+
+        assertNotEquals(fingerprint, IndexFingerprints.ofLibrary(database, ','));
+    }
+
+    @Test
+    void libraryFingerprintChangesWithKeywordSeparator() {
+        assertNotEquals(IndexFingerprints.ofLibrary(database, ','), IndexFingerprints.ofLibrary(database, ';'));
+    }
+
+    @Test
+    void tableNameIsStableForSamePath() {
+        assertEquals(IndexFingerprints.tableNameForLibrary(Path.of("library.bib")), IndexFingerprints.tableNameForLibrary(Path.of("./library.bib")));
+    }
+}
@@ -1,6 +1,7 @@
 package org.jabref.logic.search.indexing;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
@@ -14,8 +15,12 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.LinkedFilesConstants;
 
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -29,6 +34,8 @@ public class LinkedFilesIndexerTest {
     private final CliPreferences preferences = mock(CliPreferences.class);
     private final FilePreferences filePreferences = mock(FilePreferences.class);
 
+    private final BibDatabaseContext context = mock(BibDatabaseContext.class);
+
     private LuceneIndexer indexer;
 
     @BeforeEach
@@ -36,7 +43,6 @@ public class LinkedFilesIndexerTest {
         when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(true);
         when(preferences.getFilePreferences()).thenReturn(filePreferences);
 
-        BibDatabaseContext context = mock(BibDatabaseContext.class);
         when(context.getDatabasePath()).thenReturn(Optional.of(Path.of("src/test/resources/pdfs/")));
         when(context.getFileDirectories(Mockito.any())).thenReturn(List.of(Path.of("src/test/resources/pdfs")));
         when(context.getFulltextIndexPath()).thenReturn(indexDir);
@@ -176,4 +182,29 @@ public class LinkedFilesIndexerTest {
             assertEquals(0, reader.numDocs());
         }
     }
+
+    @Test
+    void movedFileIsIndexedWithItsNewLink(@TempDir Path fileDirectory) throws IOException {
+        // given
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis);
+        entry.setFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        indexer.addToIndex(List.of(entry), mock(BackgroundTask.class));
+
+        Path movedFile = Files.copy(Path.of("src/test/resources/pdfs/thesis-example.pdf"), fileDirectory.resolve("moved-thesis.pdf"));
+        entry.setFiles(List.of(new LinkedFile("Example Thesis", movedFile.toString(), StandardFileType.PDF.getName())));
+        when(context.getEntries()).thenReturn(List.of(entry));
+
+        // when
+        indexer.updateOnStart(mock(BackgroundTask.class));
+
+        // then
+        indexer.getSearcherManager().maybeRefreshBlocking();
+        IndexSearcher searcher = indexer.getSearcherManager().acquire();
+        try {
+            assertEquals(33, searcher.getIndexReader().numDocs());
+            assertEquals(33, searcher.count(new TermQuery(new Term(LinkedFilesConstants.PATH.toString(), movedFile.toString()))));
+        } finally {
+            indexer.getSearcherManager().release(searcher);
+        }
+    }
 }
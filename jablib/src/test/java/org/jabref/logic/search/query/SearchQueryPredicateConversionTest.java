@@ -0,0 +1,80 @@
+package org.jabref.logic.search.query;
+
+import java.util.EnumSet;
+import java.util.stream.Stream;
+
+import org.jabref.logic.search.indexing.BibFieldsEntryRows;
+import org.jabref.logic.search.indexing.BibFieldsRowBuilder;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.jabref.model.search.SearchFlags.CASE_SENSITIVE;
+import static org.jabref.model.search.SearchFlags.REGULAR_EXPRESSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SearchQueryPredicateConversionTest {
+
+    private static final BibEntry ENTRY = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("Smith2020")
+            .withField(StandardField.AUTHOR, "John Smith and Jane {\\\"O}sterreich")
+            .withField(StandardField.TITLE, "Quantum Computing")
+            .withField(StandardField.KEYWORDS, "physics, computing")
+            .withField(StandardField.GROUPS, "Quantum")
+            .withField(StandardField.YEAR, "2020");
+
+    private static final BibFieldsEntryRows ROWS = new BibFieldsRowBuilder(new BibDatabase(), ',').build(ENTRY);
+
+    public static Stream<Arguments> searchConversion() {
+        return Stream.of(
+                Arguments.of(true, "quantum", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(false, "quantum", EnumSet.of(CASE_SENSITIVE)),
+                Arguments.of(true, "title = quantum", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(false, "title =! quantum", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(true, "title =! Quantum", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(false, "title != quantum", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(false, "title == quantum", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(true, "title == \"quantum computing\"", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(false, "title ==! \"quantum computing\"", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(true, "title =~ \"^Quan.*ing$\"", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(true, "q.*m", EnumSet.of(REGULAR_EXPRESSION)),
+                // split values are used for exact matches
+                Arguments.of(true, "author == \"John Smith\"", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(true, "keywords == physics", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(true, "anykeyword == physics", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(false, "keywords == phys", EnumSet.noneOf(SearchFlags.class)),
+                // LaTeX free values are searched
+                Arguments.of(true, "author = Österreich", EnumSet.noneOf(SearchFlags.class)),
+                // pseudo fields
+                Arguments.of(true, "key = Smith2020", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(true, "entrytype = article", EnumSet.noneOf(SearchFlags.class)),
+                // groups are not part of any field searches
+                Arguments.of(true, "groups = quantum", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(false, "any == Quantum", EnumSet.noneOf(SearchFlags.class)),
+                // empty terms check for the presence of a field
+                Arguments.of(false, "title = \"\"", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(true, "journal = \"\"", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(true, "title != \"\"", EnumSet.noneOf(SearchFlags.class)),
+                // boolean operators
+                Arguments.of(true, "quantum AND year = 2020", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(false, "quantum AND year = 2021", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(true, "biology OR year = 2020", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(false, "NOT quantum", EnumSet.noneOf(SearchFlags.class)),
+                Arguments.of(true, "NOT (title = biology) physics", EnumSet.noneOf(SearchFlags.class))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void searchConversion(boolean expected, String searchExpression, EnumSet<SearchFlags> searchFlags) {
+        SearchQuery searchQuery = new SearchQuery(searchExpression, searchFlags);
+        assertEquals(expected, SearchQueryConversion.searchToPredicate(searchQuery).test(ROWS));
+    }
+}
@@ -182,6 +182,25 @@ class DBMSProcessorTest {
         assertThrows(OfflineLockException.class, () -> dbmsProcessor.updateEntry(bibEntry));
     }
 
+    @Test
+    void updateEntriesRefusesOnlyNewerEntries() throws SQLException {
+        BibEntry updatedEntry = getBibEntryExample();
+        BibEntry outdatedEntry = getBibEntryExample2();
+        dbmsProcessor.insertEntries(List.of(updatedEntry, outdatedEntry));
+
+        updatedEntry.setField(StandardField.AUTHOR, "Michael J and Hutchings");
+        updatedEntry.clearField(StandardField.BOOKTITLE);
+        // simulate older version
+        outdatedEntry.getSharedBibEntryData().setVersion(0);
+        outdatedEntry.setField(StandardField.YEAR, "1993");
+
+        List<OfflineLockException> refusedUpdates = dbmsProcessor.updateEntries(List.of(updatedEntry, outdatedEntry));
+
+        assertEquals(List.of(outdatedEntry), refusedUpdates.stream().map(OfflineLockException::getLocalBibEntry).toList());
+        assertEquals(Optional.of(updatedEntry), dbmsProcessor.getSharedEntry(updatedEntry.getSharedBibEntryData().getSharedID()));
+        assertEquals(Optional.of(getBibEntryExample2()), dbmsProcessor.getSharedEntry(outdatedEntry.getSharedBibEntryData().getSharedID()));
+    }
+
     @Test
     void updateEqualEntry() throws OfflineLockException, SQLException {
         BibEntry expectedBibEntry = getBibEntryExample();
@@ -1,6 +1,7 @@
 package org.jabref.logic.shared;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -109,6 +110,21 @@ class DBMSSynchronizerTest {
         assertEquals(List.of(expectedEntry), actualEntries);
     }
 
+    @Test
+    void localFieldChangesArePushedTogetherOnFlush() {
+        BibEntry expectedEntry = createExampleBibEntry(1);
+        expectedEntry.registerListener(dbmsSynchronizer);
+        bibDatabase.insertEntry(expectedEntry);
+        dbmsSynchronizer.setFlushInterval(Duration.ofDays(1));
+
+        expectedEntry.setField(StandardField.AUTHOR, "Brad L and Gilson");
+        expectedEntry.setField(StandardField.TITLE, "The micro multiplexer");
+        assertEquals(List.of(createExampleBibEntry(1)), dbmsProcessor.getSharedEntries());
+
+        dbmsSynchronizer.flushPendingEntries();
+        assertEquals(List.of(expectedEntry), dbmsProcessor.getSharedEntries());
+    }
+
     @Test
     void oneLocalAndOneSharedFieldChangeIsSynchronizedCorrectly() {
         BibEntry exampleBibEntry = createExampleBibEntry(1);
@@ -11,11 +11,13 @@ import java.util.Set;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.event.EventListenerTest;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -313,6 +315,41 @@ class BibDatabaseTest {
         assertEquals(entry, tel.getChangedEntry());
     }
 
+    @Test
+    void changeOfEntryInsertedAgainIsPostedOnce() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        database.insertEntry(entry);
+        List<BibEntry> changedEntries = new ArrayList<>();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(EntryChangedEvent event) {
+                changedEntries.add(event.getBibEntry());
+            }
+        });
+
+        entry.setField(StandardField.TITLE, "title");
+
+        assertEquals(List.of(entry), changedEntries);
+    }
+
+    @Test
+    void changeIsPostedByEveryDatabaseContainingTheEntry() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        BibDatabase otherDatabase = new BibDatabase(List.of(entry));
+        EventListenerTest tel = new EventListenerTest();
+        EventListenerTest otherTel = new EventListenerTest();
+        database.registerListener(tel);
+        otherDatabase.registerListener(otherTel);
+
+        entry.setField(StandardField.TITLE, "title");
+
+        assertEquals(entry, tel.getChangedEntry());
+        assertEquals(entry, otherTel.getChangedEntry());
+    }
+
     @Test
     void correctKeyCountOne() {
         BibEntry entry = new BibEntry();
@@ -344,6 +381,46 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void correctKeyCountAfterChangingKey() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(1, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void changingKeyOfRemovedEntryDoesNotChangeKeyCount() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyReturnsEntriesInOrderOfDatabase() {
+        BibEntry first = new BibEntry().withCitationKey("AAA");
+        BibEntry second = new BibEntry().withCitationKey("BBB");
+        BibEntry third = new BibEntry().withCitationKey("AAA");
+        database.insertEntries(first, second, third);
+
+        second.setCitationKey("AAA");
+
+        assertEquals(List.of(first, second, third), database.getEntriesByCitationKey("AAA"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("AAA"));
+    }
+
+    @Test
+    void clearingKeyRemovesEntryFromKeyLookup() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.clearCiteKey();
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+        assertEquals(List.of(), database.getEntriesByCitationKey("AAA"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
@@ -10,6 +10,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import javafx.beans.property.ObjectProperty;
+import javafx.collections.MapChangeListener;
+
 import org.jabref.logic.util.URLUtil;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
@@ -21,6 +24,7 @@ import org.jabref.model.entry.field.OrFields;
 import org.jabref.model.entry.field.SpecialField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.entry.types.StandardEntryType;
 
 import com.google.common.collect.Sets;
@@ -846,4 +850,39 @@ class BibEntryTest {
     void isNotEmpty(BibEntry entry) {
         assertFalse(entry.isEmpty());
     }
+
+    @Test
+    void fieldsObservableCreatedLaterNotifiesAboutChanges() {
+        entry.setField(StandardField.AUTHOR, "value");
+        List<Field> changedFields = new ArrayList<>();
+        entry.getFieldsObservable().addListener((MapChangeListener<Field, String>) change -> changedFields.add(change.getKey()));
+
+        entry.setField(StandardField.TITLE, "title");
+        entry.clearField(StandardField.AUTHOR);
+
+        assertEquals(List.of(StandardField.TITLE, StandardField.AUTHOR), changedFields);
+        assertEquals(Map.of(StandardField.TITLE, "title"), entry.getFieldsObservable());
+    }
+
+    @Test
+    void typePropertyCreatedLaterFollowsType() {
+        entry.setType(StandardEntryType.Article);
+        ObjectProperty<EntryType> typeProperty = entry.typeProperty();
+        assertEquals(StandardEntryType.Article, typeProperty.get());
+
+        entry.setType(StandardEntryType.Book);
+        assertEquals(StandardEntryType.Book, typeProperty.get());
+
+        typeProperty.set(StandardEntryType.InBook);
+        assertEquals(StandardEntryType.InBook, entry.getType());
+    }
+
+    @Test
+    void latexFreeFieldIsUpdatedAfterChange() {
+        entry.setField(StandardField.TITLE, "{\\\"O}sterreich");
+        assertEquals(Optional.of("Österreich"), entry.getFieldLatexFree(StandardField.TITLE));
+
+        entry.setField(StandardField.TITLE, "{\\\"U}ber");
+        assertEquals(Optional.of("Über"), entry.getFieldLatexFree(StandardField.TITLE));
+    }
 }
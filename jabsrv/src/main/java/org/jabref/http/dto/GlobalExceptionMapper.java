@@ -1,5 +1,6 @@
 package org.jabref.http.dto;
 
+import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
 import jakarta.ws.rs.ext.Provider;
@@ -13,6 +14,10 @@ public class GlobalExceptionMapper implements ExceptionMapper<Throwable> {
 
     @Override
     public Response toResponse(Throwable exception) {
+        if (exception instanceof WebApplicationException webApplicationException) {
+            // Thrown on purpose, e.g., for a bad request. The response is already determined.
+            return webApplicationException.getResponse();
+        }
         LOGGER.error("Unhandled exception on server", exception);
         return Response.serverError().entity("Internal Server Error").build();
     }
@@ -1,32 +1,56 @@
 package org.jabref.http.server;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.dto.BibEntryDTO;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
+import org.jabref.http.server.services.LibraryCache.CachedLibrary;
+import org.jabref.http.server.services.LibraryCache.PayloadSerializer;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
-import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.preferences.CliPreferences;
-import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.logic.search.query.SearchQueryConversion;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import com.airhacks.afterburner.injection.Injector;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,69 +58,189 @@ import org.slf4j.LoggerFactory;
 public class LibraryResource {
     public static final Logger LOGGER = LoggerFactory.getLogger(LibraryResource.class);
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     @Inject
     CliPreferences preferences;
 
     @Inject
     FilesToServe filesToServe;
 
+    @Inject
+    LibraryCache libraryCache;
+
     @Inject
     Gson gson;
 
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
-        List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
-                                             .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                             .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), entryTypesManager))
-                                             .toList();
-        return gson.toJson(list);
+    public Response getJson(@PathParam("id") String id, @Context Request request) {
+        return getPayload(id, request, MediaType.APPLICATION_JSON, library -> {
+            BibDatabaseContext databaseContext = library.getParserResult().getDatabaseContext();
+            BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
+            List<BibEntryDTO> list = databaseContext.getDatabase().getEntries().stream()
+                                                    .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
+                                                    .map(entry -> new BibEntryDTO(entry, databaseContext.getMode(), preferences.getFieldPreferences(), entryTypesManager))
+                                                    .toList();
+            return gson.toJson(list);
+        });
     }
 
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
-    public String getClsItemJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
-        jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
-        return jabRefItemDataProvider.toJson();
+    public Response getClsItemJson(@PathParam("id") String id, @Context Request request) {
+        return getPayload(id, request, JabrefMediaType.JSON_CSL_ITEM, library -> {
+            JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
+            jabRefItemDataProvider.setData(library.getParserResult().getDatabaseContext(), new BibEntryTypesManager());
+            return jabRefItemDataProvider.toJson();
+        });
     }
 
-    private ParserResult getParserResult(String id) {
-        java.nio.file.Path library = getLibraryPath(id);
-        ParserResult parserResult;
+    /**
+     * Serves a page of the entries of the library. The entries are written one by one to the response. Thus, no serialization of the whole page is kept in memory.
+     *
+     * @param offset the number of matching entries to skip
+     * @param limit  the maximum number of entries to return
+     * @param query  an optional search query (see {@link SearchQuery}) the entries have to match
+     * @param fields an optional comma-separated list of fields to include in the BibTeX of the entries. The entry type and the citation key are always included.
+     */
+    @GET
+    @Path("entries")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntries(@PathParam("id") String id,
+                               @QueryParam("offset") @DefaultValue("0") int offset,
+                               @QueryParam("limit") @DefaultValue("100") int limit,
+                               @QueryParam("query") String query,
+                               @QueryParam("fields") String fields,
+                               @Context Request request) {
+        if ((offset < 0) || (limit < 1) || (limit > MAX_PAGE_SIZE)) {
+            throw new BadRequestException("offset must not be negative and limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        java.nio.file.Path libraryPath = getLibraryPath(id);
+        CachedLibrary library;
+        BibDatabaseContext databaseContext;
         try {
-            parserResult = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(library);
+            library = getCachedLibrary(libraryPath);
+            databaseContext = library.getParserResult().getDatabaseContext();
         } catch (IOException e) {
-            LOGGER.warn("Could not find open library file {}", library, e);
-            throw new InternalServerErrorException("Could not parse library", e);
+            LOGGER.error("Could not read library {}", libraryPath, e);
+            throw new InternalServerErrorException("Could not read library " + libraryPath, e);
+        }
+
+        EntityTag entityTag = new EntityTag(library.getVersion() + "-" + getParametersDigest(offset, limit, query, fields));
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        List<BibEntry> matchingEntries = getMatchingEntries(databaseContext, query);
+        int fromIndex = Math.min(offset, matchingEntries.size());
+        int toIndex = Math.min(fromIndex + limit, matchingEntries.size());
+        List<BibEntry> pageEntries = matchingEntries.subList(fromIndex, toIndex);
+        Set<Field> projection = fields == null ? Set.of() : Arrays.stream(fields.split(","))
+                                                                  .map(String::trim)
+                                                                  .filter(name -> !name.isEmpty())
+                                                                  .map(FieldFactory::parseField)
+                                                                  .collect(Collectors.toSet());
+        BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
+
+        StreamingOutput output = outputStream -> {
+            JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.beginObject();
+            writer.name("query").value(query);
+            writer.name("offset").value(offset);
+            writer.name("limit").value(limit);
+            writer.name("total").value(matchingEntries.size());
+            writer.name("entries").beginArray();
+            for (BibEntry entry : pageEntries) {
+                entry.getSharedBibEntryData().setSharedID(Objects.hash(entry));
+                BibEntryDTO dto = projection.isEmpty()
+                                  ? new BibEntryDTO(entry, databaseContext.getMode(), preferences.getFieldPreferences(), entryTypesManager)
+                                  : new BibEntryDTO(entry, projection, databaseContext.getMode(), preferences.getFieldPreferences(), entryTypesManager);
+                gson.toJson(dto, BibEntryDTO.class, writer);
+            }
+            writer.endArray();
+            writer.endObject();
+            writer.flush();
+        };
+        return Response.ok(output)
+                       .tag(entityTag)
+                       .build();
+    }
+
+    /**
+     * Digests the parameters of a request for entries, so that different parameters lead to different entity tags.
+     * Each string is prefixed by its length (or -1 if absent). Thus, the same values split differently between the parameters lead to different digests.
+     */
+    private static String getParametersDigest(int offset, int limit, String query, String fields) {
+        Hasher hasher = Hashing.sha256().newHasher()
+                               .putInt(offset)
+                               .putInt(limit);
+        for (String parameter : Arrays.asList(query, fields)) {
+            if (parameter == null) {
+                hasher.putInt(-1);
+            } else {
+                hasher.putInt(parameter.length()).putString(parameter, StandardCharsets.UTF_8);
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private List<BibEntry> getMatchingEntries(BibDatabaseContext databaseContext, String query) {
+        List<BibEntry> entries = databaseContext.getDatabase().getEntries();
+        if ((query == null) || query.isBlank()) {
+            return entries;
+        }
+        SearchQuery searchQuery = new SearchQuery(query);
+        if (!searchQuery.isValid()) {
+            throw new BadRequestException("Invalid search query " + query);
+        }
+        try {
+            Predicate<BibEntry> predicate = SearchQueryConversion.searchToEntryPredicate(
+                    searchQuery,
+                    databaseContext.getDatabase(),
+                    preferences.getImportFormatPreferences().bibEntryPreferences().getKeywordSeparator());
+            return entries.stream().filter(predicate).toList();
+        } catch (PatternSyntaxException e) {
+            throw new BadRequestException("Invalid regular expression in search query " + query, e);
         }
-        return parserResult;
     }
 
     @GET
     @Produces(JabrefMediaType.BIBTEX)
-    public Response getBibtex(@PathParam("id") String id) {
-        java.nio.file.Path library = getLibraryPath(id);
-        String libraryAsString;
+    public Response getBibtex(@PathParam("id") String id, @Context Request request) {
+        return getPayload(id, request, JabrefMediaType.BIBTEX, library -> Files.readString(library.getPath()));
+    }
+
+    /**
+     * Serves the payload of the given media type. The library is parsed and the payload is computed only once per version of the library file.
+     * If the client already has the current version (<code>If-None-Match</code>), "304 Not Modified" is returned without any payload.
+     */
+    private Response getPayload(String id, Request request, String mediaType, PayloadSerializer serializer) {
+        java.nio.file.Path libraryPath = getLibraryPath(id);
         try {
-            libraryAsString = Files.readString(library);
+            CachedLibrary library = getCachedLibrary(libraryPath);
+            EntityTag entityTag = new EntityTag(library.getVersion() + "-" + Integer.toHexString(mediaType.hashCode()));
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+            if (notModified != null) {
+                return notModified.build();
+            }
+            return Response.ok()
+                           .entity(library.getPayload(mediaType, serializer))
+                           .tag(entityTag)
+                           .build();
         } catch (IOException e) {
-            LOGGER.error("Could not read library {}", library, e);
-            throw new InternalServerErrorException("Could not read library " + library, e);
+            LOGGER.error("Could not read library {}", libraryPath, e);
+            throw new InternalServerErrorException("Could not read library " + libraryPath, e);
         }
-        return Response.ok()
-                .entity(libraryAsString)
-                .build();
+    }
+
+    private CachedLibrary getCachedLibrary(java.nio.file.Path libraryPath) throws IOException {
+        return libraryCache.getLibrary(libraryPath, path -> new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(path));
     }
 
     private java.nio.file.Path getLibraryPath(String id) {
-        return filesToServe.getFilesToServe()
-                          .stream()
-                          .filter(p -> (p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p)).equals(id))
-                          .findAny()
-                          .orElseThrow(NotFoundException::new);
+        return filesToServe.getFileToServe(id)
+                           .orElseThrow(NotFoundException::new);
     }
 }
@@ -14,6 +14,7 @@ import org.jabref.architecture.AllowedToUseStandardStreams;
 import org.jabref.http.dto.GlobalExceptionMapper;
 import org.jabref.http.dto.GsonFactory;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.preferences.JabRefCliPreferences;
 
@@ -105,6 +106,7 @@ public class Server {
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new GsonFactory());
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new PreferencesFactory());
         ServiceLocatorUtilities.addOneConstant(serviceLocator, filesToServe);
+        ServiceLocatorUtilities.addOneConstant(serviceLocator, new LibraryCache());
 
         try {
             final HttpServer httpServer = startServer(serviceLocator);
@@ -1,7 +1,12 @@
 package org.jabref.http.server.services;
 
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.util.io.BackupFileUtil;
 
 import jakarta.inject.Singleton;
 
@@ -9,11 +14,34 @@ import jakarta.inject.Singleton;
 public class FilesToServe {
     private List<Path> filesToServe;
 
+    /**
+     * The files to serve by their library id. The id is computed once, because computing the unique file prefix is expensive.
+     */
+    private Map<String, Path> filesToServeById = Map.of();
+
     public void setFilesToServe(List<Path> filesToServe) {
         this.filesToServe = filesToServe;
+        Map<String, Path> filesById = new LinkedHashMap<>();
+        filesToServe.forEach(path -> filesById.putIfAbsent(getLibraryId(path), path));
+        this.filesToServeById = filesById;
     }
 
     public List<Path> getFilesToServe() {
         return filesToServe;
     }
+
+    /**
+     * @return the ids of the files to serve, in the order of the files
+     */
+    public List<String> getLibraryIds() {
+        return List.copyOf(filesToServeById.keySet());
+    }
+
+    public Optional<Path> getFileToServe(String libraryId) {
+        return Optional.ofNullable(filesToServeById.get(libraryId));
+    }
+
+    public static String getLibraryId(Path path) {
+        return path.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(path);
+    }
 }
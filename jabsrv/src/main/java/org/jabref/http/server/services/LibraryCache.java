@@ -0,0 +1,96 @@
+package org.jabref.http.server.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.importer.ParserResult;
+
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the libraries served, so that a library is parsed only once as long as its file does not change.
+ * A file is considered changed if its modification time or its size changed.
+ * <p>
+ * Besides the parsed library, the serialized payloads (e.g., JSON) are kept.
+ */
+@Singleton
+public class LibraryCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+
+    private final Map<Path, CachedLibrary> libraries = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached library. In case the file changed since it was cached, a new library is returned, which is parsed on first use with the given parser.
+     */
+    public CachedLibrary getLibrary(Path library, LibraryParser parser) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(library, BasicFileAttributes.class);
+        String version = Long.toHexString(attributes.lastModifiedTime().toMillis()) + "-" + Long.toHexString(attributes.size());
+        return libraries.compute(library, (path, cachedLibrary) -> {
+            if ((cachedLibrary != null) && cachedLibrary.getVersion().equals(version)) {
+                return cachedLibrary;
+            }
+            return new CachedLibrary(path, version, parser);
+        });
+    }
+
+    @FunctionalInterface
+    public interface LibraryParser {
+        ParserResult parse(Path library) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface PayloadSerializer {
+        String serialize(CachedLibrary library) throws IOException;
+    }
+
+    public static class CachedLibrary {
+        private final Path path;
+        private final String version;
+        private final LibraryParser parser;
+        private final Map<String, String> payloads = new ConcurrentHashMap<>();
+        private ParserResult parserResult;
+
+        private CachedLibrary(Path path, String version, LibraryParser parser) {
+            this.path = path;
+            this.version = version;
+            this.parser = parser;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        /**
+         * Identifies the state of the file the library is read from. Can be used as (part of) an entity tag.
+         */
+        public String getVersion() {
+            return version;
+        }
+
+        public synchronized ParserResult getParserResult() throws IOException {
+            if (parserResult == null) {
+                LOGGER.debug("Parsing library {} (version {})", path, version);
+                parserResult = parser.parse(path);
+            }
+            return parserResult;
+        }
+
+        /**
+         * Returns the payload of the given kind (e.g., a media type). The payload is computed only once for a version of the library.
+         */
+        public String getPayload(String kind, PayloadSerializer serializer) throws IOException {
+            String payload = payloads.get(kind);
+            if (payload == null) {
+                payload = serializer.serialize(this);
+                payloads.putIfAbsent(kind, payload);
+            }
+            return payload;
+        }
+    }
+}
@@ -2,11 +2,20 @@ package org.jabref.http.server;
 
 import org.jabref.http.JabrefMediaType;
 
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LibraryResourceTest extends ServerTest {
 
@@ -14,8 +23,10 @@ class LibraryResourceTest extends ServerTest {
     protected Application configure() {
         ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class, LibrariesResource.class);
         addFilesToServeToResourceConfig(resourceConfig);
+        addLibraryCacheToResourceConfig(resourceConfig);
         addPreferencesToResourceConfig(resourceConfig);
         addGsonToResourceConfig(resourceConfig);
+        addGlobalExceptionMapperToResourceConfig(resourceConfig);
         return resourceConfig.getApplication();
     }
 
@@ -37,4 +48,87 @@ class LibraryResourceTest extends ServerTest {
         assertEquals("""
                 [{"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
     }
+
+    @Test
+    void getClsItemJsonWithMatchingEntityTagReturnsNotModified() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get();
+        EntityTag entityTag = response.getEntityTag();
+        assertNotNull(entityTag);
+
+        Response secondResponse = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id)
+                .request(JabrefMediaType.JSON_CSL_ITEM)
+                .header(HttpHeaders.IF_NONE_MATCH, entityTag.toString())
+                .get();
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), secondResponse.getStatus());
+    }
+
+    @Test
+    void getEntriesWithQueryAndFields() {
+        String response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("query", "title = demo")
+                .queryParam("fields", "title")
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class);
+        JsonObject page = JsonParser.parseString(response).getAsJsonObject();
+
+        assertEquals(1, page.get("total").getAsInt());
+        String bibtex = page.getAsJsonArray("entries").get(0).getAsJsonObject().get("bibtex").getAsString();
+        assertTrue(bibtex.contains("Demo Title"));
+        assertFalse(bibtex.contains("2023"));
+    }
+
+    @Test
+    void getEntriesWithNonMatchingQuery() {
+        String response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("query", "title = other")
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class);
+        JsonObject page = JsonParser.parseString(response).getAsJsonObject();
+
+        assertEquals(0, page.get("total").getAsInt());
+        assertEquals(0, page.getAsJsonArray("entries").size());
+    }
+
+    @Test
+    void getEntriesWithOffsetBehindLastEntry() {
+        String response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("offset", 1)
+                .queryParam("limit", 1)
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class);
+        JsonObject page = JsonParser.parseString(response).getAsJsonObject();
+
+        assertEquals(1, page.get("total").getAsInt());
+        assertEquals(1, page.get("offset").getAsInt());
+        assertEquals(1, page.get("limit").getAsInt());
+        assertEquals(0, page.getAsJsonArray("entries").size());
+    }
+
+    @Test
+    void getEntriesWithEntityTagOfOtherParametersReturnsEntries() {
+        EntityTag entityTag = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("query", "title = demo")
+                .request(MediaType.APPLICATION_JSON)
+                .get()
+                .getEntityTag();
+        assertNotNull(entityTag);
+
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("query", "title = other")
+                .request(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, entityTag.toString())
+                .get();
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void getEntriesWithTooLargeLimitIsBadRequest() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("limit", 100_000)
+                .request(MediaType.APPLICATION_JSON)
+                .get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
 }
@@ -6,6 +6,7 @@ import java.util.List;
 import org.jabref.http.dto.GlobalExceptionMapper;
 import org.jabref.http.dto.GsonFactory;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.preferences.CliPreferences;
@@ -60,6 +61,15 @@ abstract class ServerTest extends JerseyTest {
         });
     }
 
+    protected void addLibraryCacheToResourceConfig(ResourceConfig resourceConfig) {
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(new LibraryCache()).to(LibraryCache.class);
+            }
+        });
+    }
+
     protected void addGsonToResourceConfig(ResourceConfig resourceConfig) {
         resourceConfig.register(new AbstractBinder() {
             @Override
@@ -0,0 +1,69 @@
+package org.jabref.http.server.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.importer.ParserResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LibraryCacheTest {
+
+    private final LibraryCache libraryCache = new LibraryCache();
+    private final AtomicInteger numberOfParses = new AtomicInteger();
+    private final LibraryCache.LibraryParser parser = _ -> {
+        numberOfParses.incrementAndGet();
+        return new ParserResult();
+    };
+
+    private Path library;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        library = tempDir.resolve("library.bib");
+        Files.writeString(library, "@Misc{key}");
+    }
+
+    @Test
+    void libraryIsParsedOnce() throws IOException {
+        ParserResult first = libraryCache.getLibrary(library, parser).getParserResult();
+        ParserResult second = libraryCache.getLibrary(library, parser).getParserResult();
+
+        assertSame(first, second);
+        assertEquals(1, numberOfParses.get());
+    }
+
+    @Test
+    void payloadIsSerializedOnce() throws IOException {
+        AtomicInteger numberOfSerializations = new AtomicInteger();
+        LibraryCache.PayloadSerializer serializer = _ -> "payload" + numberOfSerializations.incrementAndGet();
+
+        libraryCache.getLibrary(library, parser).getPayload("kind", serializer);
+
+        assertEquals("payload1", libraryCache.getLibrary(library, parser).getPayload("kind", serializer));
+    }
+
+    @Test
+    void modifiedLibraryIsParsedAgain() throws IOException {
+        LibraryCache.CachedLibrary first = libraryCache.getLibrary(library, parser);
+        first.getParserResult();
+
+        Files.writeString(library, "@Misc{key, title = {Title}}");
+        Files.setLastModifiedTime(library, FileTime.from(Instant.now().plusSeconds(10)));
+        LibraryCache.CachedLibrary second = libraryCache.getLibrary(library, parser);
+        second.getParserResult();
+
+        assertNotEquals(first.getVersion(), second.getVersion());
+        assertEquals(2, numberOfParses.get());
+    }
+}